@@ -0,0 +1,61 @@
+package com.github.arteam.simplejsonrpc.benchmarks;
+
+import com.github.arteam.simplejsonrpc.benchmarks.fixture.CannedByteTransport;
+import com.github.arteam.simplejsonrpc.benchmarks.fixture.CannedTransport;
+import com.github.arteam.simplejsonrpc.benchmarks.fixture.Player;
+import com.github.arteam.simplejsonrpc.benchmarks.fixture.Requests;
+import com.github.arteam.simplejsonrpc.client.JsonRpcClient;
+import com.github.arteam.simplejsonrpc.client.builder.BatchRequestBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Per-call overhead of batch requests on the client: building the batch and correlating the responses.</p>
+ * The transport returns a canned batch response from memory as a string or as bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientBatchBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int batchSize;
+
+    @Param({"text", "bytes"})
+    public String transport;
+
+    private JsonRpcClient client;
+
+    @Setup
+    public void setUp() {
+        String response = Requests.batchResponse(batchSize);
+        client = new JsonRpcClient(transport.equals("bytes") ?
+                new CannedByteTransport(response) : new CannedTransport(response));
+    }
+
+    @Benchmark
+    public Map<Integer, Player> createBatchRequest() {
+        BatchRequestBuilder<?, ?> batch = client.createBatchRequest();
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(i, "findByInitials", "Steven", "Stamkos");
+        }
+        return batch.keysType(Integer.class)
+                .returnType(Player.class)
+                .execute();
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.arteam.simplejsonrpc.benchmarks;
+
+import com.github.arteam.simplejsonrpc.benchmarks.fixture.CannedTransport;
+import com.github.arteam.simplejsonrpc.benchmarks.fixture.Player;
+import com.github.arteam.simplejsonrpc.benchmarks.fixture.Requests;
+import com.github.arteam.simplejsonrpc.benchmarks.fixture.TeamApi;
+import com.github.arteam.simplejsonrpc.client.JsonRpcClient;
+import com.github.arteam.simplejsonrpc.client.ParamsType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Per-call overhead of the client: building a request, serializing it and converting the response.</p>
+ * The transport returns canned responses from memory, so only the client side is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientRequestBenchmark {
+
+    private JsonRpcClient playerClient;
+    private JsonRpcClient notificationClient;
+    private TeamApi teamApi;
+    private TeamApi positionalTeamApi;
+
+    @Setup
+    public void setUp() {
+        playerClient = new JsonRpcClient(new CannedTransport(Requests.PLAYER_RESPONSE));
+        notificationClient = new JsonRpcClient(new CannedTransport(""));
+        teamApi = playerClient.onDemand(TeamApi.class);
+        positionalTeamApi = playerClient.onDemand(TeamApi.class, ParamsType.ARRAY);
+    }
+
+    @Benchmark
+    public Player createRequestNamed() {
+        return playerClient.createRequest()
+                .id(1L)
+                .method("findByInitials")
+                .param("firstName", "Steven")
+                .param("lastName", "Stamkos")
+                .returnAs(Player.class)
+                .execute();
+    }
+
+    @Benchmark
+    public Player createRequestPositional() {
+        return playerClient.createRequest()
+                .id(1L)
+                .method("findByInitials")
+                .params("Steven", "Stamkos")
+                .returnAs(Player.class)
+                .execute();
+    }
+
+    @Benchmark
+    public void createNotification() {
+        notificationClient.createNotification()
+                .method("updateStats")
+                .param("number", 91)
+                .param("goals", 2)
+                .execute();
+    }
+
+    @Benchmark
+    public Player onDemand() {
+        return teamApi.findByInitials("Steven", "Stamkos");
+    }
+
+    @Benchmark
+    public Player onDemandPositional() {
+        return positionalTeamApi.findByInitials("Steven", "Stamkos");
+    }
+}
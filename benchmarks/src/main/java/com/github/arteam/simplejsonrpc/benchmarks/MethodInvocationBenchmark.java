@@ -0,0 +1,73 @@
+package com.github.arteam.simplejsonrpc.benchmarks;
+
+import com.github.arteam.simplejsonrpc.server.metadata.MethodMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Compares ways of dispatching a call to a service method.</p>
+ * <ul>
+ * <li>{@code bindToInvokeWithArguments} is the former dispatch path: the handle is bound
+ * to the service on every call and invoked through the generic {@code invokeWithArguments}</li>
+ * <li>{@code metadataInvoker} is the current path: a spread invoker with the
+ * {@code (Object, Object[])Object} type, which is built once per method</li>
+ * <li>{@code direct} is a plain Java call as a baseline</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodInvocationBenchmark {
+
+    public static class Calculator {
+
+        public int subtract(int minuend, int subtrahend) {
+            return minuend - subtrahend;
+        }
+    }
+
+    private Calculator calculator;
+    private Object[] params;
+    private MethodHandle methodHandle;
+    private MethodMetadata methodMetadata;
+
+    @Setup
+    public void setUp() throws Exception {
+        calculator = new Calculator();
+        params = new Object[]{42, 23};
+        methodHandle = MethodHandles.publicLookup().unreflect(Calculator.class.getMethod("subtract", int.class, int.class));
+        // The invoker is built by the same factory as for the methods registered in the server
+        methodMetadata = new MethodMetadata("subtract", methodHandle, Map.of());
+    }
+
+    @Benchmark
+    public Object bindToInvokeWithArguments() throws Throwable {
+        return methodHandle.bindTo(calculator).invokeWithArguments(params);
+    }
+
+    @Benchmark
+    public Object metadataInvoker() throws Throwable {
+        return methodMetadata.invoke(calculator, params);
+    }
+
+    @Benchmark
+    public int direct() {
+        return calculator.subtract((Integer) params[0], (Integer) params[1]);
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.arteam.simplejsonrpc.benchmarks;
+
+import com.github.arteam.simplejsonrpc.benchmarks.fixture.Requests;
+import com.github.arteam.simplejsonrpc.benchmarks.fixture.TeamService;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Dispatch of batch requests of different sizes through the public entry points of {@link JsonRpcServer}.</p>
+ * Batches are processed in the caller thread and consist of lookups with named and positional params.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerBatchBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    public int batchSize;
+
+    private JsonRpcServer rpcServer;
+    private String textRequest;
+    private byte[] byteRequest;
+    private ByteArrayOutputStream output;
+
+    @Setup
+    public void setUp() {
+        rpcServer = JsonRpcServer.builder()
+                .register(new TeamService())
+                .build();
+        textRequest = Requests.batch(batchSize);
+        byteRequest = textRequest.getBytes(StandardCharsets.UTF_8);
+        output = new ByteArrayOutputStream(512 * batchSize);
+    }
+
+    @Benchmark
+    public String handleString() {
+        return rpcServer.handle(textRequest);
+    }
+
+    @Benchmark
+    public byte[] handleBytes() {
+        return rpcServer.handle(byteRequest);
+    }
+
+    @Benchmark
+    public OutputStream handleStream() {
+        output.reset();
+        return rpcServer.handle(new ByteArrayInputStream(byteRequest), output);
+    }
+}
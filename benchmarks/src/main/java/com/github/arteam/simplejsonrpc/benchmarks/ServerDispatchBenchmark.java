@@ -0,0 +1,74 @@
+package com.github.arteam.simplejsonrpc.benchmarks;
+
+import com.github.arteam.simplejsonrpc.benchmarks.fixture.Requests;
+import com.github.arteam.simplejsonrpc.benchmarks.fixture.TeamService;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Dispatch of single requests through the public entry points of {@link JsonRpcServer}.</p>
+ * <ul>
+ * <li>{@code named} looks up a player by named params</li>
+ * <li>{@code positional} looks up players by positional params and returns a list</li>
+ * <li>{@code notification} invokes a void method without writing a response</li>
+ * <li>{@code error} fails with a {@code @JsonRpcError} exception with {@code @JsonRpcErrorData}</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerDispatchBenchmark {
+
+    @Param({"named", "positional", "notification", "error"})
+    public String request;
+
+    private JsonRpcServer rpcServer;
+    private String textRequest;
+    private byte[] byteRequest;
+    private ByteArrayOutputStream output;
+
+    @Setup
+    public void setUp() {
+        rpcServer = JsonRpcServer.builder()
+                .register(new TeamService())
+                .build();
+        textRequest = Requests.single(request);
+        byteRequest = textRequest.getBytes(StandardCharsets.UTF_8);
+        output = new ByteArrayOutputStream(1024);
+    }
+
+    @Benchmark
+    public String handleString() {
+        return rpcServer.handle(textRequest);
+    }
+
+    @Benchmark
+    public byte[] handleBytes() {
+        return rpcServer.handle(byteRequest);
+    }
+
+    @Benchmark
+    public OutputStream handleStream() {
+        output.reset();
+        return rpcServer.handle(new ByteArrayInputStream(byteRequest), output);
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.arteam.simplejsonrpc.benchmarks.fixture;
+
+import com.github.arteam.simplejsonrpc.client.ByteTransport;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>In-memory transport of bytes which returns the same response to every request</p>
+ */
+public class CannedByteTransport implements ByteTransport {
+
+    private final byte[] response;
+
+    /**
+     * Size of the last request, so the request serialization can't be optimized out
+     */
+    private int lastRequestLength;
+
+    public CannedByteTransport(String response) {
+        this.response = response.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] pass(byte[] request) {
+        lastRequestLength = request.length;
+        return response;
+    }
+
+    public int lastRequestLength() {
+        return lastRequestLength;
+    }
+}
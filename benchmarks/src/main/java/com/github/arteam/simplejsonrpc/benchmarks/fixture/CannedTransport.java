@@ -0,0 +1,30 @@
+package com.github.arteam.simplejsonrpc.benchmarks.fixture;
+
+import com.github.arteam.simplejsonrpc.client.Transport;
+
+/**
+ * <p>In-memory transport which returns the same response to every request</p>
+ */
+public class CannedTransport implements Transport {
+
+    private final String response;
+
+    /**
+     * Size of the last request, so the request serialization can't be optimized out
+     */
+    private int lastRequestLength;
+
+    public CannedTransport(String response) {
+        this.response = response;
+    }
+
+    @Override
+    public String pass(String request) {
+        lastRequestLength = request.length();
+        return response;
+    }
+
+    public int lastRequestLength() {
+        return lastRequestLength;
+    }
+}
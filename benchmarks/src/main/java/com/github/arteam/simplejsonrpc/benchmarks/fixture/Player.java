@@ -0,0 +1,7 @@
+package com.github.arteam.simplejsonrpc.benchmarks.fixture;
+
+public record Player(String firstName, String lastName,
+                     Team team, int number,
+                     Position position, String birthDate,
+                     double capHit) {
+}
@@ -0,0 +1,5 @@
+package com.github.arteam.simplejsonrpc.benchmarks.fixture;
+
+public enum Position {
+    GOALTENDER, DEFENDER, CENTER, LEFT_WINGER, RIGHT_WINGER
+}
@@ -0,0 +1,75 @@
+package com.github.arteam.simplejsonrpc.benchmarks.fixture;
+
+import java.util.StringJoiner;
+
+/**
+ * <p>JSON-RPC requests to the {@link TeamService}</p>
+ */
+public final class Requests {
+
+    public static final String NAMED = "{\"jsonrpc\":\"2.0\",\"method\":\"findByInitials\"," +
+            "\"params\":{\"firstName\":\"Steven\",\"lastName\":\"Stamkos\"},\"id\":1}";
+
+    public static final String POSITIONAL = "{\"jsonrpc\":\"2.0\",\"method\":\"find\"," +
+            "\"params\":[\"CENTER\",91],\"id\":2}";
+
+    public static final String NOTIFICATION = "{\"jsonrpc\":\"2.0\",\"method\":\"updateStats\"," +
+            "\"params\":{\"number\":91,\"goals\":2}}";
+
+    public static final String ERROR = "{\"jsonrpc\":\"2.0\",\"method\":\"login\"," +
+            "\"params\":{\"login\":\"stamkos\",\"password\":\"secret\"},\"id\":3}";
+
+    /**
+     * Response to the {@link #NAMED} request
+     */
+    public static final String PLAYER_RESPONSE = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{" +
+            "\"firstName\":\"Steven\",\"lastName\":\"Stamkos\"," +
+            "\"team\":{\"name\":\"Tampa Bay Lightning\",\"league\":\"NHL\"},\"number\":91," +
+            "\"position\":\"CENTER\",\"birthDate\":\"1990-02-07\",\"capHit\":7.5}}";
+
+    private Requests() {
+    }
+
+    /**
+     * @param kind one of {@code named}, {@code positional}, {@code notification} or {@code error}
+     * @return single request of the provided kind
+     */
+    public static String single(String kind) {
+        return switch (kind) {
+            case "named" -> NAMED;
+            case "positional" -> POSITIONAL;
+            case "notification" -> NOTIFICATION;
+            case "error" -> ERROR;
+            default -> throw new IllegalArgumentException("Unknown request kind: " + kind);
+        };
+    }
+
+    /**
+     * @param size amount of elements
+     * @return batch of lookups with named and positional params with sequential ids
+     */
+    public static String batch(int size) {
+        StringJoiner batch = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < size; i++) {
+            if (i % 2 == 0) {
+                batch.add("{\"jsonrpc\":\"2.0\",\"method\":\"findByInitials\"," +
+                        "\"params\":{\"firstName\":\"Steven\",\"lastName\":\"Stamkos\"},\"id\":" + i + "}");
+            } else {
+                batch.add("{\"jsonrpc\":\"2.0\",\"method\":\"find\",\"params\":[\"CENTER\",91],\"id\":" + i + "}");
+            }
+        }
+        return batch.toString();
+    }
+
+    /**
+     * @param size amount of elements
+     * @return batch of responses with players to requests with ids from 0 to {@code size - 1}
+     */
+    public static String batchResponse(int size) {
+        StringJoiner batch = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < size; i++) {
+            batch.add(PLAYER_RESPONSE.replace("\"id\":1,", "\"id\":" + i + ","));
+        }
+        return batch.toString();
+    }
+}
@@ -0,0 +1,4 @@
+package com.github.arteam.simplejsonrpc.benchmarks.fixture;
+
+public record Team(String name, String league) {
+}
@@ -0,0 +1,16 @@
+package com.github.arteam.simplejsonrpc.benchmarks.fixture;
+
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+
+/**
+ * <p>Client interface of the {@link TeamService}</p>
+ */
+@JsonRpcService
+public interface TeamApi {
+
+    @JsonRpcMethod
+    Player findByInitials(@JsonRpcParam("firstName") String firstName,
+                          @JsonRpcParam("lastName") String lastName);
+}
@@ -0,0 +1,67 @@
+package com.github.arteam.simplejsonrpc.benchmarks.fixture;
+
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcOptional;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Service used as a benchmark fixture.</p>
+ * A trimmed down version of the team service from the server tests: lookups with
+ * named and positional params, a method for notifications and a method which always fails
+ * with an error carrying data.
+ */
+@JsonRpcService
+public class TeamService {
+
+    private final Team stLouis = new Team("St. Louis Blues", "NHL");
+    private final Team tampa = new Team("Tampa Bay Lightning", "NHL");
+    private final List<Player> players = List.of(
+            new Player("David", "Backes", stLouis, 42, Position.CENTER, "1984-05-01", 4.5),
+            new Player("Vladimir", "Tarasenko", stLouis, 91, Position.RIGHT_WINGER, "1991-12-13", 0.9),
+            new Player("Jay", "Bouwmeester", stLouis, 19, Position.DEFENDER, "1985-08-07", 5.4),
+            new Player("Steven", "Stamkos", tampa, 91, Position.CENTER, "1990-02-07", 7.5),
+            new Player("Ben", "Bishop", tampa, 30, Position.GOALTENDER, "1986-11-21", 2.3),
+            new Player("Victor", "Hedman", tampa, 77, Position.DEFENDER, "1990-12-18", 4.0));
+
+    private final LongAdder updates = new LongAdder();
+
+    @JsonRpcMethod
+    @Nullable
+    public Player findByInitials(@JsonRpcParam("firstName") String firstName,
+                                 @JsonRpcParam("lastName") String lastName) {
+        for (Player player : players) {
+            if (player.firstName().equals(firstName) && player.lastName().equals(lastName)) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    @JsonRpcMethod
+    public List<Player> find(@JsonRpcOptional @JsonRpcParam("position") @Nullable Position position,
+                             @JsonRpcOptional @JsonRpcParam("number") int number) {
+        List<Player> found = new ArrayList<>();
+        for (Player player : players) {
+            if ((position == null || player.position() == position) && (number == 0 || player.number() == number)) {
+                found.add(player);
+            }
+        }
+        return found;
+    }
+
+    @JsonRpcMethod
+    public void updateStats(@JsonRpcParam("number") int number, @JsonRpcParam("goals") int goals) {
+        updates.increment();
+    }
+
+    @JsonRpcMethod
+    public long login(@JsonRpcParam("login") String login, @JsonRpcParam("password") String password) {
+        throw new TeamServiceAuthException("Not authorized", "Unknown login: " + login, "Password expired");
+    }
+}
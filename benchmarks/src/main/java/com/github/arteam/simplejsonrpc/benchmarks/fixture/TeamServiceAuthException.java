@@ -0,0 +1,16 @@
+package com.github.arteam.simplejsonrpc.benchmarks.fixture;
+
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcError;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcErrorData;
+
+@JsonRpcError(code = -32032, message = "You are not authorized to the team service")
+public class TeamServiceAuthException extends RuntimeException {
+
+    @JsonRpcErrorData
+    private final String[] reasons;
+
+    public TeamServiceAuthException(String message, String... reasons) {
+        super(message);
+        this.reasons = reasons;
+    }
+}
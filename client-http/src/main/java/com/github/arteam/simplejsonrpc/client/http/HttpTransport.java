@@ -0,0 +1,140 @@
+package com.github.arteam.simplejsonrpc.client.http;
+
+import com.github.arteam.simplejsonrpc.client.AsyncTransport;
+import com.github.arteam.simplejsonrpc.client.ByteTransport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * <p>Client transport over HTTP based on {@link HttpClient}.</p>
+ * <p>Requests are POSTed as {@code application/json}. The HTTP client reuses connections and multiplexes
+ * concurrent requests over a single connection, if the server supports HTTP/2. Bodies are sent and received
+ * as bytes, gzip-compressed responses are decompressed.</p>
+ * <pre>{@code
+ * HttpTransport transport = HttpTransport.builder(URI.create("https://example.com/rpc"))
+ *         .requestTimeout(Duration.ofSeconds(5))
+ *         .build();
+ * JsonRpcClient client = new JsonRpcClient(transport);
+ * }</pre>
+ */
+public class HttpTransport implements AsyncTransport, ByteTransport {
+
+    private static final String CONTENT_TYPE = "application/json";
+    private static final byte[] EMPTY = new byte[0];
+
+    private final HttpClient httpClient;
+    private final URI uri;
+    private final Duration requestTimeout;
+    private final boolean gzip;
+    private final Map<String, String> headers;
+
+    HttpTransport(HttpTransportBuilder builder) {
+        this.httpClient = builder.httpClient != null ? builder.httpClient : HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(builder.connectTimeout)
+                .build();
+        this.uri = builder.uri;
+        this.requestTimeout = builder.requestTimeout;
+        this.gzip = builder.gzip;
+        this.headers = Map.copyOf(builder.headers);
+    }
+
+    /**
+     * Creates a builder of a transport to a JSON-RPC endpoint
+     *
+     * @param uri URI of the endpoint
+     * @return a new builder
+     */
+    public static HttpTransportBuilder builder(URI uri) {
+        return new HttpTransportBuilder(uri);
+    }
+
+    @Override
+    public CompletableFuture<String> passAsync(String request) {
+        return passAsync(request.getBytes(StandardCharsets.UTF_8))
+                .thenApply(response -> new String(response, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String pass(String request) throws IOException {
+        return new String(pass(request.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] pass(byte[] request) throws IOException {
+        try {
+            return body(httpClient.send(httpRequest(request), HttpResponse.BodyHandlers.ofByteArray()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a response");
+        }
+    }
+
+    /**
+     * Sends a request in UTF-8 without blocking the caller thread
+     *
+     * @param request JSON-RPC request
+     * @return future of the response in UTF-8, empty if the server has nothing to send
+     */
+    @Override
+    public CompletableFuture<byte[]> passAsync(byte[] request) {
+        return httpClient.sendAsync(httpRequest(request), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    try {
+                        return body(response);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
+    private HttpRequest httpRequest(byte[] request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(request))
+                .header("Content-Type", CONTENT_TYPE)
+                .header("Accept", CONTENT_TYPE);
+        if (gzip) {
+            builder.header("Accept-Encoding", "gzip");
+        }
+        if (!requestTimeout.isZero()) {
+            builder.timeout(requestTimeout);
+        }
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+
+    /**
+     * Checks the status of a response and decompresses its body
+     */
+    private static byte[] body(HttpResponse<byte[]> response) throws IOException {
+        int status = response.statusCode();
+        if (status == 204) {
+            return EMPTY;
+        }
+        if (status < 200 || status >= 300) {
+            throw new IOException("Unexpected HTTP status " + status + " from " + response.uri());
+        }
+        byte[] body = response.body();
+        boolean gzipped = response.headers().firstValue("Content-Encoding")
+                .filter(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .isPresent();
+        if (!gzipped || body.length == 0) {
+            return body;
+        }
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return input.readAllBytes();
+        }
+    }
+}
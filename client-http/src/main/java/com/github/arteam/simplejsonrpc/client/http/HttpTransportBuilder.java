@@ -0,0 +1,102 @@
+package com.github.arteam.simplejsonrpc.client.http;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>Builder of an {@link HttpTransport}</p>
+ */
+public class HttpTransportBuilder {
+
+    final URI uri;
+
+    @Nullable
+    HttpClient httpClient;
+
+    Duration connectTimeout = Duration.ofSeconds(10);
+
+    Duration requestTimeout = Duration.ofSeconds(30);
+
+    boolean gzip = true;
+
+    final Map<String, String> headers = new LinkedHashMap<>();
+
+    HttpTransportBuilder(URI uri) {
+        this.uri = uri;
+    }
+
+    /**
+     * Sets an HTTP client which sends the requests, e.g. with a custom executor, SSL context or proxy.
+     * By default, it's a client which prefers HTTP/2. The connect timeout isn't applied to a user-defined client.
+     *
+     * @param httpClient HTTP client
+     * @return the current builder
+     */
+    public HttpTransportBuilder httpClient(HttpClient httpClient) {
+        this.httpClient = httpClient;
+        return this;
+    }
+
+    /**
+     * Sets the timeout of establishing a connection. By default, it's 10 seconds.
+     *
+     * @param connectTimeout connect timeout
+     * @return the current builder
+     */
+    public HttpTransportBuilder connectTimeout(Duration connectTimeout) {
+        if (connectTimeout.isNegative() || connectTimeout.isZero()) {
+            throw new IllegalArgumentException("Connect timeout should be positive");
+        }
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    /**
+     * Sets the time a response is waited for. By default, it's 30 seconds, zero means no timeout.
+     *
+     * @param requestTimeout request timeout
+     * @return the current builder
+     */
+    public HttpTransportBuilder requestTimeout(Duration requestTimeout) {
+        if (requestTimeout.isNegative()) {
+            throw new IllegalArgumentException("Request timeout should not be negative");
+        }
+        this.requestTimeout = requestTimeout;
+        return this;
+    }
+
+    /**
+     * Sets whether gzip-compressed responses are accepted. By default, they are.
+     *
+     * @param gzip whether to send {@code Accept-Encoding: gzip}
+     * @return the current builder
+     */
+    public HttpTransportBuilder gzip(boolean gzip) {
+        this.gzip = gzip;
+        return this;
+    }
+
+    /**
+     * Adds a header to every request, e.g. {@code Authorization}
+     *
+     * @param name  header name
+     * @param value header value
+     * @return the current builder
+     */
+    public HttpTransportBuilder header(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    /**
+     * @return a new transport
+     */
+    public HttpTransport build() {
+        return new HttpTransport(this);
+    }
+}
@@ -0,0 +1,216 @@
+package com.github.arteam.simplejsonrpc.client.http;
+
+import com.github.arteam.simplejsonrpc.client.JsonRpcClient;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests the HTTP transport against a local HTTP server
+ */
+public class HttpTransportTest {
+
+    private final EchoService echoService = new EchoService();
+    private final JsonRpcServer rpcServer = JsonRpcServer.builder().register(echoService).build();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    /**
+     * Headers of the last request by name
+     */
+    private final Map<String, String> requestHeaders = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private URI uri;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/rpc", this::handle);
+        server.createContext("/error", exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.setExecutor(executor);
+        server.start();
+        uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/rpc");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        echoService.release.countDown();
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        exchange.getRequestHeaders().forEach((name, values) -> requestHeaders.put(name.toLowerCase(), values.get(0)));
+        byte[] response = rpcServer.handle(exchange.getRequestBody().readAllBytes());
+        if (response.length == 0) {
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+            return;
+        }
+        if ("gzip".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+                output.write(response);
+            }
+            response = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(response);
+        }
+    }
+
+    @Test
+    public void testRequest() {
+        JsonRpcClient client = new JsonRpcClient(HttpTransport.builder(uri).build());
+
+        assertThat(client.onDemand(Echo.class).echo("Łukasz Kępa")).isEqualTo("Łukasz Kępa");
+        assertThat(requestHeaders).containsEntry("content-type", "application/json")
+                .containsEntry("accept-encoding", "gzip");
+    }
+
+    @Test
+    public void testWithoutGzip() {
+        JsonRpcClient client = new JsonRpcClient(HttpTransport.builder(uri).gzip(false).build());
+
+        assertThat(client.onDemand(Echo.class).echo("Steven")).isEqualTo("Steven");
+        assertThat(requestHeaders).doesNotContainKey("accept-encoding");
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        Echo echo = new JsonRpcClient(HttpTransport.builder(uri).build()).onDemand(Echo.class);
+
+        List<CompletableFuture<String>> futures = List.of(echo.echoAsync("Steven"), echo.echoAsync("Stamkos"));
+
+        assertThat(futures.get(0).get(10, TimeUnit.SECONDS)).isEqualTo("Steven");
+        assertThat(futures.get(1).get(10, TimeUnit.SECONDS)).isEqualTo("Stamkos");
+    }
+
+    @Test
+    public void testNotification() {
+        JsonRpcClient client = new JsonRpcClient(HttpTransport.builder(uri).build());
+
+        client.createNotification().method("count").execute();
+        client.createNotification().method("count").executeAsync().join();
+
+        assertThat(echoService.counter.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testBatch() {
+        JsonRpcClient client = new JsonRpcClient(HttpTransport.builder(uri).build());
+
+        Map<Integer, String> responses = client.createBatchRequest()
+                .add(1, "echo", "Steven")
+                .add(2, "echo", "Stamkos")
+                .keysType(Integer.class)
+                .returnType(String.class)
+                .execute();
+
+        assertThat(responses).isEqualTo(Map.of(1, "Steven", 2, "Stamkos"));
+    }
+
+    @Test
+    public void testHeaders() {
+        JsonRpcClient client = new JsonRpcClient(HttpTransport.builder(uri)
+                .header("Authorization", "Bearer secret")
+                .build());
+
+        client.onDemand(Echo.class).echo("Steven");
+
+        assertThat(requestHeaders).containsEntry("authorization", "Bearer secret");
+    }
+
+    @Test
+    public void testTimeout() {
+        Echo echo = new JsonRpcClient(HttpTransport.builder(uri)
+                .requestTimeout(Duration.ofMillis(100))
+                .build())
+                .onDemand(Echo.class);
+
+        assertThatIllegalStateException()
+                .isThrownBy(echo::await)
+                .withCauseInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    public void testHttpError() {
+        JsonRpcClient client = new JsonRpcClient(HttpTransport.builder(uri.resolve("/error")).build());
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> client.onDemand(Echo.class).echo("Steven"))
+                .withMessage("I/O error during a request processing")
+                .havingCause()
+                .withMessageStartingWith("Unexpected HTTP status 500");
+    }
+
+    @JsonRpcService
+    public interface Echo {
+
+        @JsonRpcMethod
+        String echo(@JsonRpcParam("text") String text);
+
+        @JsonRpcMethod("echo")
+        CompletableFuture<String> echoAsync(@JsonRpcParam("text") String text);
+
+        @JsonRpcMethod
+        String await();
+    }
+
+    @JsonRpcService
+    public static class EchoService {
+
+        private final AtomicInteger counter = new AtomicInteger();
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @JsonRpcMethod
+        public String echo(@JsonRpcParam("text") String text) {
+            return text;
+        }
+
+        @JsonRpcMethod
+        public int count() {
+            return counter.incrementAndGet();
+        }
+
+        @JsonRpcMethod
+        public String await() throws InterruptedException {
+            release.await(10, TimeUnit.SECONDS);
+            return "released";
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.arteam.simplejsonrpc.client.tcp;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Fixed amount of pipelined connections to the same server.</p>
+ * <p>Requests are distributed between the connections in round-robin. A connection is checked before a request
+ * is sent over it: a connection which has been closed by the server, failed or retired after a timeout is replaced
+ * by a new one.</p>
+ * <p>Every slot of the pool has its own lock, and connections are opened outside of it. Callers of a slot which
+ * is being reconnected wait for the same connection. Blocking callers open connections in their threads,
+ * asynchronous callers get them from daemon threads of the pool.</p>
+ */
+class ConnectionPool {
+
+    private final InetSocketAddress address;
+    private final int connectTimeoutMillis;
+    private final Framing framing;
+    private final int maxFrameLength;
+    private final JsonFactory factory;
+
+    private final Slot[] slots;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Amount of opened connections, including replaced ones
+     */
+    private final AtomicInteger opened = new AtomicInteger();
+
+    /**
+     * Opens connections for asynchronous callers
+     */
+    private final ExecutorService connector;
+
+    private volatile boolean closed;
+
+    ConnectionPool(InetSocketAddress address, int size, int connectTimeoutMillis, Framing framing,
+                   int maxFrameLength, JsonFactory factory) {
+        this.address = address;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.framing = framing;
+        this.maxFrameLength = maxFrameLength;
+        this.factory = factory;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.connector = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "json-rpc-tcp-connector-" + address.getPort());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns a healthy connection, opening a new one in the caller thread if necessary
+     */
+    PipelinedConnection acquire() throws IOException {
+        CompletableFuture<PipelinedConnection> connection = acquire(Runnable::run);
+        try {
+            return connection.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns a future of a healthy connection without blocking. A new connection is opened by the pool.
+     */
+    CompletableFuture<PipelinedConnection> acquireAsync() {
+        return acquire(connector);
+    }
+
+    private CompletableFuture<PipelinedConnection> acquire(Executor opener) {
+        Slot slot = slots[Math.floorMod(next.getAndIncrement(), slots.length)];
+        CompletableFuture<PipelinedConnection> opening;
+        synchronized (slot) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IOException("Transport is closed"));
+            }
+            if (slot.connection != null && slot.connection.isUsable()) {
+                return CompletableFuture.completedFuture(slot.connection);
+            }
+            if (slot.opening != null) {
+                return slot.opening;
+            }
+            opening = new CompletableFuture<>();
+            slot.opening = opening;
+        }
+        try {
+            opener.execute(() -> open(slot, opening));
+        } catch (RejectedExecutionException e) {
+            // The pool has been closed concurrently
+            synchronized (slot) {
+                slot.opening = null;
+            }
+            opening.completeExceptionally(new IOException("Transport is closed"));
+        }
+        return opening;
+    }
+
+    private void open(Slot slot, CompletableFuture<PipelinedConnection> opening) {
+        PipelinedConnection connection = null;
+        IOException error = null;
+        try {
+            connection = PipelinedConnection.open(address, connectTimeoutMillis, framing, maxFrameLength, factory);
+            opened.incrementAndGet();
+        } catch (IOException e) {
+            error = e;
+        }
+        synchronized (slot) {
+            slot.opening = null;
+            if (connection != null && !closed) {
+                slot.connection = connection;
+            }
+        }
+        if (connection == null) {
+            opening.completeExceptionally(error);
+        } else if (closed) {
+            // The pool has been closed while connecting
+            connection.close(null);
+            opening.completeExceptionally(new IOException("Transport is closed"));
+        } else {
+            opening.complete(connection);
+        }
+    }
+
+    int opened() {
+        return opened.get();
+    }
+
+    /**
+     * Closes all the connections and fails the requests in flight
+     */
+    void close() {
+        closed = true;
+        for (Slot slot : slots) {
+            PipelinedConnection connection;
+            synchronized (slot) {
+                connection = slot.connection;
+                slot.connection = null;
+            }
+            if (connection != null) {
+                connection.close(null);
+            }
+        }
+        connector.shutdown();
+    }
+
+    /**
+     * Connection of a slot and the connection which is being opened instead of it
+     */
+    private static class Slot {
+
+        @Nullable
+        private PipelinedConnection connection;
+
+        @Nullable
+        private CompletableFuture<PipelinedConnection> opening;
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.arteam.simplejsonrpc.client.tcp;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Extracts ids from JSON-RPC messages without building trees of them.</p>
+ * <p>Ids are represented as strings which differ for numbers and texts, so {@code 1} and {@code "1"}
+ * don't match.</p>
+ */
+class MessageIds {
+
+    private static final String ID = "id";
+
+    private MessageIds() {
+    }
+
+    /**
+     * Returns the ids of a request or the ids of requests in a batch request
+     *
+     * @return the ids, empty for a notification, which isn't answered
+     */
+    static List<String> requestIds(JsonFactory factory, byte[] request) throws IOException {
+        return ids(factory, request);
+    }
+
+    /**
+     * Returns the ids of a response or the ids of responses in a batch response
+     */
+    static List<String> responseIds(JsonFactory factory, byte[] response) throws IOException {
+        return ids(factory, response);
+    }
+
+    private static List<String> ids(JsonFactory factory, byte[] message) throws IOException {
+        List<String> ids = new ArrayList<>(1);
+        try (JsonParser parser = factory.createParser(message)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                addId(ids, objectId(parser));
+            } else if (token == JsonToken.START_ARRAY) {
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                    if (token == JsonToken.START_OBJECT) {
+                        addId(ids, objectId(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void addId(List<String> ids, @Nullable String id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+
+    /**
+     * Reads an object up to its end and returns its id
+     */
+    @Nullable
+    private static String objectId(JsonParser parser) throws IOException {
+        String id = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (ID.equals(name)) {
+                if (value == JsonToken.VALUE_STRING) {
+                    id = "\"" + parser.getText();
+                } else if (value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_NUMBER_FLOAT) {
+                    id = parser.getText();
+                }
+            }
+            parser.skipChildren();
+        }
+        return id;
+    }
+}
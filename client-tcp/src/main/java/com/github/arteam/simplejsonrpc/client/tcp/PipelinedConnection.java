@@ -0,0 +1,274 @@
+package com.github.arteam.simplejsonrpc.client.tcp;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>TCP connection which carries many requests at once.</p>
+ * <p>Requests are written one after another without waiting for responses. A reader thread matches
+ * the responses to the requests in flight by ids, so they can come in any order.</p>
+ */
+class PipelinedConnection {
+
+    private static final Logger log = LoggerFactory.getLogger(PipelinedConnection.class);
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Socket socket;
+    private final OutputStream output;
+    private final DataInputStream input;
+    private final Framing framing;
+    private final int maxFrameLength;
+    private final JsonFactory factory;
+
+    /**
+     * Responses which are waited for by request ids. All the ids of a batch request share its response.
+     */
+    private final Map<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    private volatile boolean closed;
+
+    /**
+     * Whether new requests shouldn't be sent over the connection
+     */
+    private volatile boolean retired;
+
+    private PipelinedConnection(Socket socket, Framing framing, int maxFrameLength,
+                                JsonFactory factory) throws IOException {
+        this.socket = socket;
+        this.output = new BufferedOutputStream(socket.getOutputStream());
+        this.input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.framing = framing;
+        this.maxFrameLength = maxFrameLength;
+        this.factory = factory;
+    }
+
+    /**
+     * Connects to a server and starts reading responses
+     */
+    static PipelinedConnection open(InetSocketAddress address, int connectTimeoutMillis, Framing framing,
+                                    int maxFrameLength, JsonFactory factory) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setKeepAlive(true);
+            socket.connect(address, connectTimeoutMillis);
+            PipelinedConnection connection = new PipelinedConnection(socket, framing, maxFrameLength, factory);
+            Thread reader = new Thread(connection::readResponses, "json-rpc-tcp-reader-" + socket.getLocalPort());
+            reader.setDaemon(true);
+            reader.start();
+            return connection;
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Sends a request
+     *
+     * @param ids     ids of the request or of the requests in a batch, empty if it's not answered
+     * @param request request in UTF-8
+     * @return future of the response. It's completed with an empty array for a notification.
+     */
+    CompletableFuture<byte[]> send(List<String> ids, byte[] request) {
+        CompletableFuture<byte[]> response = new CompletableFuture<>();
+        if (!ids.isEmpty()) {
+            for (int i = 0; i < ids.size(); i++) {
+                if (inFlight.putIfAbsent(ids.get(i), response) != null) {
+                    release(ids.subList(0, i), response);
+                    return CompletableFuture.failedFuture(
+                            new IOException("A request with id=" + ids.get(i) + " is already in flight"));
+                }
+            }
+            response.whenComplete((r, e) -> {
+                release(ids, response);
+                if (retired) {
+                    closeIfIdle();
+                }
+            });
+            // A request can't be answered if the connection has been closed concurrently
+            if (closed) {
+                response.completeExceptionally(new IOException("Connection is closed"));
+                return response;
+            }
+        }
+        try {
+            synchronized (output) {
+                writeFrame(request);
+                output.flush();
+            }
+        } catch (IOException e) {
+            response.completeExceptionally(e);
+            close(e);
+            return response;
+        }
+        if (ids.isEmpty()) {
+            response.complete(EMPTY);
+        }
+        return response;
+    }
+
+    /**
+     * Releases the ids of a request, so they can be reused
+     */
+    private void release(List<String> ids, CompletableFuture<byte[]> response) {
+        for (String id : ids) {
+            inFlight.remove(id, response);
+        }
+    }
+
+    private void writeFrame(byte[] message) throws IOException {
+        if (framing == Framing.LENGTH_PREFIXED) {
+            output.write(message.length >>> 24);
+            output.write(message.length >>> 16);
+            output.write(message.length >>> 8);
+            output.write(message.length);
+            output.write(message);
+        } else {
+            output.write(message);
+            output.write('\n');
+        }
+    }
+
+    private void readResponses() {
+        IOException cause = null;
+        try {
+            byte[] frame;
+            while ((frame = readFrame()) != null) {
+                if (frame.length > 0) {
+                    dispatch(frame);
+                }
+            }
+        } catch (IOException e) {
+            cause = e;
+        }
+        if (!closed) {
+            log.debug("Connection to {} is lost", socket.getRemoteSocketAddress(), cause);
+        }
+        close(cause);
+    }
+
+    /**
+     * Reads the next message
+     *
+     * @return the message or {@code null} if the server closed the connection
+     */
+    @Nullable
+    private byte[] readFrame() throws IOException {
+        if (framing == Framing.LENGTH_PREFIXED) {
+            int length;
+            try {
+                length = input.readInt();
+            } catch (EOFException e) {
+                return null;
+            }
+            if (length < 0 || length > maxFrameLength) {
+                throw new IOException("Frame length " + length + " is greater than " + maxFrameLength);
+            }
+            byte[] frame = new byte[length];
+            input.readFully(frame);
+            return frame;
+        }
+
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = input.read()) != '\n') {
+            if (b == -1) {
+                return null;
+            }
+            if (line.size() >= maxFrameLength) {
+                throw new IOException("Frame is longer than " + maxFrameLength + " bytes");
+            }
+            line.write(b);
+        }
+        byte[] frame = line.toByteArray();
+        int length = frame.length;
+        if (length > 0 && frame[length - 1] == '\r') {
+            return Arrays.copyOf(frame, length - 1);
+        }
+        return frame;
+    }
+
+    /**
+     * Completes the request which the response belongs to
+     */
+    private void dispatch(byte[] response) {
+        try {
+            List<String> ids = MessageIds.responseIds(factory, response);
+            for (String id : ids) {
+                CompletableFuture<byte[]> future = inFlight.get(id);
+                if (future != null) {
+                    // The ids are released before the caller is notified, so they can be reused right away.
+                    // Ids of a batch request which the server didn't answer are released on completion.
+                    release(ids, future);
+                    future.complete(response);
+                    return;
+                }
+            }
+            // E.g. a response to a timed out request
+            log.debug("Response from {} doesn't match requests in flight: {}", socket.getRemoteSocketAddress(),
+                    new String(response, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("Unable to parse a response from {}", socket.getRemoteSocketAddress(), e);
+        }
+    }
+
+    /**
+     * Stops sending new requests over the connection and closes it when the requests in flight are answered
+     */
+    void retire() {
+        retired = true;
+        closeIfIdle();
+    }
+
+    private void closeIfIdle() {
+        if (inFlight.isEmpty()) {
+            close(null);
+        }
+    }
+
+    /**
+     * Closes the socket and fails the requests in flight
+     */
+    void close(@Nullable Throwable cause) {
+        closed = true;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            log.debug("Unable to close a connection", e);
+        }
+        Iterator<CompletableFuture<byte[]>> iterator = inFlight.values().iterator();
+        while (iterator.hasNext()) {
+            CompletableFuture<byte[]> future = iterator.next();
+            iterator.remove();
+            future.completeExceptionally(new IOException("Connection is closed", cause));
+        }
+    }
+
+    /**
+     * @return whether new requests can be sent over the connection
+     */
+    boolean isUsable() {
+        return !closed && !retired;
+    }
+}
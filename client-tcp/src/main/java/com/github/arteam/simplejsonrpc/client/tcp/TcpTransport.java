@@ -0,0 +1,148 @@
+package com.github.arteam.simplejsonrpc.client.tcp;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.github.arteam.simplejsonrpc.client.AsyncTransport;
+import com.github.arteam.simplejsonrpc.client.ByteTransport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <p>Client transport over persistent TCP connections.</p>
+ * <p>Requests are pipelined: a connection carries many requests at once, and the responses are matched to
+ * the requests by ids in any order. So a few connections are shared by all the callers. Ids of requests
+ * in flight should be unique, which is the case for the default id generators.</p>
+ * <p>Notifications are completed with an empty response as soon as they are written.</p>
+ * <pre>{@code
+ * TcpTransport transport = TcpTransport.builder(new InetSocketAddress("localhost", 9090))
+ *         .framing(Framing.LENGTH_PREFIXED)
+ *         .build();
+ * JsonRpcClient client = new JsonRpcClient(transport);
+ * }</pre>
+ */
+public class TcpTransport implements AsyncTransport, ByteTransport, Closeable {
+
+    private final ConnectionPool pool;
+    private final JsonFactory factory = new JsonFactory();
+    private final Duration requestTimeout;
+
+    TcpTransport(TcpTransportBuilder builder) {
+        this.pool = new ConnectionPool(builder.address, builder.connections, (int) builder.connectTimeout.toMillis(),
+                builder.framing, builder.maxFrameLength, factory);
+        this.requestTimeout = builder.requestTimeout;
+    }
+
+    /**
+     * Creates a builder of a transport to a server
+     *
+     * @param address address of the server
+     * @return a new builder
+     */
+    public static TcpTransportBuilder builder(InetSocketAddress address) {
+        return new TcpTransportBuilder(address);
+    }
+
+    /**
+     * Creates a builder of a transport to a server
+     *
+     * @param host host of the server
+     * @param port port of the server
+     * @return a new builder
+     */
+    public static TcpTransportBuilder builder(String host, int port) {
+        return builder(new InetSocketAddress(host, port));
+    }
+
+    @Override
+    public CompletableFuture<String> passAsync(String request) {
+        return passAsync(request.getBytes(StandardCharsets.UTF_8))
+                .thenApply(response -> new String(response, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String pass(String request) throws IOException {
+        return new String(pass(request.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] pass(byte[] request) throws IOException {
+        List<String> ids = MessageIds.requestIds(factory, request);
+        CompletableFuture<byte[]> future = send(pool.acquire(), ids, request);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Sends a request in UTF-8 over one of the connections. A connection which should be opened
+     * for it is opened in the background.
+     *
+     * @param request JSON-RPC request
+     * @return future of the response in UTF-8, empty for a notification
+     */
+    @Override
+    public CompletableFuture<byte[]> passAsync(byte[] request) {
+        List<String> ids;
+        try {
+            ids = MessageIds.requestIds(factory, request);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return pool.acquireAsync().thenCompose(connection -> send(connection, ids, request));
+    }
+
+    private CompletableFuture<byte[]> send(PipelinedConnection connection, List<String> ids, byte[] request) {
+        CompletableFuture<byte[]> response = connection.send(ids, request);
+        if (ids.isEmpty() || requestTimeout.isZero() || response.isDone()) {
+            return response;
+        }
+        return response
+                .orTimeout(requestTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                .exceptionallyCompose(e -> {
+                    if (e instanceof TimeoutException) {
+                        // The server may be stuck, so the connection is replaced
+                        connection.retire();
+                        return CompletableFuture.failedFuture(
+                                new SocketTimeoutException("No response in " + requestTimeout.toMillis() + " ms"));
+                    }
+                    return response;
+                });
+    }
+
+    // Visible for tests
+    int openedConnections() {
+        return pool.opened();
+    }
+
+    /**
+     * Closes the connections. Requests in flight are failed.
+     */
+    @Override
+    public void close() {
+        pool.close();
+    }
+}
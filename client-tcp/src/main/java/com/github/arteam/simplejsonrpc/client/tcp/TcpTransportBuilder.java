@@ -0,0 +1,107 @@
+package com.github.arteam.simplejsonrpc.client.tcp;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+/**
+ * <p>Builder of a {@link TcpTransport}</p>
+ */
+public class TcpTransportBuilder {
+
+    static final int DEFAULT_MAX_FRAME_LENGTH = 16 * 1024 * 1024;
+
+    final InetSocketAddress address;
+
+    Framing framing = Framing.NEWLINE;
+
+    int connections = 2;
+
+    Duration connectTimeout = Duration.ofSeconds(10);
+
+    Duration requestTimeout = Duration.ofSeconds(30);
+
+    int maxFrameLength = DEFAULT_MAX_FRAME_LENGTH;
+
+    TcpTransportBuilder(InetSocketAddress address) {
+        this.address = address;
+    }
+
+    /**
+     * Sets how requests and responses are delimited. By default, they are terminated by new lines.
+     * It should match the framing of the server.
+     *
+     * @param framing framing of messages
+     * @return the current builder
+     */
+    public TcpTransportBuilder framing(Framing framing) {
+        this.framing = framing;
+        return this;
+    }
+
+    /**
+     * Sets the number of connections to the server. Requests are distributed between them in round-robin,
+     * and every connection carries many requests at once. By default, it's 2.
+     *
+     * @param connections number of connections
+     * @return the current builder
+     */
+    public TcpTransportBuilder connections(int connections) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("Number of connections should be positive");
+        }
+        this.connections = connections;
+        return this;
+    }
+
+    /**
+     * Sets the timeout of establishing a connection. By default, it's 10 seconds.
+     *
+     * @param connectTimeout connect timeout
+     * @return the current builder
+     */
+    public TcpTransportBuilder connectTimeout(Duration connectTimeout) {
+        if (connectTimeout.isNegative() || connectTimeout.toMillis() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Connect timeout should be between 0 and " + Integer.MAX_VALUE + " ms");
+        }
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    /**
+     * Sets the time a response is waited for. The connection of a request which is timed out doesn't get
+     * new requests and is closed after the requests in flight are answered. By default, it's 30 seconds,
+     * zero means no timeout.
+     *
+     * @param requestTimeout request timeout
+     * @return the current builder
+     */
+    public TcpTransportBuilder requestTimeout(Duration requestTimeout) {
+        if (requestTimeout.isNegative()) {
+            throw new IllegalArgumentException("Request timeout should not be negative");
+        }
+        this.requestTimeout = requestTimeout;
+        return this;
+    }
+
+    /**
+     * Sets the maximum length of a response in bytes. A connection which receives
+     * a longer response is closed. By default, it's 16 MiB.
+     *
+     * @param maxFrameLength maximum length of a response
+     * @return the current builder
+     */
+    public TcpTransportBuilder maxFrameLength(int maxFrameLength) {
+        if (maxFrameLength < 1) {
+            throw new IllegalArgumentException("Maximum frame length should be positive");
+        }
+        this.maxFrameLength = maxFrameLength;
+        return this;
+    }
+
+    /**
+     * @return a new transport. Connections are opened on the first requests.
+     */
+    public TcpTransport build() {
+        return new TcpTransport(this);
+    }
+}
@@ -0,0 +1,299 @@
+package com.github.arteam.simplejsonrpc.client.tcp;
+
+import com.github.arteam.simplejsonrpc.client.JsonRpcClient;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.github.arteam.simplejsonrpc.server.nio.JsonRpcNioServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the pipelined transport against the TCP server over the loopback interface
+ */
+public class TcpTransportTest {
+
+    private static final InetSocketAddress LOOPBACK = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+
+    private final EchoService echoService = new EchoService();
+    private final JsonRpcServer rpcServer = JsonRpcServer.builder().register(echoService).build();
+
+    private final ExecutorService workers = Executors.newCachedThreadPool();
+
+    private JsonRpcNioServer server;
+    private TcpTransport transport;
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (transport != null) {
+            transport.close();
+        }
+        if (server != null) {
+            server.close();
+        }
+        echoService.release.countDown();
+        workers.shutdown();
+    }
+
+    private JsonRpcClient start(UnaryOperator<TcpTransportBuilder> configuration) throws IOException {
+        server = JsonRpcNioServer.builder(rpcServer).workerExecutor(workers).bind(LOOPBACK).build().start();
+        transport = configuration.apply(TcpTransport.builder(server.localAddress()).connections(1)).build();
+        return new JsonRpcClient(transport);
+    }
+
+    private JsonRpcClient start() throws IOException {
+        return start(builder -> builder);
+    }
+
+    @Test
+    public void testRequest() throws Exception {
+        JsonRpcClient client = start();
+
+        assertThat(client.onDemand(Echo.class).sum(2, 3)).isEqualTo(5);
+        assertThat(client.onDemand(Echo.class).echo("Łukasz Kępa")).isEqualTo("Łukasz Kępa");
+    }
+
+    @Test
+    public void testLengthPrefixedFraming() throws Exception {
+        server = JsonRpcNioServer.builder(rpcServer)
+                .framing(com.github.arteam.simplejsonrpc.server.nio.Framing.LENGTH_PREFIXED)
+                .bind(LOOPBACK)
+                .build()
+                .start();
+        transport = TcpTransport.builder(server.localAddress()).framing(Framing.LENGTH_PREFIXED).build();
+        JsonRpcClient client = new JsonRpcClient(transport);
+
+        assertThat(client.onDemand(Echo.class).echo("Steven")).isEqualTo("Steven");
+    }
+
+    @Test
+    public void testPipelining() throws Exception {
+        JsonRpcClient client = start();
+        Echo echo = client.onDemand(Echo.class);
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            futures.add(echo.sumAsync(i, i));
+        }
+        for (int i = 0; i < 200; i++) {
+            assertThat(futures.get(i).get(10, TimeUnit.SECONDS)).isEqualTo(2 * i);
+        }
+        assertThat(transport.openedConnections()).isEqualTo(1);
+    }
+
+    @Test
+    public void testResponsesOutOfOrder() throws Exception {
+        JsonRpcClient client = start();
+        Echo echo = client.onDemand(Echo.class);
+
+        CompletableFuture<String> slow = echo.awaitAsync();
+        assertThat(echo.echo("Steven")).isEqualTo("Steven");
+        assertThat(slow).isNotDone();
+
+        echoService.release.countDown();
+        assertThat(slow.get(10, TimeUnit.SECONDS)).isEqualTo("released");
+    }
+
+    @Test
+    public void testNotificationAndBatch() throws Exception {
+        JsonRpcClient client = start();
+
+        client.createNotification().method("count").execute();
+        // The notification isn't answered, so wait until it's processed before counting again
+        for (int i = 0; i < 1000 && echoService.counter.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+        Map<Integer, Integer> responses = client.createBatchRequest()
+                .add(1, "count")
+                .add(2, "sum", 2, 3)
+                .keysType(Integer.class)
+                .returnType(Integer.class)
+                .execute();
+
+        assertThat(responses.get(1)).isEqualTo(2);
+        assertThat(responses.get(2)).isEqualTo(5);
+    }
+
+    @Test
+    public void testIdOfBatchInFlight() throws Exception {
+        // The connection is opened first, so the requests are sent in order
+        assertThat(start().onDemand(Echo.class).echo("Steven")).isEqualTo("Steven");
+        CompletableFuture<String> batch = transport.passAsync("""
+                [{"jsonrpc":"2.0","method":"await","id":5},\
+                {"jsonrpc":"2.0","method":"sum","params":{"a":2,"b":3},"id":7}]""");
+
+        // The second id of the batch is in flight as well, so a response can't be routed to a wrong request
+        assertThatThrownBy(() -> transport.passAsync("""
+                {"jsonrpc":"2.0","method":"echo","params":{"text":"Steven"},"id":7}""").get())
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("A request with id=7 is already in flight");
+
+        echoService.release.countDown();
+        assertThat(batch.get(10, TimeUnit.SECONDS)).contains("\"result\":\"released\"", "\"result\":5");
+        assertThat(transport.passAsync("""
+                {"jsonrpc":"2.0","method":"echo","params":{"text":"Steven"},"id":7}""").get(10, TimeUnit.SECONDS))
+                .contains("\"result\":\"Steven\"");
+    }
+
+    @Test
+    public void testReconnect() throws Exception {
+        JsonRpcClient client = start();
+        Echo echo = client.onDemand(Echo.class);
+        assertThat(echo.echo("Steven")).isEqualTo("Steven");
+
+        InetSocketAddress address = server.localAddress();
+        server.close();
+        server = JsonRpcNioServer.builder(rpcServer).workerExecutor(workers).bind(address).build().start();
+        // The lost connection is detected by its reader
+        for (int i = 0; i < 100 && transport.openedConnections() == 1; i++) {
+            try {
+                echo.echo("Stamkos");
+            } catch (IllegalStateException e) {
+                Thread.sleep(10);
+            }
+        }
+
+        assertThat(echo.echo("Stamkos")).isEqualTo("Stamkos");
+        assertThat(transport.openedConnections()).isEqualTo(2);
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        Echo echo = start(builder -> builder.requestTimeout(Duration.ofMillis(100))).onDemand(Echo.class);
+
+        assertThatIllegalStateException()
+                .isThrownBy(echo::await)
+                .withCauseInstanceOf(SocketTimeoutException.class);
+        // The connection is replaced
+        echoService.release.countDown();
+        assertThat(echo.echo("Steven")).isEqualTo("Steven");
+        assertThat(transport.openedConnections()).isEqualTo(2);
+    }
+
+    @Test
+    public void testConnectionRefused() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = socket.getLocalPort();
+        }
+        transport = TcpTransport.builder(new InetSocketAddress(InetAddress.getLoopbackAddress(), port)).build();
+        Echo echo = new JsonRpcClient(transport).onDemand(Echo.class);
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> echo.echo("Steven"))
+                .withMessage("I/O error during a request processing");
+    }
+
+    @Test
+    public void testAsyncConnect() throws Exception {
+        Echo echo = start().onDemand(Echo.class);
+
+        // The callers don't connect themselves and share the connection which is being opened
+        List<CompletableFuture<Integer>> sums = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            sums.add(echo.sumAsync(i, 1));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(sums.get(i).get(10, TimeUnit.SECONDS)).isEqualTo(i + 1);
+        }
+        assertThat(transport.openedConnections()).isEqualTo(1);
+    }
+
+    @Test
+    public void testAsyncConnectionRefused() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = socket.getLocalPort();
+        }
+        transport = TcpTransport.builder(new InetSocketAddress(InetAddress.getLoopbackAddress(), port)).build();
+
+        assertThatThrownBy(() -> transport.passAsync("{\"jsonrpc\":\"2.0\",\"method\":\"echo\",\"id\":1}").get())
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(ConnectException.class);
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        JsonRpcClient client = start();
+        Echo echo = client.onDemand(Echo.class);
+        CompletableFuture<String> slow = echo.awaitAsync();
+
+        transport.close();
+
+        assertThatThrownBy(slow::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(IOException.class);
+        assertThatIllegalStateException().isThrownBy(() -> echo.echo("Steven"));
+    }
+
+    @JsonRpcService
+    public interface Echo {
+
+        @JsonRpcMethod
+        int sum(@JsonRpcParam("a") int a, @JsonRpcParam("b") int b);
+
+        @JsonRpcMethod("sum")
+        CompletableFuture<Integer> sumAsync(@JsonRpcParam("a") int a, @JsonRpcParam("b") int b);
+
+        @JsonRpcMethod
+        String echo(@JsonRpcParam("text") String text);
+
+        @JsonRpcMethod
+        String await();
+
+        @JsonRpcMethod("await")
+        CompletableFuture<String> awaitAsync();
+    }
+
+    @JsonRpcService
+    public static class EchoService {
+
+        private final AtomicInteger counter = new AtomicInteger();
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @JsonRpcMethod
+        public int sum(@JsonRpcParam("a") int a, @JsonRpcParam("b") int b) {
+            return a + b;
+        }
+
+        @JsonRpcMethod
+        public String echo(@JsonRpcParam("text") String text) {
+            return text;
+        }
+
+        @JsonRpcMethod
+        public int count() {
+            return counter.incrementAndGet();
+        }
+
+        @JsonRpcMethod
+        public String await() throws InterruptedException {
+            release.await(10, TimeUnit.SECONDS);
+            return "released";
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.arteam.simplejsonrpc.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * <p>Transport which passes requests without blocking the caller thread.</p>
+ * <p>The {@code executeAsync} methods of the builders and proxy methods which return
+ * {@link CompletableFuture} use {@link #passAsync(String)}, so a lot of requests can be in flight
+ * without a thread per request. The blocking {@link #pass(String)} waits for the future.</p>
+ * <p>If the transport is a {@link ByteTransport} as well, they use {@link #passAsync(byte[])} instead,
+ * which should be overridden to pass the bytes without converting them to strings.</p>
+ */
+public interface AsyncTransport extends Transport {
+
+    /**
+     * Passes a JSON-RPC request in a text form to a backend
+     *
+     * @param request JSON-RPC request as a string
+     * @return future of a JSON-RPC response as a string. It's completed exceptionally
+     * with an {@link IOException} if an I/O error happens during transfer.
+     */
+    CompletableFuture<String> passAsync(String request);
+
+    /**
+     * Passes a JSON-RPC request as UTF-8 bytes to a backend. By default, the request and the response
+     * are converted to strings and passed through {@link #passAsync(String)}.
+     *
+     * @param request JSON-RPC request as UTF-8 bytes
+     * @return future of a JSON-RPC response as UTF-8 bytes. It's completed exceptionally
+     * with an {@link IOException} if an I/O error happens during transfer.
+     */
+    default CompletableFuture<byte[]> passAsync(byte[] request) {
+        return passAsync(new String(request, StandardCharsets.UTF_8))
+                .thenApply(response -> response != null ? response.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    @Override
+    default String pass(String request) throws IOException {
+        CompletableFuture<String> future = passAsync(request);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.arteam.simplejsonrpc.client;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>Window in which calls of a proxy are collected into a single batch JSON-RPC request.</p>
+ * <p>A batch is sent when it has {@code maxSize} calls or when {@code maxDelay} has passed
+ * since the first call of the batch, whichever happens first.</p>
+ *
+ * <p>A batch of asynchronous calls which didn't fill up is sent after the delay by {@code executor}. Without one,
+ * the batch is handed over to an {@link AsyncTransport} by the delay scheduler, and a blocking transport is called
+ * from a daemon thread of the client, so blocking I/O never runs in the common fork-join pool.</p>
+ *
+ * @param maxSize  maximum amount of calls in a batch
+ * @param maxDelay maximum time the first call of a batch waits for other calls
+ * @param executor executor which sends batches of asynchronous calls after the delay or {@code null} for the default
+ */
+public record BatchWindow(int maxSize, Duration maxDelay, @Nullable Executor executor) {
+
+    public BatchWindow(int maxSize, Duration maxDelay) {
+        this(maxSize, maxDelay, null);
+    }
+
+    public BatchWindow {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max batch size should be positive");
+        }
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("Max delay should not be negative");
+        }
+    }
+}
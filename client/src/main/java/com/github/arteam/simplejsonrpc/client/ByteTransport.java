@@ -0,0 +1,28 @@
+package com.github.arteam.simplejsonrpc.client;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Transport which passes requests and responses as UTF-8 bytes.</p>
+ * <p>The client writes requests straight to byte arrays and parses responses straight from them,
+ * so payloads are not converted between UTF-8 and UTF-16 strings. It's worthwhile for
+ * transports which send and receive bytes anyway, especially with large batches.</p>
+ */
+public interface ByteTransport extends Transport {
+
+    /**
+     * Passes a JSON-RPC request as UTF-8 bytes to a backend and
+     * returns a JSON-RPC response as UTF-8 bytes as well
+     *
+     * @param request JSON-RPC request as UTF-8 bytes
+     * @return JSON-RPC response as UTF-8 bytes
+     * @throws IOException if an I/O error happens during transfer
+     */
+    byte[] pass(byte[] request) throws IOException;
+
+    @Override
+    default String pass(String request) throws IOException {
+        return new String(pass(request.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+    }
+}
@@ -2,12 +2,18 @@ package com.github.arteam.simplejsonrpc.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.arteam.simplejsonrpc.client.builder.BatchRequestBuilder;
+import com.github.arteam.simplejsonrpc.client.builder.BatchScope;
 import com.github.arteam.simplejsonrpc.client.builder.NotificationRequestBuilder;
 import com.github.arteam.simplejsonrpc.client.builder.ObjectApiBuilder;
 import com.github.arteam.simplejsonrpc.client.builder.RequestBuilder;
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcBatchException;
 import com.github.arteam.simplejsonrpc.client.generator.IdGenerator;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * Date: 8/9/14
@@ -28,6 +34,12 @@ public class JsonRpcClient {
      */
     private final ObjectMapper mapper;
 
+    /**
+     * Window in which calls of proxies are collected into batch requests, if auto-batching is enabled
+     */
+    @Nullable
+    private final BatchWindow batchWindow;
+
     /**
      * Constructs a new JSON-RPC client with a specified transport
      *
@@ -44,8 +56,39 @@ public class JsonRpcClient {
      * @param mapper    JSON mapper
      */
     public JsonRpcClient(Transport transport, ObjectMapper mapper) {
+        this(transport, mapper, null);
+    }
+
+    private JsonRpcClient(Transport transport, ObjectMapper mapper, @Nullable BatchWindow batchWindow) {
         this.transport = transport;
         this.mapper = mapper;
+        this.batchWindow = batchWindow;
+    }
+
+    /**
+     * Creates a client which proxies collect calls made concurrently into batch requests.
+     * A batch is sent when it has {@code maxBatchSize} calls or {@code maxDelay} after its first call.
+     * The builder API isn't affected.
+     *
+     * @param maxBatchSize maximum amount of calls in a batch
+     * @param maxDelay     maximum time the first call of a batch waits for other calls
+     * @return a new client with the same transport and mapper
+     */
+    public JsonRpcClient autoBatching(int maxBatchSize, Duration maxDelay) {
+        return new JsonRpcClient(transport, mapper, new BatchWindow(maxBatchSize, maxDelay));
+    }
+
+    /**
+     * Creates a client which proxies collect calls made concurrently into batch requests.
+     * Batches of asynchronous calls which didn't fill up are sent by the provided executor after the delay.
+     *
+     * @param maxBatchSize maximum amount of calls in a batch
+     * @param maxDelay     maximum time the first call of a batch waits for other calls
+     * @param executor     executor which sends batches of asynchronous calls
+     * @return a new client with the same transport and mapper
+     */
+    public JsonRpcClient autoBatching(int maxBatchSize, Duration maxDelay, Executor executor) {
+        return new JsonRpcClient(transport, mapper, new BatchWindow(maxBatchSize, maxDelay, executor));
     }
 
     /**
@@ -75,6 +118,20 @@ public class JsonRpcClient {
         return new BatchRequestBuilder<>(transport, mapper);
     }
 
+    /**
+     * Executes calls of proxies made in a scope as a single batch JSON-RPC request.
+     * The calls are recorded by proxies created by {@link BatchScope#proxy(Class)} and
+     * the request is sent when the scope returns.
+     *
+     * @param scope code which makes the calls
+     * @throws JsonRpcBatchException if the server returned errors for some calls
+     */
+    public void batch(Consumer<BatchScope> scope) {
+        BatchScope batchScope = new BatchScope(transport, mapper);
+        scope.accept(batchScope);
+        batchScope.execute();
+    }
+
     /**
      * Creates a new proxy for accessing a remote JSON-RPC service through an interface
      *
@@ -85,7 +142,7 @@ public class JsonRpcClient {
     @SuppressWarnings("unchecked")
     public <T> T onDemand(Class<T> clazz) {
         return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{clazz},
-                new ObjectApiBuilder(clazz, transport, mapper, null, null));
+                new ObjectApiBuilder(clazz, transport, mapper, null, null, batchWindow));
     }
 
     /**
@@ -100,7 +157,7 @@ public class JsonRpcClient {
     @SuppressWarnings("unchecked")
     public <T> T onDemand(Class<T> clazz, IdGenerator<?> idGenerator) {
         return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{clazz},
-                new ObjectApiBuilder(clazz, transport, mapper, null, idGenerator));
+                new ObjectApiBuilder(clazz, transport, mapper, null, idGenerator, batchWindow));
     }
 
     /**
@@ -116,7 +173,7 @@ public class JsonRpcClient {
     @SuppressWarnings("unchecked")
     public <T> T onDemand(Class<T> clazz, ParamsType paramsType) {
         return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{clazz},
-                new ObjectApiBuilder(clazz, transport, mapper, paramsType, null));
+                new ObjectApiBuilder(clazz, transport, mapper, paramsType, null, batchWindow));
     }
 
     /**
@@ -134,7 +191,7 @@ public class JsonRpcClient {
     @SuppressWarnings("unchecked")
     public <T> T onDemand(Class<T> clazz, ParamsType paramsType, IdGenerator<?> idGenerator) {
         return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{clazz},
-                new ObjectApiBuilder(clazz, transport, mapper, paramsType, idGenerator));
+                new ObjectApiBuilder(clazz, transport, mapper, paramsType, idGenerator, batchWindow));
     }
 
 }
@@ -0,0 +1,79 @@
+package com.github.arteam.simplejsonrpc.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * <p>Adapter of a blocking {@link Transport} which passes requests on virtual threads.
+ * Requires Java 21 or later.</p>
+ * <p>{@link #passAsync(String)} doesn't block the caller, so a lot of concurrent requests can be
+ * in flight without sizing a pool of platform threads. {@link #pass(String)} blocks the caller,
+ * but the request is passed on a virtual thread, which is interrupted if the caller is interrupted.
+ * Callers which are virtual threads themselves pass requests directly.</p>
+ */
+public class VirtualThreadTransport implements AsyncTransport {
+
+    private final Transport delegate;
+
+    private final ExecutorService executor;
+
+    /**
+     * @param delegate blocking transport
+     * @throws UnsupportedOperationException if the runtime doesn't support virtual threads
+     */
+    public VirtualThreadTransport(Transport delegate) {
+        this.delegate = delegate;
+        this.executor = VirtualThreads.newThreadPerTaskExecutor();
+    }
+
+    /**
+     * @return whether the runtime supports virtual threads
+     */
+    public static boolean isSupported() {
+        return VirtualThreads.isSupported();
+    }
+
+    @Override
+    public String pass(String request) throws IOException {
+        if (VirtualThreads.isVirtual(Thread.currentThread())) {
+            return delegate.pass(request);
+        }
+        Future<String> future = executor.submit(() -> delegate.pass(request));
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Passes a request on a new virtual thread
+     */
+    @Override
+    public CompletableFuture<String> passAsync(String request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return delegate.pass(request);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+}
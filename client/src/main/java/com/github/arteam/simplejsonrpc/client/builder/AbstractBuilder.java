@@ -1,13 +1,22 @@
 package com.github.arteam.simplejsonrpc.client.builder;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.ValueNode;
+import com.github.arteam.simplejsonrpc.client.AsyncTransport;
+import com.github.arteam.simplejsonrpc.client.ByteTransport;
 import com.github.arteam.simplejsonrpc.client.Transport;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 /**
  * Date: 10/12/14
@@ -91,4 +100,183 @@ public class AbstractBuilder {
         }
         return requestNode;
     }
+
+    /**
+     * Writes a request, passes it through the transport and parses the response.
+     * Through a {@link ByteTransport} the request is written to and the response
+     * is parsed from UTF-8 bytes without intermediate strings.
+     *
+     * @param request request as a JSON object or a list of them
+     * @param event   JFR event which records lengths of the request and the response
+     * @return response as a JSON tree
+     */
+    JsonNode execute(Object request, TransferEvent event) {
+        if (transport instanceof ByteTransport byteTransport) {
+            return readResponse(passBytes(byteTransport, writeBytes(request, event), event));
+        }
+        return readResponse(passText(writeText(request, event), event));
+    }
+
+    /**
+     * Writes a request and passes it through the transport without parsing the response
+     */
+    void executeNotification(Object request, TransferEvent event) {
+        if (transport instanceof ByteTransport byteTransport) {
+            passBytes(byteTransport, writeBytes(request, event), event);
+        } else {
+            passText(writeText(request, event), event);
+        }
+    }
+
+    /**
+     * Writes a request in the caller thread and passes it through an {@link AsyncTransport}
+     * without blocking the caller thread. If the transport is a {@link ByteTransport} as well,
+     * the request and the response are passed as UTF-8 bytes. Other transports pass the request
+     * in the caller thread and return a completed future.
+     *
+     * @param request request as a JSON object or a list of them
+     * @param event   JFR event which records lengths of the request and the response
+     * @return future of a response as a JSON tree, completed exceptionally
+     * with an {@link IllegalStateException} in case of an I/O error
+     */
+    CompletableFuture<JsonNode> executeAsync(Object request, TransferEvent event) {
+        if (transport instanceof AsyncTransport asyncTransport) {
+            if (transport instanceof ByteTransport) {
+                return passBytesAsync(asyncTransport, writeBytes(request, event), event)
+                        .thenApply(this::readResponse);
+            }
+            return passAsync(asyncTransport, writeText(request, event), event).thenApply(this::readResponse);
+        } else if (transport instanceof ByteTransport byteTransport) {
+            byte[] byteRequest = writeBytes(request, event);
+            return complete(() -> readResponse(passBytes(byteTransport, byteRequest, event)));
+        }
+        String textRequest = writeText(request, event);
+        return complete(() -> readResponse(passText(textRequest, event)));
+    }
+
+    /**
+     * Writes a request and passes it without blocking the caller thread and without parsing the response
+     */
+    CompletableFuture<Void> executeNotificationAsync(Object request, TransferEvent event) {
+        if (transport instanceof AsyncTransport asyncTransport) {
+            CompletableFuture<?> response = transport instanceof ByteTransport ?
+                    passBytesAsync(asyncTransport, writeBytes(request, event), event) :
+                    passAsync(asyncTransport, writeText(request, event), event);
+            return response.thenAccept(ignored -> {
+            });
+        }
+        return complete(() -> {
+            executeNotification(request, event);
+            return null;
+        });
+    }
+
+    private String writeText(Object request, TransferEvent event) {
+        try {
+            String textRequest = mapper.writeValueAsString(request);
+            event.requestLength(textRequest.length());
+            return textRequest;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable convert " + request + " to JSON", e);
+        }
+    }
+
+    private byte[] writeBytes(Object request, TransferEvent event) {
+        try {
+            byte[] byteRequest = mapper.writeValueAsBytes(request);
+            event.requestLength(byteRequest.length);
+            return byteRequest;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable convert " + request + " to JSON", e);
+        }
+    }
+
+    private String passText(String textRequest, TransferEvent event) {
+        String textResponse;
+        try {
+            textResponse = transport.pass(textRequest);
+        } catch (IOException e) {
+            throw new IllegalStateException("I/O error during a request processing", e);
+        }
+        if (textResponse != null) {
+            event.responseLength(textResponse.length());
+        }
+        return textResponse;
+    }
+
+    private static byte[] passBytes(ByteTransport transport, byte[] byteRequest, TransferEvent event) {
+        byte[] byteResponse;
+        try {
+            byteResponse = transport.pass(byteRequest);
+        } catch (IOException e) {
+            throw new IllegalStateException("I/O error during a request processing", e);
+        }
+        if (byteResponse != null) {
+            event.responseLength(byteResponse.length);
+        }
+        return byteResponse;
+    }
+
+    private static CompletableFuture<String> passAsync(AsyncTransport transport, String textRequest,
+                                                       TransferEvent event) {
+        return recordResponse(transport.passAsync(textRequest), String::length, event);
+    }
+
+    private static CompletableFuture<byte[]> passBytesAsync(AsyncTransport transport, byte[] byteRequest,
+                                                            TransferEvent event) {
+        return recordResponse(transport.passAsync(byteRequest), byteResponse -> byteResponse.length, event);
+    }
+
+    /**
+     * Records the length of a response and converts an I/O error to an {@link IllegalStateException}
+     */
+    private static <T> CompletableFuture<T> recordResponse(CompletableFuture<T> future, ToIntFunction<T> length,
+                                                           TransferEvent event) {
+        return future.handle((response, e) -> {
+            if (e == null) {
+                if (response != null) {
+                    event.responseLength(length.applyAsInt(response));
+                }
+                return response;
+            }
+            Throwable cause = unwrap(e);
+            if (cause instanceof IOException) {
+                throw new IllegalStateException("I/O error during a request processing", cause);
+            }
+            throw e instanceof CompletionException completionException ? completionException :
+                    new CompletionException(cause);
+        });
+    }
+
+    private static <T> CompletableFuture<T> complete(Supplier<T> action) {
+        try {
+            return CompletableFuture.completedFuture(action.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private JsonNode readResponse(String textResponse) {
+        try {
+            return mapper.readTree(textResponse);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable parse a JSON response: " + textResponse, e);
+        }
+    }
+
+    private JsonNode readResponse(byte[] byteResponse) {
+        try {
+            return mapper.readTree(byteResponse);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable parse a JSON response: " +
+                    new String(byteResponse, StandardCharsets.UTF_8), e);
+        }
+    }
+
+    /**
+     * @return the cause of a failure of a future
+     */
+    protected static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
 }
@@ -17,11 +17,11 @@ import com.github.arteam.simplejsonrpc.client.exception.JsonRpcBatchException;
 import com.github.arteam.simplejsonrpc.core.domain.ErrorMessage;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Date: 10/12/14
@@ -437,8 +437,43 @@ public class BatchRequestBuilder<K, V> extends AbstractBuilder {
      */
     public Map<K, V> execute() {
         validateRequest();
-        String textResponse = executeRequest();
-        return processBatchResponse(textResponse);
+        BatchRequestEvent event = new BatchRequestEvent();
+        event.begin();
+        try {
+            return processBatchResponse(execute(requests, event));
+        } finally {
+            commit(event);
+        }
+    }
+
+    /**
+     * Validates and executes the request without blocking the caller thread, if the transport is
+     * an {@link com.github.arteam.simplejsonrpc.client.AsyncTransport}, and process response
+     *
+     * @return future of a map of responses by request ids. It's completed exceptionally with
+     * {@link JsonRpcBatchException} if some requests failed.
+     */
+    public CompletableFuture<Map<K, V>> executeAsync() {
+        validateRequest();
+        BatchRequestEvent event = new BatchRequestEvent();
+        event.begin();
+        CompletableFuture<JsonNode> response;
+        try {
+            response = executeAsync(requests, event);
+        } catch (RuntimeException e) {
+            commit(event);
+            throw e;
+        }
+        return response
+                .thenApply(this::processBatchResponse)
+                .whenComplete((result, e) -> commit(event));
+    }
+
+    private void commit(BatchRequestEvent event) {
+        if (event.shouldCommit()) {
+            event.batchSize = requests.size();
+            event.commit();
+        }
     }
 
     /**
@@ -466,33 +501,19 @@ public class BatchRequestBuilder<K, V> extends AbstractBuilder {
         }
     }
 
-    /**
-     * Executes the request through the transport
-     *
-     * @return backend response as a string
-     */
-    private String executeRequest() {
-        try {
-            return transport.pass(mapper.writeValueAsString(requests));
-        } catch (IOException e) {
-            throw new IllegalStateException("I/O error during a request processing", e);
-        }
-    }
-
     /**
      * Processes JSON-RPC batch response
      *
-     * @param textResponse response as a string
+     * @param jsonResponses response as a JSON tree
      * @return map of responses (Java objects) by request ids
      */
     @SuppressWarnings("unchecked")
-    private Map<K, V> processBatchResponse(String textResponse) {
+    private Map<K, V> processBatchResponse(JsonNode jsonResponses) {
         Map<Object, Object> successes = new HashMap<>();
         Map<Object, ErrorMessage> errors = new HashMap<>();
         List<?> requestIds = requestIds();
 
         try {
-            JsonNode jsonResponses = mapper.readTree(textResponse);
             // If it's an empty response
             if (jsonResponses.isTextual() && jsonResponses.asText().isEmpty() && requestIds.isEmpty()) {
                 return new HashMap<>();
@@ -505,8 +526,8 @@ public class BatchRequestBuilder<K, V> extends AbstractBuilder {
             for (JsonNode responseNode : jsonResponses) {
                 processSingleResponse(responseNode, requestIds, successes, errors);
             }
-        } catch (IOException e) {
-            throw new IllegalStateException("Unable parse a JSON response: " + textResponse, e);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable parse a JSON response: " + jsonResponses, e);
         }
         if (!errors.isEmpty()) {
             throw new JsonRpcBatchException("Errors happened during batch request processing", successes, errors);
@@ -577,7 +598,7 @@ public class BatchRequestBuilder<K, V> extends AbstractBuilder {
         return requests;
     }
 
-    private static Object nodeValue(JsonNode id) {
+    static Object nodeValue(JsonNode id) {
         if (id.isLong()) {
             return id.longValue();
         } else if (id.isInt()) {
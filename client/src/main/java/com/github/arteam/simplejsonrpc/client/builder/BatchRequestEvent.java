@@ -0,0 +1,39 @@
+package com.github.arteam.simplejsonrpc.client.builder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>JFR event of a batch request executed by {@link BatchRequestBuilder}</p>
+ */
+@Name("com.github.arteam.simplejsonrpc.client.BatchRequest")
+@Label("JSON-RPC Batch Request")
+@Description("Serialization of a batch request, its transfer and conversion of the responses")
+@Category({"JSON-RPC", "Client"})
+@StackTrace(false)
+class BatchRequestEvent extends jdk.jfr.Event implements TransferEvent {
+
+    @Label("Batch Size")
+    int batchSize;
+
+    @Label("Request Length")
+    @Description("Length of the request in chars, or in bytes for a byte transport")
+    long requestLength;
+
+    @Label("Response Length")
+    @Description("Length of the response in chars, or in bytes for a byte transport")
+    long responseLength;
+
+    @Override
+    public void requestLength(long requestLength) {
+        this.requestLength = requestLength;
+    }
+
+    @Override
+    public void responseLength(long responseLength) {
+        this.responseLength = responseLength;
+    }
+}
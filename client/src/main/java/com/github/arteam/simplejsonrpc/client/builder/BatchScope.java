@@ -0,0 +1,191 @@
+package com.github.arteam.simplejsonrpc.client.builder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.arteam.simplejsonrpc.client.Transport;
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcBatchException;
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcException;
+import com.github.arteam.simplejsonrpc.client.generator.IdGenerator;
+import com.github.arteam.simplejsonrpc.core.domain.ErrorMessage;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * <p>Scope of a batch JSON-RPC request for the object API.</p>
+ * <p>Calls of proxies created by the scope aren't performed immediately, but recorded into a batch which is
+ * executed when the scope is closed. Return types of the calls are taken from the service interfaces.
+ * Methods which return {@link CompletableFuture} return futures of their results, and results of other
+ * methods are obtained by wrapping their calls into {@link #defer(Object)}:</p>
+ * <pre>{@code
+ * List<Deferred<Player>> players = new ArrayList<>();
+ * client.batch(scope -> {
+ *     TeamService teamService = scope.proxy(TeamService.class);
+ *     players.add(scope.defer(teamService.findByInitials("Steven", "Stamkos")));
+ *     players.add(scope.defer(teamService.findByInitials("Jack", "Allen")));
+ * });
+ * Player stamkos = players.get(0).get();
+ * }</pre>
+ * <p>Values returned by proxies for other methods are placeholders: {@code null} for objects and {@code 0} or
+ * {@code false} for primitives. Every such call should be wrapped into its own {@link #defer(Object)} right away.</p>
+ * <p>It's not thread-safe.</p>
+ */
+public class BatchScope {
+
+    private final Transport transport;
+    private final ObjectMapper mapper;
+
+    private final PendingBatch batch = new PendingBatch();
+
+    /**
+     * Results of the recorded calls converted to the return types by request ids
+     */
+    private final Map<Object, CompletableFuture<Object>> results = new LinkedHashMap<>();
+
+    /**
+     * The result of the last recorded call which isn't deferred yet
+     */
+    @Nullable
+    private CompletableFuture<Object> lastCall;
+
+    /**
+     * Amount of calls with placeholder results recorded since the last {@link #defer(Object)}
+     */
+    private int pendingCalls;
+
+    private boolean executed;
+
+    /**
+     * Creates a new empty batch scope
+     *
+     * @param transport transport for request performing
+     * @param mapper    mapper for JSON processing
+     */
+    public BatchScope(Transport transport, ObjectMapper mapper) {
+        this.transport = transport;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Creates a proxy which records calls into the batch
+     *
+     * @param clazz interface metadata
+     * @param <T>   interface type
+     * @return a new proxy
+     */
+    public <T> T proxy(Class<T> clazz) {
+        return createProxy(clazz, null);
+    }
+
+    /**
+     * Creates a proxy which records calls into the batch with a custom id generator
+     * that overrides the interface generator.
+     *
+     * @param clazz       interface metadata
+     * @param idGenerator custom id generator
+     * @param <T>         interface type
+     * @return a new proxy
+     */
+    public <T> T proxy(Class<T> clazz, IdGenerator<?> idGenerator) {
+        return createProxy(clazz, idGenerator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T createProxy(Class<T> clazz, @Nullable IdGenerator<?> idGenerator) {
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{clazz},
+                new ObjectApiBuilder(clazz, transport, mapper, null, idGenerator, null, this));
+    }
+
+    /**
+     * Returns a handle to the result of a proxy call
+     *
+     * @param call the call of a proxy of this scope. Its return value is a placeholder and ignored,
+     *             so the handle is bound to the only call recorded since the previous {@code defer}.
+     * @param <T>  return type of the call
+     * @return a handle which provides the result after the batch is executed
+     * @throws IllegalStateException if not exactly one call has been recorded since the previous {@code defer}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Deferred<T> defer(@Nullable T call) {
+        if (pendingCalls == 0 || lastCall == null) {
+            throw new IllegalStateException("The argument should be a call of a proxy of the scope");
+        }
+        if (pendingCalls > 1) {
+            throw new IllegalStateException("Every call should be wrapped into its own defer, but "
+                    + pendingCalls + " calls are pending");
+        }
+        Deferred<T> deferred = new Deferred<>((CompletableFuture<T>) lastCall);
+        lastCall = null;
+        pendingCalls = 0;
+        return deferred;
+    }
+
+    /**
+     * Records a call into the batch
+     *
+     * @param id        request id as a Java value
+     * @param request   JSON-RPC request
+     * @param converter converter of a result node to the return type
+     * @param deferred  whether the proxy returns a placeholder which should be wrapped into {@link #defer(Object)}
+     * @return future of the converted result
+     */
+    CompletableFuture<Object> record(Object id, ObjectNode request, Function<JsonNode, Object> converter,
+                                     boolean deferred) {
+        if (executed) {
+            throw new IllegalStateException("The batch has already been executed");
+        }
+        if (batch.contains(id)) {
+            throw new IllegalArgumentException("Duplicate id='" + id + "' in the batch");
+        }
+        CompletableFuture<Object> result = batch.add(id, request).thenApply(converter);
+        results.put(id, result);
+        if (deferred) {
+            lastCall = result;
+            pendingCalls++;
+        }
+        return result;
+    }
+
+    /**
+     * Executes the recorded calls as a batch request and completes their results.
+     * It's called by {@link com.github.arteam.simplejsonrpc.client.JsonRpcClient#batch} when the scope is closed.
+     *
+     * @throws JsonRpcBatchException if the server returned errors for some calls
+     */
+    public void execute() {
+        if (executed) {
+            throw new IllegalStateException("The batch has already been executed");
+        }
+        executed = true;
+        if (results.isEmpty()) {
+            return;
+        }
+        batch.send(transport, mapper).join();
+
+        Map<Object, Object> successes = new HashMap<>();
+        Map<Object, ErrorMessage> errors = new HashMap<>();
+        for (Map.Entry<Object, CompletableFuture<Object>> result : results.entrySet()) {
+            try {
+                successes.put(result.getKey(), result.getValue().join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof JsonRpcException jsonRpcException) {
+                    errors.put(result.getKey(), jsonRpcException.getErrorMessage());
+                } else if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                } else {
+                    throw e;
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new JsonRpcBatchException("Errors happened during batch request processing", successes, errors);
+        }
+    }
+}
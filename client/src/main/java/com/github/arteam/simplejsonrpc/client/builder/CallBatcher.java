@@ -0,0 +1,161 @@
+package com.github.arteam.simplejsonrpc.client.builder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.arteam.simplejsonrpc.client.AsyncTransport;
+import com.github.arteam.simplejsonrpc.client.BatchWindow;
+import com.github.arteam.simplejsonrpc.client.Transport;
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Collects concurrent calls of a proxy into batch JSON-RPC requests.</p>
+ * <p>The first call of a batch opens a window. A blocking caller waits for the window to close in its own thread,
+ * an asynchronous one schedules closing it after the delay. The batch is sent by the thread which closes the window,
+ * and the results are routed back to the callers by request ids.</p>
+ */
+class CallBatcher {
+
+    private final Transport transport;
+    private final ObjectMapper mapper;
+    private final BatchWindow window;
+
+    /**
+     * Executor which sends batches of asynchronous calls after the delay
+     */
+    private final Executor sender;
+
+    /**
+     * The batch which accepts new calls, if there is one
+     */
+    @Nullable
+    private Batch current;
+
+    CallBatcher(Transport transport, ObjectMapper mapper, BatchWindow window) {
+        this.transport = transport;
+        this.mapper = mapper;
+        this.window = window;
+        if (window.executor() != null) {
+            this.sender = window.executor();
+        } else if (transport instanceof AsyncTransport) {
+            // The transport doesn't block, so the batch is handed over to it from the delay scheduler
+            this.sender = Runnable::run;
+        } else {
+            this.sender = BlockingSender.EXECUTOR;
+        }
+    }
+
+    /**
+     * Adds a request to the current batch
+     *
+     * @param id       request id as a Java value
+     * @param request  JSON-RPC request
+     * @param blocking whether the caller is going to wait for the result
+     * @return future of the result node. It's completed exceptionally with {@link JsonRpcException}
+     * if the server returned an error for the request.
+     */
+    CompletableFuture<JsonNode> submit(Object id, ObjectNode request, boolean blocking) {
+        Batch previous = null;
+        Batch full = null;
+        Batch opened = null;
+        CompletableFuture<JsonNode> future;
+        synchronized (this) {
+            // Responses are correlated by ids, so a repeated id goes to a new batch
+            if (current != null && current.contains(id)) {
+                previous = close();
+            }
+            if (current == null) {
+                current = opened = new Batch();
+            }
+            future = current.add(id, request);
+            if (current.size() >= window.maxSize()) {
+                full = close();
+            }
+        }
+        if (previous != null) {
+            send(previous);
+        }
+        if (full != null) {
+            send(full);
+        } else if (opened != null) {
+            Batch batch = opened;
+            if (blocking) {
+                awaitWindow(batch);
+            } else {
+                CompletableFuture.delayedExecutor(window.maxDelay().toNanos(), TimeUnit.NANOSECONDS, sender)
+                        .execute(() -> closeWindow(batch));
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Waits until the window of the batch is closed by another caller, or closes it after the delay
+     */
+    private void awaitWindow(Batch batch) {
+        try {
+            if (batch.closed.await(window.maxDelay().toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            // Don't let other calls of the batch wait for nothing
+            Thread.currentThread().interrupt();
+        }
+        closeWindow(batch);
+    }
+
+    /**
+     * Closes the window of the batch and sends it, unless another caller has already done it
+     */
+    private void closeWindow(Batch batch) {
+        synchronized (this) {
+            if (current != batch) {
+                return;
+            }
+            close();
+        }
+        send(batch);
+    }
+
+    /**
+     * Stops the current batch from accepting new calls
+     */
+    private Batch close() {
+        Batch batch = current;
+        current = null;
+        batch.closed.countDown();
+        return batch;
+    }
+
+    private void send(Batch batch) {
+        batch.send(transport, mapper);
+    }
+
+    /**
+     * Daemon threads which call blocking transports, so they don't occupy the common fork-join pool
+     */
+    private static class BlockingSender {
+
+        private static final AtomicInteger threadNumber = new AtomicInteger();
+
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "json-rpc-batch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static class Batch extends PendingBatch {
+
+        private final CountDownLatch closed = new CountDownLatch(1);
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.arteam.simplejsonrpc.client.builder;
+
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * <p>Result of a proxy call recorded in a {@link BatchScope}.</p>
+ * <p>It's available after the batch has been executed.</p>
+ *
+ * @param <T> result type
+ */
+public class Deferred<T> {
+
+    private final CompletableFuture<T> result;
+
+    Deferred(CompletableFuture<T> result) {
+        this.result = result;
+    }
+
+    /**
+     * @return whether the batch with the call has been executed
+     */
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    /**
+     * Returns the result of the call
+     *
+     * @return the result converted to the return type of the method
+     * @throws JsonRpcException      if the server returned an error for the call
+     * @throws IllegalStateException if the batch hasn't been executed yet
+     */
+    @Nullable
+    public T get() {
+        if (!result.isDone()) {
+            throw new IllegalStateException("The batch hasn't been executed yet");
+        }
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.github.arteam.simplejsonrpc.client.builder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.arteam.simplejsonrpc.client.Transport;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Date: 8/17/14
  * Time: 11:09 PM
@@ -72,7 +74,17 @@ public class NotificationRequestBuilder {
      * Execute a request through {@link Transport}
      */
     public void execute() {
-        requestBuilder.executeRequest();
+        requestBuilder.executeNotification();
+    }
+
+    /**
+     * Execute a request through {@link Transport} without blocking the caller thread,
+     * if the transport is an {@link com.github.arteam.simplejsonrpc.client.AsyncTransport}
+     *
+     * @return future which is completed when the request is passed
+     */
+    public CompletableFuture<Void> executeAsync() {
+        return requestBuilder.executeNotificationAsync();
     }
 
 }
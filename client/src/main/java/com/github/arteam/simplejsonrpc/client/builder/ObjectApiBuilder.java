@@ -5,10 +5,12 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.POJONode;
 import com.fasterxml.jackson.databind.node.ValueNode;
+import com.github.arteam.simplejsonrpc.client.BatchWindow;
 import com.github.arteam.simplejsonrpc.client.ParamsType;
 import com.github.arteam.simplejsonrpc.client.Transport;
 import com.github.arteam.simplejsonrpc.client.exception.JsonRpcException;
@@ -19,15 +21,25 @@ import com.github.arteam.simplejsonrpc.client.metadata.ParameterMetadata;
 import com.github.arteam.simplejsonrpc.core.domain.ErrorMessage;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Date: 24.08.14
  * Time: 17:33
  * <p>
  * Proxy for accessing a remote JSON-RPC service through an interface.
+ * <p>
+ * Methods which return {@link CompletableFuture} or {@link CompletionStage} don't block the caller thread,
+ * if the transport is an {@link com.github.arteam.simplejsonrpc.client.AsyncTransport}.
+ * Their futures are completed with the result converted to the type argument of the return type.
+ * <p>
+ * If a {@link BatchWindow} is set, calls made within the window are sent together as a batch request.
  */
 public class ObjectApiBuilder extends AbstractBuilder implements InvocationHandler {
 
@@ -39,6 +51,12 @@ public class ObjectApiBuilder extends AbstractBuilder implements InvocationHandl
 
     private final ClassMetadata classMetadata;
 
+    @Nullable
+    private final CallBatcher batcher;
+
+    @Nullable
+    private final BatchScope scope;
+
     /**
      * Crate a new proxy for an interface
      *
@@ -50,10 +68,34 @@ public class ObjectApiBuilder extends AbstractBuilder implements InvocationHandl
      */
     public ObjectApiBuilder(Class<?> clazz, Transport transport, ObjectMapper mapper,
                             @Nullable ParamsType userParamsType, @Nullable IdGenerator<?> userIdGenerator) {
+        this(clazz, transport, mapper, userParamsType, userIdGenerator, null);
+    }
+
+    /**
+     * Crate a new proxy for an interface which collects calls into batch requests
+     *
+     * @param clazz           service interface
+     * @param transport       transport abstraction
+     * @param mapper          json mapper
+     * @param userParamsType  custom type of request params
+     * @param userIdGenerator custom id generator
+     * @param batchWindow     window in which calls are collected into a batch
+     */
+    public ObjectApiBuilder(Class<?> clazz, Transport transport, ObjectMapper mapper,
+                            @Nullable ParamsType userParamsType, @Nullable IdGenerator<?> userIdGenerator,
+                            @Nullable BatchWindow batchWindow) {
+        this(clazz, transport, mapper, userParamsType, userIdGenerator, batchWindow, null);
+    }
+
+    ObjectApiBuilder(Class<?> clazz, Transport transport, ObjectMapper mapper,
+                     @Nullable ParamsType userParamsType, @Nullable IdGenerator<?> userIdGenerator,
+                     @Nullable BatchWindow batchWindow, @Nullable BatchScope scope) {
         super(transport, mapper);
         this.classMetadata = Reflections.getClassMetadata(clazz);
         this.userParamsType = userParamsType;
         this.userIdGenerator = userIdGenerator;
+        this.batcher = batchWindow != null ? new CallBatcher(transport, mapper, batchWindow) : null;
+        this.scope = scope;
     }
 
     @Override
@@ -64,31 +106,172 @@ public class ObjectApiBuilder extends AbstractBuilder implements InvocationHandl
             throw new IllegalStateException("Method '" + method.getName() + "' is not JSON-RPC available");
         }
 
-        // Get method name (annotation or the actual name), params and id generator
-        String methodName = methodMetadata.name();
-        JsonNode params = getParams(methodMetadata, args, getParamsType(classMetadata, methodMetadata));
+        JavaType returnType = mapper.getTypeFactory().constructType(method.getGenericReturnType());
+        boolean async = returnType.getRawClass() == CompletableFuture.class ||
+                returnType.getRawClass() == CompletionStage.class;
+        if (scope != null) {
+            return record(methodMetadata, args, returnType, async);
+        }
+        if (async) {
+            return invokeAsync(method, methodMetadata, args, returnType.containedTypeOrUnknown(0));
+        }
+
+        ProxyInvocationEvent event = new ProxyInvocationEvent();
+        event.begin();
+        ValueNode id = null;
+        try {
+            JsonNode params = params(methodMetadata, args);
+            if (batcher != null) {
+                id = generateBatchId();
+                return convertResult(returnType, awaitBatched(id, request(id, methodMetadata.name(), params)));
+            }
+            id = generateId();
+            return processResponse(returnType, execute(request(id, methodMetadata.name(), params), event));
+        } catch (JsonRpcException e) {
+            event.errorCode = e.getErrorMessage().getCode();
+            throw e;
+        } finally {
+            commit(event, method, methodMetadata, id);
+        }
+    }
+
+    private CompletableFuture<Object> invokeAsync(Method method, MethodMetadata methodMetadata,
+                                                  @Nullable Object[] args, JavaType resultType) {
+        ProxyInvocationEvent event = new ProxyInvocationEvent();
+        event.begin();
+        ValueNode id = null;
+        CompletableFuture<Object> result;
+        try {
+            JsonNode params = params(methodMetadata, args);
+            if (batcher != null) {
+                id = generateBatchId();
+                ObjectNode request = request(id, methodMetadata.name(), params);
+                result = batcher.submit(BatchRequestBuilder.nodeValue(id), request, false)
+                        .thenApply(resultNode -> convertResult(resultType, resultNode));
+            } else {
+                id = generateId();
+                result = executeAsync(request(id, methodMetadata.name(), params), event)
+                        .thenApply(responseNode -> {
+                            try {
+                                return processResponse(resultType, responseNode);
+                            } catch (JsonProcessingException e) {
+                                throw new CompletionException(e);
+                            }
+                        });
+            }
+        } catch (RuntimeException e) {
+            commit(event, method, methodMetadata, id);
+            throw e;
+        }
+        ValueNode requestId = id;
+        return result
+                .whenComplete((value, e) -> {
+                    if (e != null && unwrap(e) instanceof JsonRpcException jsonRpcException) {
+                        event.errorCode = jsonRpcException.getErrorMessage().getCode();
+                    }
+                    commit(event, method, methodMetadata, requestId);
+                });
+    }
+
+    /**
+     * Records the call into the batch scope
+     *
+     * @return future of the result for asynchronous methods, a placeholder for other methods
+     */
+    @Nullable
+    private Object record(MethodMetadata methodMetadata, @Nullable Object[] args, JavaType returnType,
+                          boolean async) {
+        JavaType resultType = async ? returnType.containedTypeOrUnknown(0) : returnType;
+        JsonNode params = params(methodMetadata, args);
+        ValueNode id = generateBatchId();
+        Class<?> rawClass = returnType.getRawClass();
+        // Results of void methods can't be deferred, and futures are returned to the caller
+        CompletableFuture<Object> result = scope.record(BatchRequestBuilder.nodeValue(id),
+                request(id, methodMetadata.name(), params), resultNode -> convertResult(resultType, resultNode),
+                !async && rawClass != void.class);
+        if (async) {
+            return result;
+        }
+        // Proxies can't return null for primitive types
+        return rawClass.isPrimitive() && rawClass != void.class ? Array.get(Array.newInstance(rawClass, 1), 0) : null;
+    }
+
+    /**
+     * Adds the request to the current batch and waits for its result
+     */
+    @Nullable
+    private JsonNode awaitBatched(ValueNode id, ObjectNode request) throws Throwable {
+        CompletableFuture<JsonNode> result = batcher.submit(BatchRequestBuilder.nodeValue(id), request, true);
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a batch response", e);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private ValueNode generateId() {
         IdGenerator<?> idGenerator = userIdGenerator != null ? userIdGenerator : classMetadata.idGenerator();
+        return new POJONode(idGenerator.generate());
+    }
+
+    /**
+     * Generates an id which is parsed back from a response to the same Java value,
+     * so the response can be matched with the request
+     */
+    private ValueNode generateBatchId() {
+        IdGenerator<?> idGenerator = userIdGenerator != null ? userIdGenerator : classMetadata.idGenerator();
+        JsonNode id = mapper.valueToTree(idGenerator.generate());
+        if (id.isIntegralNumber() && id.canConvertToInt()) {
+            return IntNode.valueOf(id.intValue());
+        } else if (id instanceof ValueNode valueNode) {
+            return valueNode;
+        }
+        throw new IllegalArgumentException("Wrong id=" + id);
+    }
+
+    private JsonNode params(MethodMetadata methodMetadata, @Nullable Object[] args) {
+        return getParams(methodMetadata, args, getParamsType(classMetadata, methodMetadata));
+    }
 
-        //  Construct a request
-        ValueNode id = new POJONode(idGenerator.generate());
-        String textResponse = execute(request(id, methodName, params));
+    private static void commit(ProxyInvocationEvent event, Method method, MethodMetadata methodMetadata,
+                               @Nullable ValueNode id) {
+        if (event.shouldCommit()) {
+            event.service = method.getDeclaringClass();
+            event.method = methodMetadata.name();
+            event.id = id != null ? id.asText() : null;
+            event.commit();
+        }
+    }
 
-        // Parse a response
-        JsonNode responseNode = mapper.readTree(textResponse);
+    /**
+     * Converts a response to the return type of the method or throws the error returned by the server
+     */
+    @Nullable
+    private Object processResponse(JavaType returnType, JsonNode responseNode) throws JsonProcessingException {
         JsonNode result = responseNode.get(RESULT);
         JsonNode error = responseNode.get(ERROR);
         if (result != null) {
-            JavaType returnType = mapper.getTypeFactory().constructType(method.getGenericReturnType());
-            if (returnType.getRawClass() == void.class) {
-                return null;
-            }
-            return mapper.convertValue(result, returnType);
+            return convertResult(returnType, result);
         } else {
             ErrorMessage errorMessage = mapper.treeToValue(error, ErrorMessage.class);
             throw new JsonRpcException(errorMessage);
         }
     }
 
+    /**
+     * Converts a result to the return type of the method
+     */
+    @Nullable
+    private Object convertResult(JavaType returnType, @Nullable JsonNode result) {
+        if (returnType.getRawClass() == void.class || returnType.getRawClass() == Void.class) {
+            return null;
+        }
+        return mapper.convertValue(result != null ? result : NullNode.instance, returnType);
+    }
+
     /**
      * Get request params in a JSON representation (map or array)
      */
@@ -120,22 +303,6 @@ public class ObjectApiBuilder extends AbstractBuilder implements InvocationHandl
         return paramsType == ParamsType.MAP ? paramsAsMap : paramsAsArray;
     }
 
-    /**
-     * Execute a request on a remote service and return a textual representation of a response
-     *
-     * @param request json representation of a request
-     * @return service response as a string
-     */
-    private String execute(ObjectNode request) {
-        try {
-            return transport.pass(mapper.writeValueAsString(request));
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException("Unable convert " + request + " to JSON", e);
-        } catch (IOException e) {
-            throw new IllegalStateException("I/O error during request processing", e);
-        }
-    }
-
     /**
      * Get style of params for a request.
      * It could be either on a method, class or user level. MAP is a fallback choice as default.
@@ -0,0 +1,97 @@
+package com.github.arteam.simplejsonrpc.client.builder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.arteam.simplejsonrpc.client.Transport;
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcBatchException;
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcException;
+import com.github.arteam.simplejsonrpc.core.domain.ErrorMessage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>Requests of proxy calls which are going to be sent as a batch JSON-RPC request.</p>
+ * <p>Every call gets a future of its result node, which is completed by a response with the same id.</p>
+ */
+class PendingBatch {
+
+    private final List<ObjectNode> requests = new ArrayList<>();
+    private final Map<Object, CompletableFuture<JsonNode>> calls = new LinkedHashMap<>();
+
+    /**
+     * Adds a request to the batch
+     *
+     * @param id      request id as a Java value
+     * @param request JSON-RPC request
+     * @return future of the result node. It's completed exceptionally with {@link JsonRpcException}
+     * if the server returned an error for the request.
+     */
+    CompletableFuture<JsonNode> add(Object id, ObjectNode request) {
+        CompletableFuture<JsonNode> future = new CompletableFuture<>();
+        requests.add(request);
+        calls.put(id, future);
+        return future;
+    }
+
+    boolean contains(Object id) {
+        return calls.containsKey(id);
+    }
+
+    int size() {
+        return requests.size();
+    }
+
+    /**
+     * Sends the requests and routes the responses back to the calls by ids
+     *
+     * @return future which is completed when all the calls are completed
+     */
+    CompletableFuture<Void> send(Transport transport, ObjectMapper mapper) {
+        CompletableFuture<Map<Object, JsonNode>> response;
+        try {
+            response = new BatchRequestBuilder<Object, JsonNode>(transport, mapper, requests, new HashMap<>(), null,
+                    mapper.constructType(JsonNode.class))
+                    .executeAsync();
+        } catch (RuntimeException e) {
+            fail(e);
+            return CompletableFuture.completedFuture(null);
+        }
+        return response.handle((results, e) -> {
+            if (e == null) {
+                complete(results, Map.of());
+            } else if (AbstractBuilder.unwrap(e) instanceof JsonRpcBatchException batchException) {
+                complete(batchException.getSuccesses(), batchException.getErrors());
+            } else {
+                fail(AbstractBuilder.unwrap(e));
+            }
+            return null;
+        });
+    }
+
+    private void complete(Map<?, ?> successes, Map<?, ErrorMessage> errors) {
+        for (Map.Entry<Object, CompletableFuture<JsonNode>> call : calls.entrySet()) {
+            Object id = call.getKey();
+            ErrorMessage error = errors.get(id);
+            if (error != null) {
+                call.getValue().completeExceptionally(new JsonRpcException(error));
+            } else if (successes.containsKey(id)) {
+                call.getValue().complete((JsonNode) successes.get(id));
+            } else {
+                call.getValue().completeExceptionally(
+                        new IllegalStateException("No response for the request with id='" + id + "'"));
+            }
+        }
+    }
+
+    private void fail(Throwable e) {
+        for (CompletableFuture<JsonNode> future : calls.values()) {
+            future.completeExceptionally(e);
+        }
+    }
+}
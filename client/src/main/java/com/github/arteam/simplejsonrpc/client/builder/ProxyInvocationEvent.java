@@ -0,0 +1,49 @@
+package com.github.arteam.simplejsonrpc.client.builder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>JFR event of an invocation of a method of a proxy created by {@link ObjectApiBuilder}</p>
+ */
+@Name("com.github.arteam.simplejsonrpc.client.ProxyInvocation")
+@Label("JSON-RPC Proxy Invocation")
+@Description("Invocation of a remote method through a service interface")
+@Category({"JSON-RPC", "Client"})
+@StackTrace(false)
+class ProxyInvocationEvent extends jdk.jfr.Event implements TransferEvent {
+
+    @Label("Service")
+    Class<?> service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Id")
+    String id;
+
+    @Label("Request Length")
+    @Description("Length of the request in chars, or in bytes for a byte transport")
+    long requestLength;
+
+    @Label("Response Length")
+    @Description("Length of the response in chars, or in bytes for a byte transport")
+    long responseLength;
+
+    @Label("Error Code")
+    @Description("Error code returned by the server, 0 if there is no error")
+    int errorCode;
+
+    @Override
+    public void requestLength(long requestLength) {
+        this.requestLength = requestLength;
+    }
+
+    @Override
+    public void responseLength(long responseLength) {
+        this.responseLength = responseLength;
+    }
+}
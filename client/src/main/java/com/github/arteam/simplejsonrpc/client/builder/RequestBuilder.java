@@ -18,11 +18,11 @@ import com.github.arteam.simplejsonrpc.client.exception.JsonRpcException;
 import com.github.arteam.simplejsonrpc.core.domain.ErrorMessage;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Date: 8/9/14
@@ -296,12 +296,112 @@ public class RequestBuilder<T> extends AbstractBuilder {
         return executeAndConvert();
     }
 
+    /**
+     * Execute a request through {@link Transport} without blocking the caller thread,
+     * if the transport is an {@link com.github.arteam.simplejsonrpc.client.AsyncTransport},
+     * and convert a not null response to an expected type
+     *
+     * @return future of an expected not null response. It's completed exceptionally with
+     * {@link JsonRpcException} in case of JSON-RPC error, returned by the server,
+     * and with {@link IllegalStateException} if the response is null.
+     */
+    public CompletableFuture<T> executeAsync() {
+        return executeAndConvertAsync().thenApply(result -> {
+            if (result == null) {
+                throw new IllegalStateException("Response is null. Use 'executeNullableAsync' if this is acceptable");
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Execute a request through {@link Transport} without blocking the caller thread,
+     * if the transport is an {@link com.github.arteam.simplejsonrpc.client.AsyncTransport},
+     * and convert a nullable response to an expected type
+     *
+     * @return future of an expected response. It's completed exceptionally with
+     * {@link JsonRpcException} in case of JSON-RPC error, returned by the server.
+     */
+    public CompletableFuture<T> executeNullableAsync() {
+        return executeAndConvertAsync();
+    }
+
     @Nullable
     private T executeAndConvert() {
-        String textResponse = executeRequest();
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        try {
+            return convertResponse(execute(request(id, method, params()), event));
+        } catch (JsonRpcException e) {
+            event.errorCode = e.getErrorMessage().getCode();
+            throw e;
+        } finally {
+            commit(event, false);
+        }
+    }
+
+    /**
+     * Execute a notification request through {@link Transport} without processing the response
+     */
+    void executeNotification() {
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        try {
+            executeNotification(request(id, method, params()), event);
+        } finally {
+            commit(event, true);
+        }
+    }
 
+    private CompletableFuture<T> executeAndConvertAsync() {
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        CompletableFuture<JsonNode> response;
+        try {
+            response = executeAsync(request(id, method, params()), event);
+        } catch (RuntimeException e) {
+            commit(event, false);
+            throw e;
+        }
+        return response
+                .thenApply(this::convertResponse)
+                .whenComplete((result, e) -> {
+                    if (e != null && unwrap(e) instanceof JsonRpcException jsonRpcException) {
+                        event.errorCode = jsonRpcException.getErrorMessage().getCode();
+                    }
+                    commit(event, false);
+                });
+    }
+
+    /**
+     * Execute a notification request through {@link Transport} without blocking the caller thread
+     * and without processing the response
+     */
+    CompletableFuture<Void> executeNotificationAsync() {
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        CompletableFuture<Void> response;
+        try {
+            response = executeNotificationAsync(request(id, method, params()), event);
+        } catch (RuntimeException e) {
+            commit(event, true);
+            throw e;
+        }
+        return response.whenComplete((result, e) -> commit(event, true));
+    }
+
+    private void commit(RequestEvent event, boolean notification) {
+        if (event.shouldCommit()) {
+            event.method = method;
+            event.id = id.isNull() ? null : id.asText();
+            event.notification = notification;
+            event.commit();
+        }
+    }
+
+    @Nullable
+    private T convertResponse(JsonNode responseNode) {
         try {
-            JsonNode responseNode = mapper.readTree(textResponse);
             JsonNode result = responseNode.get(RESULT);
             JsonNode error = responseNode.get(ERROR);
             JsonNode version = responseNode.get(JSONRPC);
@@ -328,25 +428,8 @@ public class RequestBuilder<T> extends AbstractBuilder {
                 throw new JsonRpcException(errorMessage);
             }
         } catch (JsonProcessingException e) {
-            throw new IllegalStateException("Unable parse a JSON response: " + textResponse, e);
-        }
-    }
-
-    String executeRequest() {
-        ObjectNode requestNode = request(id, method, params());
-        String textRequest;
-        String textResponse;
-        try {
-            textRequest = mapper.writeValueAsString(requestNode);
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException("Unable convert " + requestNode + " to JSON", e);
-        }
-        try {
-            textResponse = transport.pass(textRequest);
-        } catch (IOException e) {
-            throw new IllegalStateException("I/O error during a request processing", e);
+            throw new IllegalStateException("Unable parse a JSON response: " + responseNode, e);
         }
-        return textResponse;
     }
 
     private JsonNode params() {
@@ -0,0 +1,49 @@
+package com.github.arteam.simplejsonrpc.client.builder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>JFR event of a request executed by {@link RequestBuilder} or {@link NotificationRequestBuilder}</p>
+ */
+@Name("com.github.arteam.simplejsonrpc.client.Request")
+@Label("JSON-RPC Request")
+@Description("Serialization of a request, its transfer and conversion of the response")
+@Category({"JSON-RPC", "Client"})
+@StackTrace(false)
+class RequestEvent extends jdk.jfr.Event implements TransferEvent {
+
+    @Label("Method")
+    String method;
+
+    @Label("Id")
+    String id;
+
+    @Label("Notification")
+    boolean notification;
+
+    @Label("Request Length")
+    @Description("Length of the request in chars, or in bytes for a byte transport")
+    long requestLength;
+
+    @Label("Response Length")
+    @Description("Length of the response in chars, or in bytes for a byte transport")
+    long responseLength;
+
+    @Label("Error Code")
+    @Description("Error code returned by the server, 0 if there is no error")
+    int errorCode;
+
+    @Override
+    public void requestLength(long requestLength) {
+        this.requestLength = requestLength;
+    }
+
+    @Override
+    public void responseLength(long responseLength) {
+        this.responseLength = responseLength;
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.arteam.simplejsonrpc.client.builder;
+
+/**
+ * <p>JFR event which records lengths of a request and its response</p>
+ */
+interface TransferEvent {
+
+    void requestLength(long requestLength);
+
+    void responseLength(long responseLength);
+}
@@ -0,0 +1,35 @@
+package com.github.arteam.simplejsonrpc.client;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>Access to virtual threads.</p>
+ * This is the Java 21 version from {@code META-INF/versions/21} of the multi-release JAR.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return whether the runtime supports virtual threads
+     */
+    static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * @return a new executor which starts a virtual thread for each task
+     */
+    static ExecutorService newThreadPerTaskExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * @return whether the thread is virtual
+     */
+    static boolean isVirtual(Thread thread) {
+        return thread.isVirtual();
+    }
+}
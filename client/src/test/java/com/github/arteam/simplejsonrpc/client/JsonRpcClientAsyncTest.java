@@ -0,0 +1,275 @@
+package com.github.arteam.simplejsonrpc.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcBatchException;
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcException;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests requests through an asynchronous transport
+ */
+public class JsonRpcClientAsyncTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final DeferredTransport transport = new DeferredTransport();
+    private final JsonRpcClient client = new JsonRpcClient(transport, mapper);
+
+    @Test
+    public void testExecuteAsync() throws Exception {
+        CompletableFuture<Long> future = client.createRequest()
+                .method("sum")
+                .id(1)
+                .params(2, 3)
+                .returnAs(Long.class)
+                .executeAsync();
+        assertThat(future).isNotDone();
+
+        transport.respond();
+        assertThat(future.get()).isEqualTo(5L);
+    }
+
+    @Test
+    public void testExecuteAsyncError() {
+        CompletableFuture<Long> future = client.createRequest()
+                .method("fail")
+                .id(2)
+                .returnAs(Long.class)
+                .executeAsync();
+        transport.respond();
+
+        assertThatThrownBy(future::get)
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(JsonRpcException.class)
+                .hasMessageContaining("Method not found");
+    }
+
+    @Test
+    public void testExecuteNullableAsync() throws Exception {
+        CompletableFuture<String> future = client.createRequest()
+                .method("nothing")
+                .id(3)
+                .returnAs(String.class)
+                .executeNullableAsync();
+        transport.respond();
+
+        assertThat(future.get()).isNull();
+    }
+
+    @Test
+    public void testIOError() {
+        JsonRpcClient failingClient = new JsonRpcClient((AsyncTransport) request ->
+                CompletableFuture.failedFuture(new IOException("Connection refused")));
+        CompletableFuture<Object> future = failingClient.createRequest().method("sum").id(1).executeAsync();
+
+        assertThatThrownBy(future::get)
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void testNotificationAsync() throws Exception {
+        CompletableFuture<Void> future = client.createNotification().method("sum").params(2, 3).executeAsync();
+        assertThat(future).isNotDone();
+
+        transport.respond();
+        future.get();
+        assertThat(transport.requests).hasSize(1);
+        assertThat(transport.requests.get(0).has("id")).isFalse();
+    }
+
+    @Test
+    public void testBatchAsync() throws Exception {
+        CompletableFuture<Map<Integer, Long>> future = client.createBatchRequest()
+                .add(1, "sum", 1, 2)
+                .add(2, "sum", 3, 4)
+                .keysType(Integer.class)
+                .returnType(Long.class)
+                .executeAsync();
+        assertThat(future).isNotDone();
+
+        transport.respond();
+        assertThat(future.get()).isEqualTo(Map.of(1, 3L, 2, 7L));
+    }
+
+    @Test
+    public void testBatchAsyncError() {
+        CompletableFuture<Map<Integer, Long>> future = client.createBatchRequest()
+                .add(1, "sum", 1, 2)
+                .add(2, "fail")
+                .keysType(Integer.class)
+                .returnType(Long.class)
+                .executeAsync();
+        transport.respond();
+
+        assertThatThrownBy(future::get).cause().isInstanceOf(JsonRpcBatchException.class);
+    }
+
+    @Test
+    public void testProxy() throws Exception {
+        CalculatorService service = client.onDemand(CalculatorService.class);
+        CompletableFuture<Long> sum = service.sum(2, 3);
+        CompletionStage<List<String>> split = service.split("a,b");
+        CompletableFuture<Void> fail = service.fail();
+        assertThat(sum).isNotDone();
+
+        transport.respond();
+        assertThat(sum.get()).isEqualTo(5L);
+        assertThat(split.toCompletableFuture().get()).containsExactly("a", "b");
+        assertThatThrownBy(fail::get).cause().isInstanceOf(JsonRpcException.class);
+        assertThat(service.blockingSum(4, 5)).isEqualTo(9L);
+    }
+
+    @Test
+    public void testBlockingTransport() throws Exception {
+        JsonRpcClient blockingClient = new JsonRpcClient(request -> {
+            transport.passAsync(request);
+            return transport.respond().get(0);
+        }, mapper);
+        CompletableFuture<Long> future = blockingClient.onDemand(CalculatorService.class).sum(2, 3);
+
+        assertThat(future).isCompleted();
+        assertThat(future.get()).isEqualTo(5L);
+    }
+
+    @Test
+    public void testAsyncByteTransport() throws Exception {
+        JsonRpcClient byteClient = new JsonRpcClient(new AsyncByteTransport(), mapper);
+        CompletableFuture<Long> future = byteClient.onDemand(CalculatorService.class).sum(2, 3);
+        CompletableFuture<Void> notification = byteClient.createNotification().method("sum").params(1, 1)
+                .executeAsync();
+        assertThat(future).isNotDone();
+
+        transport.respond();
+        assertThat(future.get()).isEqualTo(5L);
+        assertThat(notification.get()).isNull();
+    }
+
+    @JsonRpcService
+    public interface CalculatorService {
+
+        @JsonRpcMethod
+        CompletableFuture<Long> sum(@JsonRpcParam("a") long a, @JsonRpcParam("b") long b);
+
+        @JsonRpcMethod
+        CompletionStage<List<String>> split(@JsonRpcParam("text") String text);
+
+        @JsonRpcMethod
+        CompletableFuture<Void> fail();
+
+        @JsonRpcMethod("sum")
+        long blockingSum(@JsonRpcParam("a") long a, @JsonRpcParam("b") long b);
+    }
+
+    /**
+     * Passes bytes to the deferred transport and fails on strings
+     */
+    private class AsyncByteTransport implements AsyncTransport, ByteTransport {
+
+        @Override
+        public CompletableFuture<String> passAsync(String request) {
+            throw new AssertionError("Requests should be passed as bytes");
+        }
+
+        @Override
+        public CompletableFuture<byte[]> passAsync(byte[] request) {
+            return transport.passAsync(new String(request, StandardCharsets.UTF_8))
+                    .thenApply(response -> response.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String pass(String request) {
+            throw new AssertionError("Requests should be passed as bytes");
+        }
+
+        @Override
+        public byte[] pass(byte[] request) throws IOException {
+            return transport.pass(new String(request, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Holds requests until {@link #respond()} is called. Blocking calls are answered immediately.
+     */
+    private class DeferredTransport implements AsyncTransport {
+
+        private final List<JsonNode> requests = new ArrayList<>();
+        private final List<CompletableFuture<String>> pending = new ArrayList<>();
+
+        @Override
+        public synchronized CompletableFuture<String> passAsync(String request) {
+            try {
+                requests.add(mapper.readTree(request));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            CompletableFuture<String> response = new CompletableFuture<>();
+            pending.add(response);
+            return response;
+        }
+
+        @Override
+        public String pass(String request) throws IOException {
+            passAsync(request);
+            return respond().get(0);
+        }
+
+        synchronized List<String> respond() {
+            List<String> responses = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                JsonNode request = requests.get(requests.size() - pending.size() + i);
+                String response = request.isArray() ? batchResponse(request) : response(request).toString();
+                responses.add(response);
+                pending.get(i).complete(response);
+            }
+            pending.clear();
+            return responses;
+        }
+
+        private String batchResponse(JsonNode batch) {
+            ArrayNode responses = mapper.createArrayNode();
+            for (JsonNode request : batch) {
+                responses.add(response(request));
+            }
+            return responses.toString();
+        }
+
+        private ObjectNode response(JsonNode request) {
+            ObjectNode response = mapper.createObjectNode().put("jsonrpc", "2.0");
+            response.set("id", request.get("id"));
+            JsonNode params = request.get("params");
+            switch (request.get("method").asText()) {
+                case "sum" -> response.put("result", param(params, "a", 0).asLong() + param(params, "b", 1).asLong());
+                case "split" -> response.set("result", mapper.valueToTree(param(params, "text", 0).asText().split(",")));
+                case "nothing" -> response.putNull("result");
+                default -> response.putObject("error").put("code", -32601).put("message", "Method not found");
+            }
+            return response;
+        }
+
+        private JsonNode param(JsonNode params, String name, int index) {
+            return params.isArray() ? params.get(index) : params.get(name);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.github.arteam.simplejsonrpc.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcException;
+import com.github.arteam.simplejsonrpc.client.generator.AtomicLongIdGenerator;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests collecting calls of proxies into batch requests
+ */
+public class JsonRpcClientAutoBatchingTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final EchoTransport transport = new EchoTransport();
+    private final JsonRpcClient client = new JsonRpcClient(transport, mapper);
+
+    @Test
+    public void testConcurrentCalls() throws Exception {
+        EchoService service = client.autoBatching(4, Duration.ofSeconds(10))
+                .onDemand(EchoService.class, new AtomicLongIdGenerator());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                String text = "Player " + i;
+                futures.add(executor.submit(() -> service.echo(text)));
+            }
+            for (int i = 0; i < 4; i++) {
+                assertThat(futures.get(i).get()).isEqualTo("Player " + i);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(transport.requests).hasSize(1);
+        assertThat(transport.requests.get(0)).hasSize(4);
+    }
+
+    @Test
+    public void testDelay() {
+        EchoService service = client.autoBatching(100, Duration.ofMillis(10)).onDemand(EchoService.class);
+
+        assertThat(service.echo("Steven")).isEqualTo("Steven");
+        assertThat(service.echo("Stamkos")).isEqualTo("Stamkos");
+        assertThat(transport.requests).hasSize(2);
+        assertThat(transport.requests.get(0).isArray()).isTrue();
+    }
+
+    @Test
+    public void testAsyncCalls() throws Exception {
+        EchoService service = client.autoBatching(3, Duration.ofSeconds(10)).onDemand(EchoService.class);
+
+        CompletableFuture<String> first = service.echoAsync("Steven");
+        CompletableFuture<String> second = service.echoAsync("Stamkos");
+        assertThat(first).isNotDone();
+        CompletableFuture<String> third = service.echoAsync("Hedman");
+
+        assertThat(first.get()).isEqualTo("Steven");
+        assertThat(second.get()).isEqualTo("Stamkos");
+        assertThat(third.get()).isEqualTo("Hedman");
+        assertThat(transport.requests).hasSize(1);
+    }
+
+    @Test
+    public void testAsyncDelay() throws Exception {
+        EchoService service = client.autoBatching(100, Duration.ofMillis(10)).onDemand(EchoService.class);
+
+        CompletableFuture<String> first = service.echoAsync("Steven");
+        CompletableFuture<String> second = service.echoAsync("Stamkos");
+
+        assertThat(first.get()).isEqualTo("Steven");
+        assertThat(second.get()).isEqualTo("Stamkos");
+        assertThat(transport.requests).hasSize(1);
+        assertThat(transport.requests.get(0)).hasSize(2);
+    }
+
+    @Test
+    public void testAsyncBatchIsSentAfterDelay() throws Exception {
+        EchoService service = client.autoBatching(100, Duration.ofMillis(500)).onDemand(EchoService.class);
+
+        long startNanos = System.nanoTime();
+        CompletableFuture<String> first = service.echoAsync("Steven");
+        CompletableFuture<String> second = service.echoAsync("Stamkos");
+        assertThat(first.get()).isEqualTo("Steven");
+        assertThat(second.get()).isEqualTo("Stamkos");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        // The window is closed once, not waited for a second time
+        assertThat(elapsedMillis).isBetween(450L, 900L);
+        assertThat(transport.requests).hasSize(1);
+    }
+
+    @Test
+    public void testAsyncBatchIsNotSentFromCommonPool() throws Exception {
+        EchoService service = client.autoBatching(100, Duration.ofMillis(10)).onDemand(EchoService.class);
+
+        assertThat(service.echoAsync("Steven").get()).isEqualTo("Steven");
+        assertThat(transport.threads).hasSize(1);
+        assertThat(transport.threads.get(0)).startsWith("json-rpc-batch-");
+    }
+
+    @Test
+    public void testAsyncBatchIsSentByExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "batch-sender"));
+        try {
+            EchoService service = client.autoBatching(100, Duration.ofMillis(10), executor)
+                    .onDemand(EchoService.class);
+
+            assertThat(service.echoAsync("Steven").get()).isEqualTo("Steven");
+            assertThat(transport.threads).containsExactly("batch-sender");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testErrorIsRoutedToItsCaller() {
+        EchoService service = client.autoBatching(2, Duration.ofSeconds(10)).onDemand(EchoService.class);
+
+        CompletableFuture<String> echo = service.echoAsync("Steven");
+        CompletableFuture<String> fail = service.failAsync();
+
+        assertThat(echo.join()).isEqualTo("Steven");
+        assertThatThrownBy(fail::get)
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(JsonRpcException.class)
+                .hasMessageContaining("Method not found");
+    }
+
+    @Test
+    public void testBlockingError() {
+        EchoService service = client.autoBatching(1, Duration.ofSeconds(10)).onDemand(EchoService.class);
+
+        assertThatThrownBy(service::fail)
+                .isInstanceOf(JsonRpcException.class)
+                .hasMessageContaining("Method not found");
+    }
+
+    @Test
+    public void testRepeatedId() throws Exception {
+        EchoService service = client.autoBatching(100, Duration.ofMillis(10))
+                .onDemand(EchoService.class, () -> 42);
+
+        CompletableFuture<String> first = service.echoAsync("Steven");
+        CompletableFuture<String> second = service.echoAsync("Stamkos");
+
+        assertThat(first.get()).isEqualTo("Steven");
+        assertThat(second.get()).isEqualTo("Stamkos");
+        assertThat(transport.requests).hasSize(2);
+    }
+
+    @Test
+    public void testMissingResponse() {
+        transport.dropResponses = true;
+        EchoService service = client.autoBatching(1, Duration.ofSeconds(10)).onDemand(EchoService.class);
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> service.echo("Steven"))
+                .withMessageStartingWith("No response for the request");
+    }
+
+    @Test
+    public void testIOError() {
+        JsonRpcClient failingClient = new JsonRpcClient(request -> {
+            throw new IOException("Connection refused");
+        }).autoBatching(2, Duration.ofSeconds(10));
+        EchoService service = failingClient.onDemand(EchoService.class);
+
+        CompletableFuture<String> first = service.echoAsync("Steven");
+        CompletableFuture<String> second = service.echoAsync("Stamkos");
+
+        for (CompletableFuture<String> future : List.of(first, second)) {
+            assertThatThrownBy(future::get)
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("I/O error during a request processing");
+        }
+    }
+
+    @Test
+    public void testBadWindow() {
+        assertThatIllegalArgumentException().isThrownBy(() -> client.autoBatching(0, Duration.ofMillis(1)));
+        assertThatIllegalArgumentException().isThrownBy(() -> client.autoBatching(10, Duration.ofMillis(-1)));
+    }
+
+    @JsonRpcService
+    public interface EchoService {
+
+        @JsonRpcMethod
+        String echo(@JsonRpcParam("text") String text);
+
+        @JsonRpcMethod("echo")
+        CompletableFuture<String> echoAsync(@JsonRpcParam("text") String text);
+
+        @JsonRpcMethod
+        String fail();
+
+        @JsonRpcMethod("fail")
+        CompletableFuture<String> failAsync();
+    }
+
+    private class EchoTransport implements Transport {
+
+        private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        private volatile boolean dropResponses;
+
+        @Override
+        public String pass(String request) throws IOException {
+            JsonNode requestNode = mapper.readTree(request);
+            requests.add(requestNode);
+            threads.add(Thread.currentThread().getName());
+            ArrayNode responses = mapper.createArrayNode();
+            if (!dropResponses) {
+                requestNode.forEach(node -> responses.add(response(node)));
+            }
+            return responses.toString();
+        }
+
+        private ObjectNode response(JsonNode request) {
+            ObjectNode response = mapper.createObjectNode().put("jsonrpc", "2.0");
+            response.set("id", request.get("id"));
+            if (request.get("method").asText().equals("echo")) {
+                response.set("result", request.get("params").get("text"));
+            } else {
+                response.putObject("error").put("code", -32601).put("message", "Method not found");
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.github.arteam.simplejsonrpc.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.arteam.simplejsonrpc.client.builder.Deferred;
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcBatchException;
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcException;
+import com.github.arteam.simplejsonrpc.client.generator.AtomicLongIdGenerator;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests batch requests through proxies of a batch scope
+ */
+public class JsonRpcClientBatchScopeTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final EchoTransport transport = new EchoTransport();
+    private final JsonRpcClient client = new JsonRpcClient(transport, mapper);
+
+    @Test
+    public void testTypedResults() {
+        AtomicReference<Deferred<String>> echo = new AtomicReference<>();
+        AtomicReference<Deferred<Integer>> length = new AtomicReference<>();
+        AtomicReference<Deferred<List<String>>> words = new AtomicReference<>();
+        client.batch(scope -> {
+            EchoService service = scope.proxy(EchoService.class);
+            echo.set(scope.defer(service.echo("Steven")));
+            length.set(scope.defer(service.length("Stamkos")));
+            words.set(scope.defer(service.split("Steven Stamkos")));
+            assertThat(echo.get().isDone()).isFalse();
+        });
+
+        assertThat(echo.get().get()).isEqualTo("Steven");
+        assertThat(length.get().get()).isEqualTo(7);
+        assertThat(words.get().get()).containsExactly("Steven", "Stamkos");
+        assertThat(transport.requests).hasSize(1);
+        assertThat(transport.requests.get(0)).hasSize(3);
+    }
+
+    @Test
+    public void testFutures() throws Exception {
+        AtomicReference<CompletableFuture<String>> future = new AtomicReference<>();
+        client.batch(scope -> {
+            future.set(scope.proxy(EchoService.class).echoAsync("Steven"));
+            assertThat(future.get()).isNotDone();
+        });
+
+        assertThat(future.get().get()).isEqualTo("Steven");
+    }
+
+    @Test
+    public void testErrors() {
+        assertThatThrownBy(() -> client.batch(scope -> {
+            EchoService service = scope.proxy(EchoService.class, new AtomicLongIdGenerator());
+            service.echo("Steven");
+            service.fail();
+        }))
+                .isInstanceOfSatisfying(JsonRpcBatchException.class, e -> {
+                    assertThat(e.getSuccesses()).hasSize(1);
+                    assertThat(e.getErrors()).hasSize(1);
+                });
+    }
+
+    @Test
+    public void testDeferredError() {
+        AtomicReference<Deferred<String>> echo = new AtomicReference<>();
+        AtomicReference<Deferred<String>> unknown = new AtomicReference<>();
+        assertThatThrownBy(() -> client.batch(scope -> {
+            EchoService service = scope.proxy(EchoService.class);
+            echo.set(scope.defer(service.echo("Steven")));
+            unknown.set(scope.defer(service.unknown()));
+        }))
+                .isInstanceOfSatisfying(JsonRpcBatchException.class,
+                        e -> assertThat(List.<Object>copyOf(e.getSuccesses().values())).containsExactly("Steven"));
+
+        assertThat(echo.get().get()).isEqualTo("Steven");
+        assertThatThrownBy(() -> unknown.get().get())
+                .isInstanceOf(JsonRpcException.class)
+                .hasMessageContaining("Method not found");
+    }
+
+    @Test
+    public void testEmptyScope() {
+        client.batch(scope -> scope.proxy(EchoService.class));
+
+        assertThat(transport.requests).isEmpty();
+    }
+
+    @Test
+    public void testNotExecuted() {
+        client.batch(scope -> {
+            Deferred<String> echo = scope.defer(scope.proxy(EchoService.class).echo("Steven"));
+            assertThatIllegalStateException().isThrownBy(echo::get);
+        });
+    }
+
+    @Test
+    public void testDeferWithoutCall() {
+        assertThatIllegalStateException().isThrownBy(() -> client.batch(scope -> scope.defer("Steven")));
+    }
+
+    @Test
+    public void testDeferOfSeveralCalls() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> client.batch(scope -> {
+                    EchoService service = scope.proxy(EchoService.class, new AtomicLongIdGenerator());
+                    service.echo("Steven");
+                    scope.defer(service.length("Stamkos"));
+                }))
+                .withMessageContaining("2 calls are pending");
+    }
+
+    @Test
+    public void testDuplicateId() {
+        assertThatIllegalArgumentException().isThrownBy(() -> client.batch(scope -> {
+            EchoService service = scope.proxy(EchoService.class, () -> 42L);
+            service.echo("Steven");
+            service.echo("Stamkos");
+        }));
+    }
+
+    @Test
+    public void testIOError() {
+        JsonRpcClient failingClient = new JsonRpcClient(request -> {
+            throw new IOException("Connection refused");
+        });
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> failingClient.batch(scope -> scope.proxy(EchoService.class).echo("Steven")))
+                .withMessage("I/O error during a request processing");
+    }
+
+    @JsonRpcService
+    public interface EchoService {
+
+        @JsonRpcMethod
+        String echo(@JsonRpcParam("text") String text);
+
+        @JsonRpcMethod("echo")
+        CompletableFuture<String> echoAsync(@JsonRpcParam("text") String text);
+
+        @JsonRpcMethod
+        int length(@JsonRpcParam("text") String text);
+
+        @JsonRpcMethod
+        List<String> split(@JsonRpcParam("text") String text);
+
+        @JsonRpcMethod
+        void fail();
+
+        @JsonRpcMethod
+        String unknown();
+    }
+
+    private class EchoTransport implements Transport {
+
+        private final List<JsonNode> requests = new ArrayList<>();
+
+        @Override
+        public String pass(String request) throws IOException {
+            JsonNode requestNode = mapper.readTree(request);
+            requests.add(requestNode);
+            ArrayNode responses = mapper.createArrayNode();
+            requestNode.forEach(node -> responses.add(response(node)));
+            return responses.toString();
+        }
+
+        private ObjectNode response(JsonNode request) {
+            ObjectNode response = mapper.createObjectNode().put("jsonrpc", "2.0");
+            response.set("id", request.get("id"));
+            JsonNode params = request.get("params");
+            switch (request.get("method").asText()) {
+                case "echo" -> response.set("result", params.get("text"));
+                case "length" -> response.put("result", params.get("text").asText().length());
+                case "split" -> {
+                    ArrayNode words = response.putArray("result");
+                    for (String word : params.get("text").asText().split(" ")) {
+                        words.add(word);
+                    }
+                }
+                default -> response.putObject("error").put("code", -32601).put("message", "Method not found");
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.github.arteam.simplejsonrpc.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcException;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests requests through a transport of bytes
+ */
+public class JsonRpcClientByteTransportTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final EchoTransport transport = new EchoTransport();
+    private final JsonRpcClient client = new JsonRpcClient(transport, mapper);
+
+    @Test
+    public void testRequest() {
+        String name = client.createRequest()
+                .method("echo")
+                .id(1)
+                .params("Łukasz Kępa 🏒")
+                .returnAs(String.class)
+                .execute();
+
+        assertThat(name).isEqualTo("Łukasz Kępa 🏒");
+        assertThat(transport.requests).hasSize(1);
+    }
+
+    @Test
+    public void testError() {
+        assertThatThrownBy(() -> client.createRequest().method("fail").id(2).execute())
+                .isInstanceOf(JsonRpcException.class);
+    }
+
+    @Test
+    public void testNotification() {
+        client.createNotification().method("echo").params("Steven").execute();
+
+        assertThat(transport.requests).hasSize(1);
+        assertThat(transport.requests.get(0).has("id")).isFalse();
+    }
+
+    @Test
+    public void testBatch() {
+        Map<Integer, String> responses = client.createBatchRequest()
+                .add(1, "echo", "Steven")
+                .add(2, "echo", "Stamkos")
+                .keysType(Integer.class)
+                .returnType(String.class)
+                .execute();
+
+        assertThat(responses).isEqualTo(Map.of(1, "Steven", 2, "Stamkos"));
+    }
+
+    @Test
+    public void testProxy() throws Exception {
+        EchoService service = client.onDemand(EchoService.class);
+
+        assertThat(service.echo("Steven")).isEqualTo("Steven");
+        CompletableFuture<String> future = service.echoAsync("Stamkos");
+        assertThat(future).isCompleted();
+        assertThat(future.get()).isEqualTo("Stamkos");
+    }
+
+    @Test
+    public void testIOError() {
+        JsonRpcClient failingClient = new JsonRpcClient((ByteTransport) request -> {
+            throw new IOException("Connection reset");
+        });
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> failingClient.createRequest().method("echo").id(1).params("a").execute())
+                .withMessage("I/O error during a request processing");
+    }
+
+    @Test
+    public void testNotJsonResponse() {
+        JsonRpcClient brokenClient = new JsonRpcClient((ByteTransport) request ->
+                "test data".getBytes(StandardCharsets.UTF_8));
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> brokenClient.createRequest().method("echo").id(1).params("a").execute())
+                .withMessage("Unable parse a JSON response: test data");
+    }
+
+    @Test
+    public void testTextBridge() throws IOException {
+        ByteTransport byteTransport = request -> request;
+
+        assertThat(byteTransport.pass("Łukasz")).isEqualTo("Łukasz");
+    }
+
+    @JsonRpcService
+    public interface EchoService {
+
+        @JsonRpcMethod
+        String echo(@JsonRpcParam("text") String text);
+
+        @JsonRpcMethod("echo")
+        CompletableFuture<String> echoAsync(@JsonRpcParam("text") String text);
+    }
+
+    private class EchoTransport implements ByteTransport {
+
+        private final List<JsonNode> requests = new ArrayList<>();
+
+        @Override
+        public byte[] pass(byte[] request) throws IOException {
+            JsonNode requestNode = mapper.readTree(request);
+            requests.add(requestNode);
+            if (requestNode.isArray()) {
+                ArrayNode responses = mapper.createArrayNode();
+                requestNode.forEach(node -> responses.add(response(node)));
+                return mapper.writeValueAsBytes(responses);
+            }
+            return mapper.writeValueAsBytes(response(requestNode));
+        }
+
+        @Override
+        public String pass(String request) {
+            throw new AssertionError("Requests should be passed as bytes");
+        }
+
+        private ObjectNode response(JsonNode request) {
+            ObjectNode response = mapper.createObjectNode().put("jsonrpc", "2.0");
+            response.set("id", request.get("id"));
+            if (request.get("method").asText().equals("echo")) {
+                JsonNode params = request.get("params");
+                response.set("result", params.isArray() ? params.get(0) : params.get("text"));
+            } else {
+                response.putObject("error").put("code", -32601).put("message", "Method not found");
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.arteam.simplejsonrpc.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.arteam.simplejsonrpc.client.exception.JsonRpcException;
+import com.github.arteam.simplejsonrpc.client.object.FixedIntegerIdGenerator;
+import com.github.arteam.simplejsonrpc.client.object.TeamService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests JFR events of the client
+ */
+public class JsonRpcClientFlightRecorderTest {
+
+    private static final String EVENT_PREFIX = "com.github.arteam.simplejsonrpc.client.";
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testRequest() throws Exception {
+        String response = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":19}";
+        JsonRpcClient client = new JsonRpcClient(request -> response, mapper);
+
+        List<RecordedEvent> events = record("Request", () -> client.createRequest()
+                .method("subtract")
+                .id(1)
+                .params(42, 23)
+                .returnAs(Long.class)
+                .execute());
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("method")).isEqualTo("subtract");
+        assertThat(event.getString("id")).isEqualTo("1");
+        assertThat(event.getBoolean("notification")).isFalse();
+        assertThat(event.getLong("requestLength")).isPositive();
+        assertThat(event.getLong("responseLength")).isEqualTo(response.length());
+        assertThat(event.getInt("errorCode")).isZero();
+    }
+
+    @Test
+    public void testNotification() throws Exception {
+        JsonRpcClient client = new JsonRpcClient(request -> "", mapper);
+
+        List<RecordedEvent> events = record("Request", () -> client.createNotification()
+                .method("update")
+                .params(42)
+                .execute());
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getBoolean("notification")).isTrue();
+        assertThat(events.get(0).getString("id")).isNull();
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        JsonRpcClient client = new JsonRpcClient(request ->
+                "[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":19},{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":23}]", mapper);
+
+        List<RecordedEvent> events = record("BatchRequest", () -> {
+            Map<Integer, Long> results = client.createBatchRequest()
+                    .add(1, "subtract", 42, 23)
+                    .add(2, "subtract", 65, 42)
+                    .keysType(Integer.class)
+                    .returnType(Long.class)
+                    .execute();
+            assertThat(results).containsEntry(2, 23L);
+        });
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getInt("batchSize")).isEqualTo(2);
+        assertThat(events.get(0).getLong("requestLength")).isPositive();
+    }
+
+    @Test
+    public void testProxyError() throws Exception {
+        JsonRpcClient client = new JsonRpcClient(request -> "{\"jsonrpc\":\"2.0\",\"id\":43," +
+                "\"error\":{\"code\":-32603,\"message\":\"Internal error\"}}", mapper);
+        TeamService teamService = client.onDemand(TeamService.class, new FixedIntegerIdGenerator(43));
+
+        List<RecordedEvent> events = record("ProxyInvocation", () ->
+                assertThatThrownBy(() -> teamService.findByInitials("Steven", "Stamkos"))
+                        .isInstanceOf(JsonRpcException.class));
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getClass("service").getName()).isEqualTo(TeamService.class.getName());
+        assertThat(event.getString("method")).isEqualTo("findByInitials");
+        assertThat(event.getString("id")).isEqualTo("43");
+        assertThat(event.getInt("errorCode")).isEqualTo(-32603);
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_PREFIX + eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+}
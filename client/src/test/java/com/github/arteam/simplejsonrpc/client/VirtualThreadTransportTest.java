@@ -0,0 +1,94 @@
+package com.github.arteam.simplejsonrpc.client;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests passing requests on virtual threads. On Java 21 it's run against the multi-release JAR.
+ */
+public class VirtualThreadTransportTest {
+
+    private final AtomicReference<Thread> passThread = new AtomicReference<>();
+    private final Transport echo = request -> {
+        passThread.set(Thread.currentThread());
+        return request;
+    };
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    public void testUnsupported() {
+        assertThat(VirtualThreadTransport.isSupported()).isFalse();
+        assertThatThrownBy(() -> new VirtualThreadTransport(echo))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testPass() throws Exception {
+        VirtualThreadTransport transport = new VirtualThreadTransport(echo);
+
+        assertThat(transport.pass("request")).isEqualTo("request");
+        assertThat(isVirtual(passThread.get())).isTrue();
+        assertThat(transport.passAsync("async request").get()).isEqualTo("async request");
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testIOException() {
+        VirtualThreadTransport transport = new VirtualThreadTransport(request -> {
+            throw new IOException("Connection refused");
+        });
+
+        assertThatThrownBy(() -> transport.pass("request"))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Connection refused");
+        assertThatThrownBy(() -> transport.passAsync("request").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testInterrupt() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        VirtualThreadTransport transport = new VirtualThreadTransport(request -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return request;
+        });
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread caller = new Thread(() -> {
+            try {
+                transport.pass("request");
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        caller.start();
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        caller.interrupt();
+        caller.join(10_000);
+
+        assertThat(failure.get()).isInstanceOf(java.io.InterruptedIOException.class);
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static boolean isVirtual(Thread thread) throws ReflectiveOperationException {
+        return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+}
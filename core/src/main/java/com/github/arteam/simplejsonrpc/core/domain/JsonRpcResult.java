@@ -0,0 +1,53 @@
+package com.github.arteam.simplejsonrpc.core.domain;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * <p>Result of a JSON-RPC method: either a value or an error.</p>
+ * Service methods can return it instead of throwing an exception annotated with
+ * {@link com.github.arteam.simplejsonrpc.core.annotation.JsonRpcError}, so expected failures
+ * (validation errors, missing entities, etc) don't cost a stack trace.
+ *
+ * @param <T> type of the result value
+ */
+public sealed interface JsonRpcResult<T> permits JsonRpcResult.Success, JsonRpcResult.Failure {
+
+    static <T> JsonRpcResult<T> ok(@Nullable T value) {
+        return new Success<>(value);
+    }
+
+    static <T> JsonRpcResult<T> error(int code, String message) {
+        return new Failure<>(code, message, null);
+    }
+
+    static <T> JsonRpcResult<T> error(int code, String message, @Nullable Object data) {
+        return new Failure<>(code, message, data);
+    }
+
+    /**
+     * Successful result
+     *
+     * @param value result value
+     */
+    record Success<T>(@Nullable T value) implements JsonRpcResult<T> {
+    }
+
+    /**
+     * Error result
+     *
+     * @param code    error code
+     * @param message error message, required by the specification
+     * @param data    additional error data which is converted to JSON
+     */
+    record Failure<T>(int code, String message, @Nullable Object data) implements JsonRpcResult<T> {
+
+        public Failure {
+            Objects.requireNonNull(message, "Error message should be set");
+            if (message.isEmpty()) {
+                throw new IllegalArgumentException("Error message should not be empty");
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.arteam.simplejsonrpc.server.http;
+
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <p>HTTP handler which passes POST requests to a {@link JsonRpcServer}.</p>
+ * <p>A request body is parsed straight from the exchange stream and a response is written to it as it's
+ * produced. Responses up to the buffer size are sent with {@code Content-Length}, bigger ones are chunked.
+ * Requests without responses, i.e. notifications or batches of them, are answered with
+ * {@code 204 No Content}. JSON-RPC errors are sent with the {@code 200 OK} status.</p>
+ * <p>It can be added to an existing {@link com.sun.net.httpserver.HttpServer} or used through
+ * {@link JsonRpcHttpServer}.</p>
+ */
+public class JsonRpcHttpHandler implements HttpHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonRpcHttpHandler.class);
+
+    static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+    private final JsonRpcServer rpcServer;
+
+    @Nullable
+    private final Object service;
+
+    private final int bufferSize;
+
+    /**
+     * Creates a handler which processes requests with the services registered in the JSON-RPC server
+     *
+     * @param rpcServer JSON-RPC server
+     */
+    public JsonRpcHttpHandler(JsonRpcServer rpcServer) {
+        this(rpcServer, null, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a handler
+     *
+     * @param rpcServer  JSON-RPC server
+     * @param service    service which processes the requests or {@code null} for the services
+     *                   registered in the JSON-RPC server
+     * @param bufferSize maximum size of a response in bytes which is sent with {@code Content-Length}
+     */
+    public JsonRpcHttpHandler(JsonRpcServer rpcServer, @Nullable Object service, int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size should be positive");
+        }
+        this.rpcServer = rpcServer;
+        this.service = service;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            ResponseBody responseBody = new ResponseBody(exchange, bufferSize);
+            // The rest of the request is drained on closing, so the connection can be kept alive
+            try (InputStream requestBody = exchange.getRequestBody()) {
+                if (service != null) {
+                    rpcServer.handle(requestBody, responseBody, service);
+                } else {
+                    rpcServer.handle(requestBody, responseBody);
+                }
+            } catch (RuntimeException e) {
+                log.error("Unable to handle a request", e);
+                if (!responseBody.isCommitted()) {
+                    exchange.sendResponseHeaders(500, -1);
+                }
+                return;
+            }
+            responseBody.close();
+        } finally {
+            exchange.close();
+        }
+    }
+}
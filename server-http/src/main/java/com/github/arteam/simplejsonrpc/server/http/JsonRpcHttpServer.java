@@ -0,0 +1,138 @@
+package com.github.arteam.simplejsonrpc.server.http;
+
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.github.arteam.simplejsonrpc.server.VirtualThreads;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>HTTP server which passes JSON-RPC requests to a {@link JsonRpcServer}.</p>
+ * <p>It's based on the {@code com.sun.net.httpserver} server from the JDK, so it doesn't need
+ * any dependencies. Requests are served by {@link JsonRpcHttpHandler} on a single path.
+ * Connections are kept alive between requests.</p>
+ * <p>By default, every request is processed in its own virtual thread on Java 21,
+ * so blocking services don't limit the number of concurrent requests.</p>
+ */
+public class JsonRpcHttpServer implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonRpcHttpServer.class);
+
+    private final InetSocketAddress address;
+
+    private final String path;
+
+    private final int backlog;
+
+    private final int stopDelaySeconds;
+
+    private final JsonRpcHttpHandler handler;
+
+    private final Executor executor;
+
+    /**
+     * Executor which is created and shut down by the server
+     */
+    @Nullable
+    private final ExecutorService ownExecutor;
+
+    @Nullable
+    private volatile HttpServer httpServer;
+
+    JsonRpcHttpServer(JsonRpcHttpServerBuilder builder) {
+        this.address = builder.address;
+        this.path = builder.path;
+        this.backlog = builder.backlog;
+        this.stopDelaySeconds = (int) Math.min(Integer.MAX_VALUE, builder.stopDelay.toSeconds());
+        this.handler = new JsonRpcHttpHandler(builder.rpcServer, builder.service, builder.bufferSize);
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.ownExecutor = null;
+        } else {
+            this.ownExecutor = newExecutor();
+            this.executor = ownExecutor;
+        }
+    }
+
+    /**
+     * Creates a builder of an HTTP server
+     *
+     * @param rpcServer JSON-RPC server which processes requests
+     * @return a new builder
+     */
+    public static JsonRpcHttpServerBuilder builder(JsonRpcServer rpcServer) {
+        return new JsonRpcHttpServerBuilder(rpcServer);
+    }
+
+    private static ExecutorService newExecutor() {
+        if (VirtualThreads.isSupported()) {
+            return VirtualThreads.newThreadPerTaskExecutor();
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        int threads = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "json-rpc-http-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Binds the server socket and starts accepting requests
+     *
+     * @return the current server
+     * @throws IOException if the server socket can't be bound
+     */
+    public synchronized JsonRpcHttpServer start() throws IOException {
+        if (httpServer != null) {
+            throw new IllegalStateException("Server is already started");
+        }
+        HttpServer server = HttpServer.create(address, backlog);
+        server.createContext(path, handler);
+        server.setExecutor(executor);
+        server.start();
+        httpServer = server;
+        log.info("JSON-RPC server is listening on http://{}:{}{}", server.getAddress().getHostString(),
+                server.getAddress().getPort(), path);
+        return this;
+    }
+
+    /**
+     * @return the address the server listens on
+     * @throws IllegalStateException if the server is not started
+     */
+    public InetSocketAddress localAddress() {
+        HttpServer server = httpServer;
+        if (server == null) {
+            throw new IllegalStateException("Server is not started");
+        }
+        return server.getAddress();
+    }
+
+    /**
+     * Stops the server after the exchanges in progress are finished or the stop delay is over,
+     * and shuts down the own executor
+     */
+    @Override
+    public synchronized void close() {
+        HttpServer server = httpServer;
+        try {
+            if (server != null) {
+                server.stop(stopDelaySeconds);
+            }
+        } finally {
+            if (ownExecutor != null) {
+                ownExecutor.shutdown();
+            }
+        }
+    }
+}
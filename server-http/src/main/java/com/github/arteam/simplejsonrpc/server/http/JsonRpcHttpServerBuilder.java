@@ -0,0 +1,147 @@
+package com.github.arteam.simplejsonrpc.server.http;
+
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>Builder of a {@link JsonRpcHttpServer}</p>
+ */
+public class JsonRpcHttpServerBuilder {
+
+    final JsonRpcServer rpcServer;
+
+    @Nullable
+    Object service;
+
+    InetSocketAddress address = new InetSocketAddress(0);
+
+    String path = "/";
+
+    @Nullable
+    Executor executor;
+
+    int backlog;
+
+    int bufferSize = JsonRpcHttpHandler.DEFAULT_BUFFER_SIZE;
+
+    Duration stopDelay = Duration.ZERO;
+
+    JsonRpcHttpServerBuilder(JsonRpcServer rpcServer) {
+        this.rpcServer = rpcServer;
+    }
+
+    /**
+     * Sets a service which processes the requests. By default, requests are processed
+     * by the services registered in the JSON-RPC server.
+     *
+     * @param service service object annotated with {@code @JsonRpcService}
+     * @return the current builder
+     */
+    public JsonRpcHttpServerBuilder service(Object service) {
+        this.service = service;
+        return this;
+    }
+
+    /**
+     * Sets the address the server listens on. By default, it's an ephemeral port on all interfaces.
+     *
+     * @param address local address
+     * @return the current builder
+     */
+    public JsonRpcHttpServerBuilder bind(InetSocketAddress address) {
+        this.address = address;
+        return this;
+    }
+
+    /**
+     * Sets the port the server listens on all interfaces
+     *
+     * @param port local port, 0 for an ephemeral port
+     * @return the current builder
+     */
+    public JsonRpcHttpServerBuilder port(int port) {
+        return bind(new InetSocketAddress(port));
+    }
+
+    /**
+     * Sets the path of the endpoint. By default, it's the root path.
+     *
+     * @param path path which starts with {@code /}
+     * @return the current builder
+     */
+    public JsonRpcHttpServerBuilder path(String path) {
+        if (!path.startsWith("/")) {
+            throw new IllegalArgumentException("Path should start with '/'");
+        }
+        this.path = path;
+        return this;
+    }
+
+    /**
+     * Sets an executor which processes requests. By default, it's a virtual thread per request on Java 21
+     * and a fixed thread pool on older versions, which is shut down together with the server.
+     * A user-defined executor is not shut down.
+     *
+     * @param executor executor of requests
+     * @return the current builder
+     */
+    public JsonRpcHttpServerBuilder executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pending connections. By default, it's the system default.
+     *
+     * @param backlog length of the queue of incoming connections, 0 for the system default
+     * @return the current builder
+     */
+    public JsonRpcHttpServerBuilder backlog(int backlog) {
+        if (backlog < 0) {
+            throw new IllegalArgumentException("Backlog should not be negative");
+        }
+        this.backlog = backlog;
+        return this;
+    }
+
+    /**
+     * Sets the maximum size of a response in bytes which is sent with {@code Content-Length}.
+     * Bigger responses are streamed with the chunked transfer encoding. By default, it's 8 KiB.
+     *
+     * @param bufferSize size of the response buffer in bytes
+     * @return the current builder
+     */
+    public JsonRpcHttpServerBuilder bufferSize(int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size should be positive");
+        }
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Sets how long {@link JsonRpcHttpServer#close()} waits for the exchanges in progress.
+     * By default, the server is stopped immediately.
+     *
+     * @param stopDelay maximum time to wait, rounded down to seconds
+     * @return the current builder
+     */
+    public JsonRpcHttpServerBuilder stopDelay(Duration stopDelay) {
+        if (stopDelay.isNegative()) {
+            throw new IllegalArgumentException("Stop delay should not be negative");
+        }
+        this.stopDelay = stopDelay;
+        return this;
+    }
+
+    /**
+     * @return a new server, which should be started with {@link JsonRpcHttpServer#start()}
+     */
+    public JsonRpcHttpServer build() {
+        return new JsonRpcHttpServer(this);
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.arteam.simplejsonrpc.server.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * <p>Body of an HTTP response which is written by the JSON-RPC server.</p>
+ * <p>A response which fits into the buffer is sent with {@code Content-Length}. A bigger response is streamed
+ * with the chunked transfer encoding as soon as the buffer is full. If nothing is written, e.g. for notifications,
+ * the status is {@code 204 No Content}.</p>
+ */
+class ResponseBody extends OutputStream {
+
+    private final HttpExchange exchange;
+    private final int bufferSize;
+
+    @Nullable
+    private byte[] buffer;
+
+    private int count;
+
+    /**
+     * The response body of the exchange after the headers are sent in the streaming mode
+     */
+    @Nullable
+    private OutputStream stream;
+
+    private boolean closed;
+
+    ResponseBody(HttpExchange exchange, int bufferSize) {
+        this.exchange = exchange;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (closed) {
+            throw new IOException("Response body is closed");
+        }
+        if (stream == null && count + length > bufferSize) {
+            startStreaming();
+        }
+        if (stream != null) {
+            stream.write(bytes, offset, length);
+            return;
+        }
+        if (buffer == null) {
+            buffer = new byte[bufferSize];
+        }
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+    }
+
+    private void startStreaming() throws IOException {
+        sendHeaders(0);
+        stream = exchange.getResponseBody();
+        if (count > 0) {
+            stream.write(buffer, 0, count);
+        }
+        buffer = null;
+    }
+
+    /**
+     * Flushes only a streamed response, a buffered one is sent on closing
+     */
+    @Override
+    public void flush() throws IOException {
+        if (stream != null) {
+            stream.flush();
+        }
+    }
+
+    /**
+     * Sends the buffered response or finishes the streamed one
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (stream != null) {
+            stream.close();
+        } else if (count == 0) {
+            exchange.sendResponseHeaders(204, -1);
+        } else {
+            sendHeaders(count);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(buffer, 0, count);
+            }
+        }
+    }
+
+    /**
+     * @return whether the response headers have been sent
+     */
+    boolean isCommitted() {
+        return stream != null || closed;
+    }
+
+    private void sendHeaders(long length) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, length);
+    }
+}
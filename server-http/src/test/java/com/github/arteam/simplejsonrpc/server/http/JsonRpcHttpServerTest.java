@@ -0,0 +1,251 @@
+package com.github.arteam.simplejsonrpc.server.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests the HTTP server over the loopback interface
+ */
+public class JsonRpcHttpServerTest {
+
+    private static final InetSocketAddress LOOPBACK = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final EchoService echoService = new EchoService();
+    private final JsonRpcServer rpcServer = JsonRpcServer.builder().register(echoService).build();
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    private JsonRpcHttpServer server;
+
+    @AfterEach
+    public void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private URI start(UnaryOperator<JsonRpcHttpServerBuilder> configuration) throws IOException {
+        server = configuration.apply(JsonRpcHttpServer.builder(rpcServer).bind(LOOPBACK).path("/rpc")).build().start();
+        return URI.create("http://localhost:" + server.localAddress().getPort() + "/rpc");
+    }
+
+    private URI start() throws IOException {
+        return start(builder -> builder);
+    }
+
+    private HttpResponse<String> post(URI uri, String body) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(uri)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .header("Content-Type", "application/json")
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    public void testRequest() throws Exception {
+        HttpResponse<String> response = post(start(),
+                "{\"jsonrpc\":\"2.0\",\"method\":\"echo\",\"params\":{\"text\":\"Łukasz Kępa\"},\"id\":1}");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("application/json");
+        assertThat(response.headers().firstValueAsLong("Content-Length"))
+                .hasValue(response.body().getBytes(StandardCharsets.UTF_8).length);
+        assertThat(mapper.readTree(response.body()).get("result").asText()).isEqualTo("Łukasz Kępa");
+    }
+
+    @Test
+    public void testNotification() throws Exception {
+        URI uri = start();
+
+        HttpResponse<String> response = post(uri, "{\"jsonrpc\":\"2.0\",\"method\":\"count\"}");
+        HttpResponse<String> batchResponse = post(uri,
+                "[{\"jsonrpc\":\"2.0\",\"method\":\"count\"},{\"jsonrpc\":\"2.0\",\"method\":\"count\"}]");
+
+        assertThat(response.statusCode()).isEqualTo(204);
+        assertThat(response.body()).isEmpty();
+        assertThat(batchResponse.statusCode()).isEqualTo(204);
+        assertThat(echoService.counter.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        HttpResponse<String> response = post(start(), "[" +
+                "{\"jsonrpc\":\"2.0\",\"method\":\"echo\",\"params\":{\"text\":\"Steven\"},\"id\":1}," +
+                "{\"jsonrpc\":\"2.0\",\"method\":\"count\"}," +
+                "{\"jsonrpc\":\"2.0\",\"method\":\"echo\",\"params\":{\"text\":\"Stamkos\"},\"id\":2}]");
+
+        JsonNode responses = mapper.readTree(response.body());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(1).get("result").asText()).isEqualTo("Stamkos");
+    }
+
+    @Test
+    public void testParseError() throws Exception {
+        HttpResponse<String> response = post(start(), "{\"jsonrpc\":");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(mapper.readTree(response.body()).get("error").get("code").asInt()).isEqualTo(-32700);
+    }
+
+    @Test
+    public void testStreamedResponse() throws Exception {
+        String text = "Steven Stamkos ".repeat(1000);
+        HttpResponse<String> response = post(start(builder -> builder.bufferSize(64)),
+                "{\"jsonrpc\":\"2.0\",\"method\":\"echo\",\"params\":{\"text\":\"" + text + "\"},\"id\":1}");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Transfer-Encoding")).hasValue("chunked");
+        assertThat(mapper.readTree(response.body()).get("result").asText()).isEqualTo(text);
+    }
+
+    @Test
+    public void testKeepAlive() throws Exception {
+        URI uri = start();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), uri.getPort())) {
+            OutputStream output = socket.getOutputStream();
+            BufferedReader input = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            for (String text : new String[]{"Steven", "Stamkos"}) {
+                byte[] request = ("{\"jsonrpc\":\"2.0\",\"method\":\"echo\",\"params\":{\"text\":\"" + text +
+                        "\"},\"id\":1}").getBytes(StandardCharsets.UTF_8);
+                output.write(("POST /rpc HTTP/1.1\r\nHost: localhost\r\nContent-Type: application/json\r\n" +
+                        "Content-Length: " + request.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                output.write(request);
+                output.flush();
+
+                assertThat(input.readLine()).isEqualTo("HTTP/1.1 200 OK");
+                Map<String, String> headers = readHeaders(input);
+                char[] body = new char[Integer.parseInt(headers.get("content-length"))];
+                assertThat(input.read(body)).isEqualTo(body.length);
+                assertThat(mapper.readTree(new String(body)).get("result").asText()).isEqualTo(text);
+            }
+        }
+    }
+
+    private static Map<String, String> readHeaders(BufferedReader input) throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>();
+        String line;
+        while (!(line = input.readLine()).isEmpty()) {
+            int colon = line.indexOf(':');
+            headers.put(line.substring(0, colon).toLowerCase(), line.substring(colon + 1).trim());
+        }
+        return headers;
+    }
+
+    @Test
+    public void testMethodNotAllowed() throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(start()).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(405);
+        assertThat(response.headers().firstValue("Allow")).hasValue("POST");
+    }
+
+    @Test
+    public void testService() throws Exception {
+        server = JsonRpcHttpServer.builder(JsonRpcServer.builder().build())
+                .service(echoService)
+                .bind(LOOPBACK)
+                .build()
+                .start();
+        URI uri = URI.create("http://localhost:" + server.localAddress().getPort() + "/");
+
+        HttpResponse<String> response = post(uri,
+                "{\"jsonrpc\":\"2.0\",\"method\":\"echo\",\"params\":{\"text\":\"Steven\"},\"id\":1}");
+
+        assertThat(mapper.readTree(response.body()).get("result").asText()).isEqualTo("Steven");
+    }
+
+    @Test
+    public void testExecutor() throws Exception {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newCachedThreadPool(
+                runnable -> new Thread(runnable, "custom-" + threadNumber.incrementAndGet()));
+        try {
+            HttpResponse<String> response = post(start(builder -> builder.executor(executor)),
+                    "{\"jsonrpc\":\"2.0\",\"method\":\"thread\",\"id\":1}");
+
+            assertThat(mapper.readTree(response.body()).get("result").asText()).startsWith("custom-");
+            server.close();
+            assertThat(executor.isShutdown()).isFalse();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testEmbeddedHandler() throws Exception {
+        HttpServer httpServer = HttpServer.create(LOOPBACK, 0);
+        httpServer.createContext("/api/rpc", new JsonRpcHttpHandler(rpcServer));
+        httpServer.start();
+        try {
+            URI uri = URI.create("http://localhost:" + httpServer.getAddress().getPort() + "/api/rpc");
+            HttpResponse<String> response = post(uri,
+                    "{\"jsonrpc\":\"2.0\",\"method\":\"echo\",\"params\":{\"text\":\"Steven\"},\"id\":1}");
+
+            assertThat(mapper.readTree(response.body()).get("result").asText()).isEqualTo("Steven");
+        } finally {
+            httpServer.stop(0);
+        }
+    }
+
+    @Test
+    public void testBadConfiguration() {
+        JsonRpcHttpServerBuilder builder = JsonRpcHttpServer.builder(rpcServer);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.path("rpc"));
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.bufferSize(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.backlog(-1));
+    }
+
+    @JsonRpcService
+    public static class EchoService {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @JsonRpcMethod
+        public String echo(@JsonRpcParam("text") String text) {
+            return text;
+        }
+
+        @JsonRpcMethod
+        public int count() {
+            return counter.incrementAndGet();
+        }
+
+        @JsonRpcMethod
+        public String thread() {
+            return Thread.currentThread().getName();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.arteam.simplejsonrpc.server.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the default executor of the HTTP server. On Java 21 it's run against the multi-release JAR.
+ */
+public class JsonRpcHttpServerVirtualThreadTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private JsonRpcHttpServer server;
+
+    @AfterEach
+    public void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private String handlerThread() throws Exception {
+        server = JsonRpcHttpServer.builder(JsonRpcServer.builder().register(new ThreadService()).build())
+                .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .build()
+                .start();
+        URI uri = URI.create("http://localhost:" + server.localAddress().getPort() + "/");
+        HttpResponse<String> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder(uri)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"jsonrpc\":\"2.0\",\"method\":\"thread\",\"id\":1}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        return mapper.readTree(response.body()).get("result").asText();
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    public void testPlatformThreads() throws Exception {
+        assertThat(handlerThread()).startsWith("json-rpc-http-");
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testVirtualThreads() throws Exception {
+        assertThat(handlerThread()).isEqualTo("virtual");
+    }
+
+    @JsonRpcService
+    public static class ThreadService {
+
+        @JsonRpcMethod
+        public String thread() throws ReflectiveOperationException {
+            Thread thread = Thread.currentThread();
+            if (Runtime.version().feature() >= 21 && (boolean) Thread.class.getMethod("isVirtual").invoke(thread)) {
+                return "virtual";
+            }
+            return thread.getName();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.arteam.simplejsonrpc.server.nio;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * Pool of direct buffers of the same size. Every event loop has its own pool,
+ * so it's not thread-safe. Recently released buffers are reused first.
+ */
+final class BufferPool {
+
+    private final ArrayDeque<ByteBuffer> buffers = new ArrayDeque<>();
+    private final int bufferSize;
+    private final int maxPooled;
+
+    BufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+    }
+
+    ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.pollFirst();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    void release(ByteBuffer buffer) {
+        buffer.clear();
+        if (buffers.size() < maxPooled) {
+            buffers.offerFirst(buffer);
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.github.arteam.simplejsonrpc.server.nio;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * <p>State of a client connection. It's confined to the thread of its event loop.</p>
+ * <p>Incoming bytes are copied from the shared read buffer of the loop straight to the arrays of frames,
+ * so idle connections don't hold buffers. Responses are queued and copied to a pooled direct buffer,
+ * which is held only until the socket accepts the whole buffer. While the socket doesn't accept
+ * responses, the connection doesn't read new requests.</p>
+ * <p>If the client shuts down its output, the connection is closed after responding to the requests
+ * which are already received.</p>
+ */
+final class Connection {
+
+    private static final Logger log = LoggerFactory.getLogger(Connection.class);
+
+    private static final byte[] EMPTY = new byte[0];
+    private static final int LENGTH_SIZE = Integer.BYTES;
+
+    private final JsonRpcNioServer server;
+    private final EventLoop loop;
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final Framing framing;
+    private final int maxFrameLength;
+
+    /**
+     * Bytes of an incomplete line or length prefix
+     */
+    private byte[] partial = EMPTY;
+    private int partialLength;
+
+    /**
+     * Length-prefixed frame which is being read
+     */
+    private byte @Nullable [] frame;
+    private int framePosition;
+
+    private final ArrayDeque<byte[]> pending = new ArrayDeque<>();
+
+    /**
+     * Response which is being copied to the write buffer
+     */
+    private byte @Nullable [] current;
+    private int currentOffset;
+    private boolean prefixWritten;
+
+    @Nullable
+    private ByteBuffer writeBuffer;
+
+    /**
+     * Number of dispatched requests which haven't been completed yet
+     */
+    private int inFlight;
+
+    private boolean inputClosed;
+    private boolean closed;
+
+    Connection(JsonRpcNioServer server, EventLoop loop, SocketChannel channel, SelectionKey key) {
+        this.server = server;
+        this.loop = loop;
+        this.channel = channel;
+        this.key = key;
+        this.framing = server.framing;
+        this.maxFrameLength = server.maxFrameLength;
+    }
+
+    /**
+     * Reads available bytes and dispatches complete frames
+     *
+     * @param readBuffer shared read buffer of the event loop
+     */
+    void read(ByteBuffer readBuffer) throws IOException {
+        int read;
+        while ((read = channel.read(readBuffer)) > 0) {
+            readBuffer.flip();
+            boolean valid = framing == Framing.NEWLINE ? readLines(readBuffer) : readLengthPrefixed(readBuffer);
+            readBuffer.clear();
+            if (!valid) {
+                close();
+                return;
+            }
+            if (readBuffer.capacity() > read) {
+                // The socket is drained, don't make an extra system call
+                return;
+            }
+        }
+        if (read < 0) {
+            inputClosed = true;
+            if ((key.interestOps() & SelectionKey.OP_WRITE) == 0) {
+                key.interestOps(0);
+            }
+            closeIfDone();
+        }
+    }
+
+    private boolean readLines(ByteBuffer buffer) {
+        int start = buffer.position();
+        for (int i = start; i < buffer.limit(); i++) {
+            if (buffer.get(i) != '\n') {
+                continue;
+            }
+            int length = i - start;
+            if (partialLength + length > maxFrameLength) {
+                return tooLong(partialLength + length);
+            }
+            byte[] line = new byte[partialLength + length];
+            System.arraycopy(partial, 0, line, 0, partialLength);
+            buffer.get(line, partialLength, length);
+            buffer.get();
+            partialLength = 0;
+            start = i + 1;
+            dispatchLine(line);
+            if (closed) {
+                return true;
+            }
+        }
+        int remaining = buffer.remaining();
+        if (partialLength + remaining > maxFrameLength) {
+            return tooLong(partialLength + remaining);
+        }
+        appendPartial(buffer, remaining);
+        return true;
+    }
+
+    private void dispatchLine(byte[] line) {
+        int length = line.length;
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        if (length == 0) {
+            return;
+        }
+        dispatch(length == line.length ? line : Arrays.copyOf(line, length));
+    }
+
+    private boolean readLengthPrefixed(ByteBuffer buffer) {
+        while (buffer.hasRemaining()) {
+            if (frame == null) {
+                if (partialLength + buffer.remaining() < LENGTH_SIZE) {
+                    appendPartial(buffer, buffer.remaining());
+                    return true;
+                }
+                int length = 0;
+                for (int i = 0; i < LENGTH_SIZE; i++) {
+                    length = (length << 8) | ((i < partialLength ? partial[i] : buffer.get()) & 0xFF);
+                }
+                partialLength = 0;
+                if (length < 0 || length > maxFrameLength) {
+                    return tooLong(length);
+                }
+                frame = new byte[length];
+                framePosition = 0;
+            }
+            int length = Math.min(buffer.remaining(), frame.length - framePosition);
+            buffer.get(frame, framePosition, length);
+            framePosition += length;
+            if (framePosition == frame.length) {
+                byte[] complete = frame;
+                frame = null;
+                if (complete.length > 0) {
+                    dispatch(complete);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void dispatch(byte[] request) {
+        inFlight++;
+        server.dispatch(this, request);
+    }
+
+    private void appendPartial(ByteBuffer buffer, int length) {
+        if (partial.length < partialLength + length) {
+            partial = Arrays.copyOf(partial, Math.max(partialLength + length, partial.length * 2));
+        }
+        buffer.get(partial, partialLength, length);
+        partialLength += length;
+    }
+
+    private boolean tooLong(long length) {
+        log.warn("Frame of {} bytes from {} exceeds the limit of {} bytes, closing the connection",
+                length, remoteAddress(), maxFrameLength);
+        return false;
+    }
+
+    /**
+     * Completes a dispatched request from any thread
+     *
+     * @param response response to the request, empty if there is nothing to send
+     */
+    void complete(byte[] response) {
+        loop.execute(() -> {
+            inFlight--;
+            if (response.length > 0) {
+                write(response);
+            } else {
+                closeIfDone();
+            }
+        });
+    }
+
+    /**
+     * Closes the connection after a request failed without a response. Called by a worker thread.
+     */
+    void fail() {
+        loop.execute(() -> {
+            inFlight--;
+            close();
+        });
+    }
+
+    private void write(byte[] response) {
+        if (closed) {
+            return;
+        }
+        pending.add(response);
+        if ((key.interestOps() & SelectionKey.OP_WRITE) == 0) {
+            try {
+                flush();
+            } catch (IOException e) {
+                log.debug("Unable to write a response to {}", remoteAddress(), e);
+                close();
+            }
+        }
+    }
+
+    private void closeIfDone() {
+        if (inputClosed && inFlight == 0 && writeBuffer == null) {
+            close();
+        }
+    }
+
+    /**
+     * Writes queued responses until the socket stops accepting bytes
+     */
+    void flush() throws IOException {
+        while (true) {
+            if (writeBuffer == null) {
+                if (current == null && pending.isEmpty()) {
+                    key.interestOps(inputClosed ? 0 : SelectionKey.OP_READ);
+                    closeIfDone();
+                    return;
+                }
+                writeBuffer = loop.bufferPool.acquire();
+            }
+            boolean filled = fill(writeBuffer);
+            writeBuffer.flip();
+            channel.write(writeBuffer);
+            if (writeBuffer.hasRemaining()) {
+                writeBuffer.compact();
+                key.interestOps(SelectionKey.OP_WRITE);
+                return;
+            }
+            writeBuffer.clear();
+            if (filled) {
+                loop.bufferPool.release(writeBuffer);
+                writeBuffer = null;
+            }
+        }
+    }
+
+    /**
+     * Copies queued responses with their framing to the buffer
+     *
+     * @return {@code true} if all the queued responses have been copied
+     */
+    private boolean fill(ByteBuffer buffer) {
+        while (true) {
+            if (current == null) {
+                current = pending.poll();
+                if (current == null) {
+                    return true;
+                }
+                currentOffset = 0;
+                prefixWritten = false;
+            }
+            if (framing == Framing.LENGTH_PREFIXED && !prefixWritten) {
+                if (buffer.remaining() < LENGTH_SIZE) {
+                    return false;
+                }
+                buffer.putInt(current.length);
+                prefixWritten = true;
+            }
+            int length = Math.min(buffer.remaining(), current.length - currentOffset);
+            buffer.put(current, currentOffset, length);
+            currentOffset += length;
+            if (currentOffset < current.length) {
+                return false;
+            }
+            if (framing == Framing.NEWLINE) {
+                if (!buffer.hasRemaining()) {
+                    return false;
+                }
+                buffer.put((byte) '\n');
+            }
+            current = null;
+        }
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Unable to close the connection with {}", remoteAddress(), e);
+        }
+        if (writeBuffer != null) {
+            loop.bufferPool.release(writeBuffer);
+            writeBuffer = null;
+        }
+        pending.clear();
+        current = null;
+    }
+
+    @Nullable
+    private Object remoteAddress() {
+        try {
+            return channel.getRemoteAddress();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.arteam.simplejsonrpc.server.nio;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>Thread with a selector which reads requests from its connections and writes responses to them.
+ * The first loop also accepts new connections.</p>
+ * <p>The other threads interact with the loop by submitting tasks, which are run by the loop
+ * between selections. The selector is woken up only once for a bunch of tasks.</p>
+ */
+final class EventLoop implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLoop.class);
+
+    /**
+     * Maximum number of idle write buffers kept by a loop
+     */
+    private static final int MAX_POOLED_BUFFERS = 64;
+
+    final BufferPool bufferPool;
+
+    private final JsonRpcNioServer server;
+    private final Selector selector;
+    private final ByteBuffer readBuffer;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    EventLoop(JsonRpcNioServer server, int index, int bufferSize) throws IOException {
+        this.server = server;
+        this.selector = Selector.open();
+        this.bufferPool = new BufferPool(bufferSize, MAX_POOLED_BUFFERS);
+        this.readBuffer = bufferPool.acquire();
+        this.thread = new Thread(this, "json-rpc-nio-" + index);
+    }
+
+    Selector selector() {
+        return selector;
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Runs a task in the loop thread
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        if (Thread.currentThread() != thread && wakeupPending.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Registers an accepted connection in the loop
+     */
+    void register(SocketChannel channel) {
+        execute(() -> {
+            try {
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                key.attach(new Connection(server, this, channel, key));
+            } catch (ClosedChannelException e) {
+                log.debug("Connection is closed before registration", e);
+            }
+        });
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                if (tasks.isEmpty()) {
+                    selector.select();
+                } else {
+                    selector.selectNow();
+                }
+                wakeupPending.set(false);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    process(key);
+                }
+                runTasks();
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            log.error("Event loop {} is stopped", thread.getName(), e);
+        } finally {
+            closeConnections();
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Unable to run a task in the event loop", e);
+            }
+        }
+    }
+
+    private void process(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (!(key.attachment() instanceof Connection connection)) {
+            server.accept();
+            return;
+        }
+        try {
+            if (key.isReadable()) {
+                connection.read(readBuffer);
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.flush();
+            }
+        } catch (IOException e) {
+            log.debug("I/O error on a connection", e);
+            connection.close();
+        }
+    }
+
+    private void closeConnections() {
+        if (!selector.isOpen()) {
+            return;
+        }
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection connection) {
+                connection.close();
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            log.warn("Unable to close the selector", e);
+        }
+    }
+
+    /**
+     * Stops the loop and closes its connections
+     */
+    void stop() throws InterruptedException {
+        running = false;
+        selector.wakeup();
+        if (thread.isAlive()) {
+            thread.join();
+        } else {
+            closeConnections();
+        }
+    }
+}
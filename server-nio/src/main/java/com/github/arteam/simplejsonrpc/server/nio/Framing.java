@@ -0,0 +1,18 @@
+package com.github.arteam.simplejsonrpc.server.nio;
+
+/**
+ * How JSON-RPC messages are delimited in a TCP stream
+ */
+public enum Framing {
+
+    /**
+     * Every message is terminated by {@code \n}, an optional preceding {@code \r} is ignored.
+     * Messages should be serialized without line breaks, which is the default for Jackson.
+     */
+    NEWLINE,
+
+    /**
+     * Every message is preceded by its length in bytes as a 4-byte big-endian integer
+     */
+    LENGTH_PREFIXED
+}
@@ -0,0 +1,249 @@
+package com.github.arteam.simplejsonrpc.server.nio;
+
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Non-blocking TCP server which passes JSON-RPC requests to a {@link JsonRpcServer}.</p>
+ * <ul>
+ * <li>A few event loops read requests from connections with {@link java.nio.channels.Selector}s
+ * and write responses to them, so a connection doesn't need its own thread.</li>
+ * <li>Requests are delimited according to {@link Framing} and handed over to a worker executor
+ * as byte arrays, which are parsed by the JSON-RPC server without decoding them to strings.</li>
+ * <li>Sockets are read to and written from pooled direct buffers, so bytes are not copied
+ * to temporary direct buffers by the JDK.</li>
+ * </ul>
+ * <p>Requests from the same connection are processed concurrently, so responses may be sent in a different
+ * order. A client should match them by their ids, as JSON-RPC requires anyway.</p>
+ */
+public class JsonRpcNioServer implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonRpcNioServer.class);
+
+    private final JsonRpcServer rpcServer;
+
+    @Nullable
+    private final Object service;
+
+    private final InetSocketAddress address;
+
+    final Framing framing;
+
+    final int maxFrameLength;
+
+    private final int bufferSize;
+
+    private final Executor workers;
+
+    /**
+     * Worker pool which is created and shut down by the server
+     */
+    @Nullable
+    private final ExecutorService ownWorkers;
+
+    private final EventLoop[] loops;
+
+    @Nullable
+    private volatile ServerSocketChannel serverChannel;
+
+    /**
+     * Index of the loop for the next connection, accessed only by the first loop
+     */
+    private int nextLoop;
+
+    JsonRpcNioServer(JsonRpcNioServerBuilder builder) {
+        this.rpcServer = builder.rpcServer;
+        this.service = builder.service;
+        this.address = builder.address;
+        this.framing = builder.framing;
+        this.maxFrameLength = builder.maxFrameLength;
+        this.bufferSize = builder.bufferSize;
+        this.loops = new EventLoop[builder.eventLoops];
+        if (builder.workerExecutor != null) {
+            this.workers = builder.workerExecutor;
+            this.ownWorkers = null;
+        } else {
+            this.ownWorkers = newWorkerPool();
+            this.workers = ownWorkers;
+        }
+    }
+
+    /**
+     * Creates a builder of a TCP server
+     *
+     * @param rpcServer JSON-RPC server which processes requests
+     * @return a new builder
+     */
+    public static JsonRpcNioServerBuilder builder(JsonRpcServer rpcServer) {
+        return new JsonRpcNioServerBuilder(rpcServer);
+    }
+
+    private static ExecutorService newWorkerPool() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "json-rpc-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Binds the server socket and starts the event loops
+     *
+     * @return the current server
+     * @throws IOException if the server socket can't be bound
+     */
+    public synchronized JsonRpcNioServer start() throws IOException {
+        if (serverChannel != null) {
+            throw new IllegalStateException("Server is already started");
+        }
+        ServerSocketChannel channel = ServerSocketChannel.open();
+        try {
+            channel.configureBlocking(false);
+            channel.bind(address);
+            for (int i = 0; i < loops.length; i++) {
+                loops[i] = new EventLoop(this, i, bufferSize);
+            }
+            channel.register(loops[0].selector(), SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            channel.close();
+            stopLoops();
+            throw e;
+        }
+        serverChannel = channel;
+        for (EventLoop loop : loops) {
+            loop.start();
+        }
+        log.info("JSON-RPC server is listening on {}", channel.getLocalAddress());
+        return this;
+    }
+
+    /**
+     * @return the address the server listens on
+     * @throws IllegalStateException if the server is not started
+     */
+    public InetSocketAddress localAddress() {
+        ServerSocketChannel channel = serverChannel;
+        if (channel == null) {
+            throw new IllegalStateException("Server is not started");
+        }
+        try {
+            return (InetSocketAddress) channel.getLocalAddress();
+        } catch (IOException e) {
+            throw new IllegalStateException("Server is closed", e);
+        }
+    }
+
+    /**
+     * Accepts pending connections and distributes them between the loops.
+     * Called by the first loop.
+     */
+    void accept() {
+        ServerSocketChannel serverChannel = this.serverChannel;
+        if (serverChannel == null) {
+            return;
+        }
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (IOException e) {
+                log.warn("Unable to accept a connection", e);
+                return;
+            }
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            } catch (IOException e) {
+                log.warn("Unable to configure a connection", e);
+                closeQuietly(channel);
+                continue;
+            }
+            loops[nextLoop].register(channel);
+            nextLoop = (nextLoop + 1) % loops.length;
+        }
+    }
+
+    /**
+     * Processes a request in a worker thread and sends the response back to the connection
+     */
+    void dispatch(Connection connection, byte[] request) {
+        try {
+            workers.execute(() -> {
+                byte[] response;
+                try {
+                    response = handle(request);
+                } catch (RuntimeException e) {
+                    // The request may have an id, so the client shouldn't wait for a response which won't come
+                    log.error("Unable to handle a request, closing the connection", e);
+                    connection.fail();
+                    return;
+                }
+                connection.complete(response);
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Request is rejected by the worker executor, closing the connection", e);
+            connection.close();
+        }
+    }
+
+    private byte[] handle(byte[] request) {
+        return service != null ? rpcServer.handle(request, service) : rpcServer.handle(request);
+    }
+
+    /**
+     * Stops accepting connections, closes the open ones and shuts down the own worker pool
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        ServerSocketChannel channel = serverChannel;
+        if (channel != null) {
+            channel.close();
+        }
+        try {
+            stopLoops();
+        } finally {
+            if (ownWorkers != null) {
+                ownWorkers.shutdown();
+            }
+        }
+    }
+
+    private void stopLoops() {
+        try {
+            for (EventLoop loop : loops) {
+                if (loop != null) {
+                    loop.stop();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Unable to close a connection", e);
+        }
+    }
+}
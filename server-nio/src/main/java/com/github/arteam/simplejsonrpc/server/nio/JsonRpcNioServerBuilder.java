@@ -0,0 +1,147 @@
+package com.github.arteam.simplejsonrpc.server.nio;
+
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>Builder of a {@link JsonRpcNioServer}</p>
+ */
+public class JsonRpcNioServerBuilder {
+
+    static final int DEFAULT_MAX_FRAME_LENGTH = 16 * 1024 * 1024;
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    static final int MIN_BUFFER_SIZE = 64;
+
+    final JsonRpcServer rpcServer;
+
+    @Nullable
+    Object service;
+
+    InetSocketAddress address = new InetSocketAddress(0);
+
+    Framing framing = Framing.NEWLINE;
+
+    int eventLoops = Math.min(4, Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+
+    @Nullable
+    Executor workerExecutor;
+
+    int maxFrameLength = DEFAULT_MAX_FRAME_LENGTH;
+
+    int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    JsonRpcNioServerBuilder(JsonRpcServer rpcServer) {
+        this.rpcServer = rpcServer;
+    }
+
+    /**
+     * Sets a service which processes the requests. By default, requests are processed
+     * by the services registered in the JSON-RPC server.
+     *
+     * @param service service object annotated with {@code @JsonRpcService}
+     * @return the current builder
+     */
+    public JsonRpcNioServerBuilder service(Object service) {
+        this.service = service;
+        return this;
+    }
+
+    /**
+     * Sets the address the server listens on. By default, it's an ephemeral port on all interfaces.
+     *
+     * @param address local address
+     * @return the current builder
+     */
+    public JsonRpcNioServerBuilder bind(InetSocketAddress address) {
+        this.address = address;
+        return this;
+    }
+
+    /**
+     * Sets the port the server listens on all interfaces
+     *
+     * @param port local port, 0 for an ephemeral port
+     * @return the current builder
+     */
+    public JsonRpcNioServerBuilder port(int port) {
+        return bind(new InetSocketAddress(port));
+    }
+
+    /**
+     * Sets how requests and responses are delimited. By default, they are terminated by new lines.
+     *
+     * @param framing framing of messages
+     * @return the current builder
+     */
+    public JsonRpcNioServerBuilder framing(Framing framing) {
+        this.framing = framing;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads which perform I/O on connections. Connections are distributed
+     * between them in round-robin. By default, it's a half of the available processors, but no more than 4.
+     *
+     * @param eventLoops number of I/O threads
+     * @return the current builder
+     */
+    public JsonRpcNioServerBuilder eventLoops(int eventLoops) {
+        if (eventLoops < 1) {
+            throw new IllegalArgumentException("Number of event loops should be positive");
+        }
+        this.eventLoops = eventLoops;
+        return this;
+    }
+
+    /**
+     * Sets an executor which processes requests, so slow methods don't block I/O.
+     * By default, it's a fixed thread pool with a thread per available processor,
+     * which is shut down together with the server. A user-defined executor is not shut down.
+     *
+     * @param workerExecutor executor of requests
+     * @return the current builder
+     */
+    public JsonRpcNioServerBuilder workerExecutor(Executor workerExecutor) {
+        this.workerExecutor = workerExecutor;
+        return this;
+    }
+
+    /**
+     * Sets the maximum length of a request in bytes. A connection which sends
+     * a longer request is closed. By default, it's 16 MiB.
+     *
+     * @param maxFrameLength maximum length of a request
+     * @return the current builder
+     */
+    public JsonRpcNioServerBuilder maxFrameLength(int maxFrameLength) {
+        if (maxFrameLength < 1) {
+            throw new IllegalArgumentException("Maximum frame length should be positive");
+        }
+        this.maxFrameLength = maxFrameLength;
+        return this;
+    }
+
+    /**
+     * Sets the size of pooled direct buffers for reading and writing. By default, it's 64 KiB.
+     *
+     * @param bufferSize size of a buffer in bytes
+     * @return the current builder
+     */
+    public JsonRpcNioServerBuilder bufferSize(int bufferSize) {
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Buffer size should be at least " + MIN_BUFFER_SIZE + " bytes");
+        }
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * @return a new server, which should be started with {@link JsonRpcNioServer#start()}
+     */
+    public JsonRpcNioServer build() {
+        return new JsonRpcNioServer(this);
+    }
+}
@@ -0,0 +1,286 @@
+package com.github.arteam.simplejsonrpc.server.nio;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the TCP server over the loopback interface
+ */
+public class JsonRpcNioServerTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final InetSocketAddress LOOPBACK = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+
+    private final EchoService echoService = new EchoService();
+    private final JsonRpcServer rpcServer = JsonRpcServer.builder().register(echoService).build();
+
+    private JsonRpcNioServer server;
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private JsonRpcNioServer start(JsonRpcNioServerBuilder builder) throws IOException {
+        server = builder.bind(LOOPBACK).build().start();
+        return server;
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket();
+        socket.setSoTimeout(10_000);
+        socket.connect(server.localAddress());
+        return socket;
+    }
+
+    private static String request(String method, String params, int id) {
+        return "{\"jsonrpc\":\"2.0\",\"method\":\"" + method + "\",\"params\":" + params + ",\"id\":" + id + "}";
+    }
+
+    private static byte[] line(String message) {
+        return (message + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testNewlineFraming() throws Exception {
+        start(JsonRpcNioServer.builder(rpcServer));
+        try (Socket socket = connect()) {
+            socket.getOutputStream().write(line(request("sum", "[2,3]", 1)));
+            BufferedReader reader = reader(socket);
+
+            JsonNode response = mapper.readTree(reader.readLine());
+            assertThat(response.get("result").asInt()).isEqualTo(5);
+            assertThat(response.get("id").asInt()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testLengthPrefixedFraming() throws Exception {
+        start(JsonRpcNioServer.builder(rpcServer).framing(Framing.LENGTH_PREFIXED));
+        try (Socket socket = connect()) {
+            DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+            writeFrame(output, "[" + request("sum", "[2,3]", 1) + "," + request("echo", "[\"hi\"]", 2) + "]");
+            DataInputStream input = new DataInputStream(socket.getInputStream());
+
+            JsonNode responses = mapper.readTree(readFrame(input));
+            assertThat(responses).hasSize(2);
+            assertThat(responses.get(0).get("result").asInt()).isEqualTo(5);
+            assertThat(responses.get(1).get("result").asText()).isEqualTo("hi");
+        }
+    }
+
+    @Test
+    public void testNotificationIsNotAnswered() throws Exception {
+        start(JsonRpcNioServer.builder(rpcServer));
+        try (Socket socket = connect()) {
+            OutputStream output = socket.getOutputStream();
+            output.write(line("{\"jsonrpc\":\"2.0\",\"method\":\"count\"}"));
+            output.write(line(request("count", "[]", 7)));
+            BufferedReader reader = reader(socket);
+
+            JsonNode response = mapper.readTree(reader.readLine());
+            assertThat(response.get("id").asInt()).isEqualTo(7);
+            socket.shutdownOutput();
+            assertThat(reader.readLine()).isNull();
+            assertThat(echoService.counter.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testFailedRequestClosesConnection() throws Exception {
+        // Without registered services the JSON-RPC server throws an exception instead of responding
+        start(JsonRpcNioServer.builder(JsonRpcServer.builder().build()));
+        try (Socket socket = connect()) {
+            socket.getOutputStream().write(line(request("sum", "[2,3]", 1)));
+
+            assertThat(reader(socket).readLine()).isNull();
+        }
+    }
+
+    @Test
+    public void testFragmentedPipelinedRequests() throws Exception {
+        start(JsonRpcNioServer.builder(rpcServer).bufferSize(64));
+        StringBuilder requests = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            requests.append(request("sum", "[" + i + "," + i + "]", i)).append("\r\n\n");
+        }
+        try (Socket socket = connect()) {
+            socket.setTcpNoDelay(true);
+            OutputStream output = socket.getOutputStream();
+            for (byte b : requests.toString().getBytes(StandardCharsets.UTF_8)) {
+                output.write(b);
+                output.flush();
+            }
+            BufferedReader reader = reader(socket);
+
+            Map<Integer, Integer> results = new HashMap<>();
+            for (int i = 0; i < 20; i++) {
+                JsonNode response = mapper.readTree(reader.readLine());
+                results.put(response.get("id").asInt(), response.get("result").asInt());
+            }
+            for (int i = 0; i < 20; i++) {
+                assertThat(results).containsEntry(i, 2 * i);
+            }
+        }
+    }
+
+    @Test
+    public void testResponseLargerThanBuffer() throws Exception {
+        start(JsonRpcNioServer.builder(rpcServer).framing(Framing.LENGTH_PREFIXED).bufferSize(64));
+        String text = "a".repeat(200_000);
+        try (Socket socket = connect()) {
+            DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+            writeFrame(output, request("echo", "[\"" + text + "\"]", 1));
+            writeFrame(output, request("echo", "[\"b\"]", 2));
+            DataInputStream input = new DataInputStream(socket.getInputStream());
+
+            Map<Integer, String> results = new HashMap<>();
+            for (int i = 0; i < 2; i++) {
+                JsonNode response = mapper.readTree(readFrame(input));
+                results.put(response.get("id").asInt(), response.get("result").asText());
+            }
+            assertThat(results).containsEntry(1, text).containsEntry(2, "b");
+        }
+    }
+
+    @Test
+    public void testConcurrentConnections() throws Exception {
+        start(JsonRpcNioServer.builder(rpcServer).eventLoops(2));
+        ExecutorService clients = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int c = 0; c < 64; c++) {
+                int connection = c;
+                futures.add(clients.submit(() -> {
+                    try (Socket socket = connect()) {
+                        OutputStream output = socket.getOutputStream();
+                        for (int i = 0; i < 10; i++) {
+                            output.write(line(request("sum", "[" + connection + "," + i + "]", i)));
+                        }
+                        BufferedReader reader = reader(socket);
+                        int sum = 0;
+                        for (int i = 0; i < 10; i++) {
+                            sum += mapper.readTree(reader.readLine()).get("result").asInt();
+                        }
+                        return sum;
+                    }
+                }));
+            }
+            for (int c = 0; c < futures.size(); c++) {
+                assertThat(futures.get(c).get()).isEqualTo(10 * c + 45);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTooLongFrameClosesConnection() throws Exception {
+        start(JsonRpcNioServer.builder(rpcServer).maxFrameLength(16));
+        try (Socket socket = connect()) {
+            socket.getOutputStream().write(line(request("sum", "[2,3]", 1)));
+
+            assertThat(socket.getInputStream().read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    public void testUserWorkerExecutor() throws Exception {
+        ExecutorService workers = Executors.newSingleThreadExecutor(r -> new Thread(r, "custom-worker"));
+        try {
+            start(JsonRpcNioServer.builder(rpcServer).service(echoService).workerExecutor(workers));
+            try (Socket socket = connect()) {
+                socket.getOutputStream().write(line(request("thread", "[]", 1)));
+
+                assertThat(mapper.readTree(reader(socket).readLine()).get("result").asText())
+                        .isEqualTo("custom-worker");
+            }
+            server.close();
+            assertThat(workers.isShutdown()).isFalse();
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNotStarted() {
+        JsonRpcNioServer notStarted = JsonRpcNioServer.builder(rpcServer).build();
+
+        assertThatThrownBy(notStarted::localAddress).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> JsonRpcNioServer.builder(rpcServer).bufferSize(8))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BufferedReader reader(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static void writeFrame(DataOutputStream output, String message) throws IOException {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+        output.flush();
+    }
+
+    private static byte[] readFrame(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    @JsonRpcService
+    public static class EchoService {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @JsonRpcMethod
+        public int sum(@JsonRpcParam("a") int a, @JsonRpcParam("b") int b) {
+            return a + b;
+        }
+
+        @JsonRpcMethod
+        public String echo(@JsonRpcParam("text") String text) {
+            return text;
+        }
+
+        @JsonRpcMethod
+        public int count() {
+            return counter.incrementAndGet();
+        }
+
+        @JsonRpcMethod
+        public String thread() {
+            return Thread.currentThread().getName();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.arteam.simplejsonrpc.server;
+
+/**
+ * <p>Order of responses to a batch request which is processed in parallel or asynchronously</p>
+ */
+public enum BatchResponseOrder {
+
+    /**
+     * Responses are written in the order of the requests in the batch
+     */
+    REQUEST,
+
+    /**
+     * Responses are written as soon as they are ready. The JSON-RPC 2.0 specification permits
+     * to return responses in any order, clients should match them by ids.
+     */
+    COMPLETION
+}
@@ -0,0 +1,114 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.arteam.simplejsonrpc.server.metadata.ClassMetadata;
+import com.github.arteam.simplejsonrpc.server.metadata.MethodMetadata;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Immutable table of methods of registered services.</p>
+ * Methods of a service registered with a namespace are available as {@code namespace.method}.
+ * The table is built once when the server is created and is looked up by the raw characters
+ * of a method name, so resolving a method doesn't allocate a string or touch the class metadata.
+ */
+class DispatchTable implements MethodResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonRpcServer.class);
+
+    static final char NAMESPACE_SEPARATOR = '.';
+
+    /**
+     * Names of the methods in an open-addressing hash table
+     */
+    private final char[][] names;
+
+    private final Route[] routes;
+
+    private final int mask;
+
+    /**
+     * @param services services by their namespaces (an empty namespace means that the methods are not prefixed)
+     * @param mapper   JSON mapper for resolving the method types
+     */
+    DispatchTable(Map<String, Object> services, ObjectMapper mapper) {
+        List<Route> allRoutes = new ArrayList<>();
+        Set<String> allNames = new HashSet<>();
+        for (Map.Entry<String, Object> entry : services.entrySet()) {
+            String namespace = entry.getKey();
+            Object service = entry.getValue();
+            ClassMetadata classMetadata = Reflections.getClassMetadata(service.getClass(), mapper);
+            if (!classMetadata.service()) {
+                throw new IllegalArgumentException(service.getClass() + " is not a JSON-RPC 2.0 service");
+            }
+            for (MethodMetadata method : classMetadata.methods().values()) {
+                String name = namespace.isEmpty() ? method.name() : namespace + NAMESPACE_SEPARATOR + method.name();
+                if (!allNames.add(name)) {
+                    throw new IllegalArgumentException("Method '" + name + "' is registered more than once");
+                }
+                allRoutes.add(new Route(name, service, method));
+            }
+        }
+
+        // Keep the load factor under 0.5, so the probe sequences are short
+        int capacity = Integer.highestOneBit(Math.max(allRoutes.size(), 1) * 4 - 1);
+        this.names = new char[capacity][];
+        this.routes = new Route[capacity];
+        this.mask = capacity - 1;
+        for (Route route : allRoutes) {
+            int index = spread(route.name().hashCode()) & mask;
+            while (routes[index] != null) {
+                index = (index + 1) & mask;
+            }
+            names[index] = route.name().toCharArray();
+            routes[index] = route;
+        }
+    }
+
+    @Override
+    @Nullable
+    public Route resolve(String methodName) {
+        int index = spread(methodName.hashCode()) & mask;
+        Route route;
+        while ((route = routes[index]) != null) {
+            if (route.name().equals(methodName)) {
+                return route;
+            }
+            index = (index + 1) & mask;
+        }
+        log.error("Unable find a method: '" + methodName + "'");
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public Route resolve(char[] chars, int offset, int length) {
+        // The same hash function as String#hashCode, so names are looked up by strings and chars in the same way
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int index = spread(hash) & mask;
+        Route route;
+        while ((route = routes[index]) != null) {
+            if (Arrays.equals(names[index], 0, names[index].length, chars, offset, offset + length)) {
+                return route;
+            }
+            index = (index + 1) & mask;
+        }
+        log.error("Unable find a method: '" + new String(chars, offset, length) + "'");
+        return null;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Counters of errors by their codes.</p>
+ * There are usually only a few distinct codes, so the counters are kept in a copy-on-write array
+ * and looked up by a linear scan without boxing the code.
+ */
+class ErrorCounters {
+
+    private volatile Counter[] counters = new Counter[0];
+
+    void increment(int code) {
+        counter(code).increment();
+    }
+
+    private LongAdder counter(int code) {
+        for (Counter counter : counters) {
+            if (counter.code == code) {
+                return counter.adder;
+            }
+        }
+        return addCounter(code);
+    }
+
+    private synchronized LongAdder addCounter(int code) {
+        Counter[] current = counters;
+        for (Counter counter : current) {
+            if (counter.code == code) {
+                return counter.adder;
+            }
+        }
+        Counter[] extended = new Counter[current.length + 1];
+        System.arraycopy(current, 0, extended, 0, current.length);
+        Counter counter = new Counter(code, new LongAdder());
+        extended[current.length] = counter;
+        counters = extended;
+        return counter.adder;
+    }
+
+    Map<Integer, Long> snapshot() {
+        Map<Integer, Long> snapshot = new HashMap<>();
+        for (Counter counter : counters) {
+            snapshot.put(counter.code, counter.adder.sum());
+        }
+        return Map.copyOf(snapshot);
+    }
+
+    private record Counter(int code, LongAdder adder) {
+    }
+}
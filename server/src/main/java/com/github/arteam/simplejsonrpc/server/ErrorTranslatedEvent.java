@@ -0,0 +1,30 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>JFR event of a translation of an exception thrown by a method to a JSON-RPC error</p>
+ */
+@Name("com.github.arteam.simplejsonrpc.server.ErrorTranslated")
+@Label("JSON-RPC Error Translated")
+@Description("Translation of an exception thrown by a method to a JSON-RPC error")
+@Category({"JSON-RPC", "Server"})
+@StackTrace(false)
+class ErrorTranslatedEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Id")
+    String id;
+
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+
+    @Label("Error Code")
+    int errorCode;
+}
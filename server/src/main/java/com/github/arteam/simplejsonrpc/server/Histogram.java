@@ -0,0 +1,42 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import com.github.arteam.simplejsonrpc.server.metrics.HistogramSnapshot;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Lock-free histogram with log-linear buckets.</p>
+ * The buckets are striped counters, so recording from many threads doesn't contend
+ * on a single memory location and doesn't allocate.
+ *
+ * @see HistogramSnapshot
+ */
+class Histogram {
+
+    private final LongAdder[] buckets = new LongAdder[HistogramSnapshot.BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    Histogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long value) {
+        buckets[HistogramSnapshot.bucketIndex(value)].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    HistogramSnapshot snapshot() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new HistogramSnapshot(count.sum(), sum.sum(), max.get(), counts);
+    }
+}
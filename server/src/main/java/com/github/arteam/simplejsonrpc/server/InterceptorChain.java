@@ -0,0 +1,101 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import com.github.arteam.simplejsonrpc.server.interceptor.Invocation;
+import com.github.arteam.simplejsonrpc.server.interceptor.JsonRpcInterceptor;
+import com.github.arteam.simplejsonrpc.server.interceptor.JsonRpcInterceptor.Proceed;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * <p>Interceptors composed into a single chain of functions.</p>
+ * The hooks which are not overridden by an interceptor are skipped when the chain is built,
+ * so processing of a request doesn't iterate over the interceptors or allocate.
+ */
+class InterceptorChain {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonRpcServer.class);
+
+    private static final Proceed INVOKE = invocation -> invocation.method()
+            .invoke(invocation.service(), invocation.params());
+
+    private final Proceed invoker;
+
+    @Nullable
+    private final ErrorHook errorHook;
+
+    private InterceptorChain(Proceed invoker, @Nullable ErrorHook errorHook) {
+        this.invoker = invoker;
+        this.errorHook = errorHook;
+    }
+
+    /**
+     * Composes the interceptors
+     *
+     * @param interceptors interceptors in the registration order
+     * @return the chain or {@code null} if no interceptor overrides any hook
+     */
+    @Nullable
+    static InterceptorChain of(List<JsonRpcInterceptor> interceptors) {
+        Proceed invoker = INVOKE;
+        ErrorHook errorHook = null;
+        for (int i = interceptors.size() - 1; i >= 0; i--) {
+            JsonRpcInterceptor interceptor = interceptors.get(i);
+            if (overrides(interceptor, "aroundInvoke", Invocation.class, Proceed.class)) {
+                Proceed next = invoker;
+                invoker = invocation -> interceptor.aroundInvoke(invocation, next);
+            }
+        }
+        for (int i = interceptors.size() - 1; i >= 0; i--) {
+            JsonRpcInterceptor interceptor = interceptors.get(i);
+            if (overrides(interceptor, "beforeDispatch", Invocation.class)) {
+                Proceed next = invoker;
+                invoker = invocation -> {
+                    interceptor.beforeDispatch(invocation);
+                    return next.proceed(invocation);
+                };
+            }
+            if (overrides(interceptor, "onError", Invocation.class, Throwable.class)) {
+                ErrorHook next = errorHook;
+                errorHook = next == null ? interceptor::onError : (invocation, error) -> {
+                    interceptor.onError(invocation, error);
+                    next.onError(invocation, error);
+                };
+            }
+        }
+        return invoker == INVOKE && errorHook == null ? null : new InterceptorChain(invoker, errorHook);
+    }
+
+    @Nullable
+    Object invoke(Invocation invocation) throws Throwable {
+        return invoker.proceed(invocation);
+    }
+
+    void onError(Invocation invocation, Throwable error) {
+        if (errorHook == null) {
+            return;
+        }
+        try {
+            errorHook.onError(invocation, error);
+        } catch (RuntimeException e) {
+            log.warn("Interceptor failed on an error of: " + invocation, e);
+        }
+    }
+
+    private static boolean overrides(JsonRpcInterceptor interceptor, String name, Class<?>... parameterTypes) {
+        try {
+            return interceptor.getClass().getMethod(name, parameterTypes).getDeclaringClass() !=
+                    JsonRpcInterceptor.class;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ErrorHook {
+
+        void onError(Invocation invocation, Throwable error);
+    }
+}
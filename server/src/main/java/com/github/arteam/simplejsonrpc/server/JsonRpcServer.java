@@ -1,37 +1,46 @@
 package com.github.arteam.simplejsonrpc.server;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ContainerNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.node.ValueNode;
 import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcError;
 import com.github.arteam.simplejsonrpc.core.domain.ErrorMessage;
 import com.github.arteam.simplejsonrpc.core.domain.ErrorResponse;
-import com.github.arteam.simplejsonrpc.core.domain.Request;
+import com.github.arteam.simplejsonrpc.core.domain.JsonRpcResult;
 import com.github.arteam.simplejsonrpc.core.domain.Response;
 import com.github.arteam.simplejsonrpc.core.domain.SuccessResponse;
 import com.github.arteam.simplejsonrpc.server.metadata.ClassMetadata;
-import com.github.arteam.simplejsonrpc.server.metadata.ErrorDataResolver;
+import com.github.arteam.simplejsonrpc.server.metadata.ErrorMetadata;
 import com.github.arteam.simplejsonrpc.server.metadata.MethodMetadata;
-import com.github.arteam.simplejsonrpc.server.metadata.ParameterMetadata;
+import com.github.arteam.simplejsonrpc.server.metrics.MetricsSnapshot;
+import com.github.arteam.simplejsonrpc.server.metrics.PhaseListener;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -40,38 +49,91 @@ import java.util.function.Supplier;
  * Time: 12:06
  * <p>Main class for processing JSON-RPC 2.0 requests from the server side.</p>
  * <ol>
- * <li>Converts a text JSON-RPC request to a Java JSON tree object</li>
- * <li>Checks that the request is conform with the JSON-RPC 2.0 standard</li>
  * <li>Scans metadata of a service assigned for request processing</li>
+ * <li>Reads a JSON-RPC request with a streaming parser and checks that it is conform with the JSON-RPC 2.0 standard</li>
  * <li>Finds a correspondent method</li>
- * <li>Prepares the method params based on the method metadata and the incoming request params</li>
+ * <li>Binds the incoming request params directly to the method params based on the method metadata</li>
  * <li>Invokes the method</li>
- * <li>Prepares a JSON-tree response and convert it to text representation</li>
+ * <li>Writes a response straight to the output without building a JSON tree</li>
  * <li>In case of a error return appropriate returns an error message according to the standard</li>
  * </ol>
  */
 public class JsonRpcServer {
 
     // Error messages
-    private static final ErrorMessage PARSE_ERROR = new ErrorMessage(-32700, "Parse error", null);
-    private static final ErrorMessage METHOD_NOT_FOUND = new ErrorMessage(-32601, "Method not found", null);
-    private static final ErrorMessage INVALID_REQUEST = new ErrorMessage(-32600, "Invalid Request", null);
-    private static final ErrorMessage INVALID_PARAMS = new ErrorMessage(-32602, "Invalid params", null);
-    private static final ErrorMessage INTERNAL_ERROR = new ErrorMessage(-32603, "Internal error", null);
+    static final ErrorMessage PARSE_ERROR = new ErrorMessage(-32700, "Parse error", null);
+    static final ErrorMessage METHOD_NOT_FOUND = new ErrorMessage(-32601, "Method not found", null);
+    static final ErrorMessage INVALID_REQUEST = new ErrorMessage(-32600, "Invalid Request", null);
+    static final ErrorMessage INVALID_PARAMS = new ErrorMessage(-32602, "Invalid params", null);
+    static final ErrorMessage INTERNAL_ERROR = new ErrorMessage(-32603, "Internal error", null);
 
     private static final Logger log = LoggerFactory.getLogger(JsonRpcServer.class);
-    private static final String VERSION = "2.0";
+    private static final MetricsRecorder EMPTY_METRICS = new MetricsRecorder();
+    static final String VERSION = "2.0";
 
     private final ObjectMapper mapper;
 
+    /**
+     * Streaming decoder of requests
+     */
+    private final RequestDecoder decoder;
+
+    /**
+     * Streaming writer of responses
+     */
+    private final ResponseWriter responseWriter;
+
     /**
      * Cache of classes metadata
      */
     private final ConcurrentMap<Class<?>, ClassMetadata> classesMetadata = new ConcurrentHashMap<>();
     /**
-     * Cache of classes metadata
+     * Cache of translations of exception classes to JSON-RPC errors
+     */
+    private final ConcurrentMap<Class<? extends Throwable>, Optional<ErrorMetadata>> errorsMetadata =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Executor of batch elements or {@code null} if batches are processed in the caller thread
+     */
+    @Nullable
+    private final Executor batchExecutor;
+
+    /**
+     * Executor which starts a virtual thread per task or {@code null} if virtual threads are disabled
      */
-    private final ConcurrentMap<Class<? extends Throwable>, ErrorDataResolver> dataResolvers = new ConcurrentHashMap<>();
+    @Nullable
+    private final ExecutorService virtualThreadExecutor;
+
+    private final int parallelBatchThreshold;
+
+    private final BatchResponseOrder batchResponseOrder;
+
+    /**
+     * Recorder of metrics or {@code null} if metrics are disabled
+     */
+    @Nullable
+    private final MetricsRecorder metrics;
+
+    /**
+     * Listener of phase timings or {@code null} if phases are not timed
+     */
+    @Nullable
+    private final PhaseListener phaseListener;
+
+    private final double phaseSamplingRate;
+
+    /**
+     * Interceptors of invocations or {@code null} if there are no interceptors
+     */
+    @Nullable
+    private final InterceptorChain interceptors;
+
+    /**
+     * Methods of the services registered in the builder or {@code null} if there are no such services
+     */
+    @Nullable
+    private final DispatchTable dispatchTable;
 
     /**
      * Init JSON-RPC server
@@ -79,7 +141,7 @@ public class JsonRpcServer {
      * @param mapper used-defined JSON mapper
      */
     public JsonRpcServer(ObjectMapper mapper) {
-        this.mapper = mapper;
+        this(builder().mapper(mapper));
     }
 
     /**
@@ -89,6 +151,40 @@ public class JsonRpcServer {
         this(new ObjectMapper());
     }
 
+    JsonRpcServer(JsonRpcServerBuilder builder) {
+        this.mapper = builder.mapper;
+        this.decoder = new RequestDecoder(mapper);
+        this.responseWriter = new ResponseWriter(mapper);
+        this.virtualThreadExecutor = builder.virtualThreads ? VirtualThreads.newThreadPerTaskExecutor() : null;
+        this.batchExecutor = virtualThreadExecutor != null ? virtualThreadExecutor : builder.batchExecutor;
+        this.parallelBatchThreshold = builder.parallelBatchThreshold;
+        this.batchResponseOrder = builder.batchResponseOrder;
+        this.metrics = builder.metricsEnabled ? new MetricsRecorder() : null;
+        this.phaseListener = builder.phaseSamplingRate > 0 ? builder.phaseListener : null;
+        this.phaseSamplingRate = builder.phaseSamplingRate;
+        this.interceptors = InterceptorChain.of(builder.interceptors);
+        this.dispatchTable = builder.services.isEmpty() ? null : new DispatchTable(builder.services, mapper);
+    }
+
+    /**
+     * Creates a builder of a JSON-RPC server with non-default settings
+     *
+     * @return server builder
+     */
+    public static JsonRpcServerBuilder builder() {
+        return new JsonRpcServerBuilder();
+    }
+
+    /**
+     * Takes a snapshot of the server metrics. Metrics are recorded only if they are enabled
+     * by {@link JsonRpcServerBuilder#metricsEnabled(boolean)}, otherwise the snapshot is empty.
+     *
+     * @return cumulative metrics since the server was created
+     */
+    public MetricsSnapshot metrics() {
+        return (metrics != null ? metrics : EMPTY_METRICS).snapshot();
+    }
+
     /**
      * Handles a JSON-RPC request(single or batch),
      * delegates processing to the service, and returns a JSON-RPC response.
@@ -98,62 +194,584 @@ public class JsonRpcServer {
      * @return text representation of a JSON-RPC response
      */
     public String handle(String textRequest, Object service) {
-        return handle(service, () -> mapper.readTree(textRequest), this::toJson, () -> "");
+        return handleText(textRequest, methodResolver(service));
+    }
+
+    /**
+     * Handles a JSON-RPC request(single or batch) with the services registered in the builder
+     *
+     * @param textRequest text representation of a JSON-RPC request
+     * @return text representation of a JSON-RPC response
+     * @throws IllegalStateException if no services are registered
+     */
+    public String handle(String textRequest) {
+        return handleText(textRequest, dispatchTable());
     }
 
     public byte[] handle(byte[] byteRequest, Object service) {
-        return handle(service, () -> mapper.readTree(byteRequest), this::toJsonByteArray, () -> new byte[]{});
+        return handleBytes(byteRequest, methodResolver(service));
     }
 
+    /**
+     * Handles a JSON-RPC request(single or batch) with the services registered in the builder
+     *
+     * @param byteRequest JSON-RPC request as UTF-8 bytes
+     * @return JSON-RPC response as UTF-8 bytes
+     * @throws IllegalStateException if no services are registered
+     */
+    public byte[] handle(byte[] byteRequest) {
+        return handleBytes(byteRequest, dispatchTable());
+    }
+
+    /**
+     * Handles a JSON-RPC request(single or batch) from a stream and writes responses
+     * to the output stream as soon as they are produced.
+     *
+     * @param requestInputStream   stream with a JSON-RPC request
+     * @param responseOutputStream stream for a JSON-RPC response
+     * @param service              actual service for the request processing
+     * @return the response output stream or an empty stream if there is no response
+     */
     public OutputStream handle(InputStream requestInputStream, OutputStream responseOutputStream,
                                Object service) {
-        return handle(service, () -> mapper.readTree(requestInputStream),
-                v -> toJsonOutputStream(v, responseOutputStream), ByteArrayOutputStream::new);
+        return handle(methodResolver(service), () -> mapper.createParser(requestInputStream),
+                ResponseSink.of(responseOutputStream));
     }
 
-    private <T> T handle(Object service, JsonNodeSupplier rootRequestSupplier, Function<Object, T> jsonConverter,
-                         Supplier<T> emptyResponse) {
-        JsonNode rootRequest;
-        try {
-            rootRequest = rootRequestSupplier.get();
-            if (log.isDebugEnabled()) {
-                log.debug("Request : {}", mapper.writeValueAsString(rootRequest));
+    /**
+     * Handles a JSON-RPC request(single or batch) from a stream with the services registered in the builder
+     *
+     * @param requestInputStream   stream with a JSON-RPC request
+     * @param responseOutputStream stream for a JSON-RPC response
+     * @return the response output stream or an empty stream if there is no response
+     * @throws IllegalStateException if no services are registered
+     */
+    public OutputStream handle(InputStream requestInputStream, OutputStream responseOutputStream) {
+        return handle(dispatchTable(), () -> mapper.createParser(requestInputStream),
+                ResponseSink.of(responseOutputStream));
+    }
+
+    /**
+     * Handles a JSON-RPC request(single or batch) without blocking the caller thread
+     * on service methods which return a {@link CompletionStage}.
+     *
+     * @param textRequest text representation of a JSON-RPC request
+     * @param service     actual service for the request processing
+     * @return future of a text representation of a JSON-RPC response,
+     * which is completed when all the results of the request are ready
+     */
+    public CompletableFuture<String> handleAsync(String textRequest, Object service) {
+        return handleTextAsync(textRequest, methodResolver(service));
+    }
+
+    /**
+     * Handles a JSON-RPC request(single or batch) with the services registered in the builder
+     * without blocking the caller thread on service methods which return a {@link CompletionStage}.
+     *
+     * @param textRequest text representation of a JSON-RPC request
+     * @return future of a text representation of a JSON-RPC response
+     * @throws IllegalStateException if no services are registered
+     */
+    public CompletableFuture<String> handleAsync(String textRequest) {
+        return handleTextAsync(textRequest, dispatchTable());
+    }
+
+    /**
+     * Handles a JSON-RPC request(single or batch) without blocking the caller thread
+     * on service methods which return a {@link CompletionStage}.
+     *
+     * @param byteRequest JSON-RPC request as UTF-8 bytes
+     * @param service     actual service for the request processing
+     * @return future of a JSON-RPC response as UTF-8 bytes,
+     * which is completed when all the results of the request are ready
+     */
+    public CompletableFuture<byte[]> handleAsync(byte[] byteRequest, Object service) {
+        return handleBytesAsync(byteRequest, methodResolver(service));
+    }
+
+    /**
+     * Handles a JSON-RPC request(single or batch) with the services registered in the builder
+     * without blocking the caller thread on service methods which return a {@link CompletionStage}.
+     *
+     * @param byteRequest JSON-RPC request as UTF-8 bytes
+     * @return future of a JSON-RPC response as UTF-8 bytes
+     * @throws IllegalStateException if no services are registered
+     */
+    public CompletableFuture<byte[]> handleAsync(byte[] byteRequest) {
+        return handleBytesAsync(byteRequest, dispatchTable());
+    }
+
+    private String handleText(String textRequest, MethodResolver resolver) {
+        if (log.isDebugEnabled()) {
+            log.debug("Request : {}", textRequest);
+        }
+        String response = handle(resolver, () -> mapper.createParser(textRequest), ResponseSink.ofString());
+        if (log.isDebugEnabled()) {
+            log.debug("Response: {}", response);
+        }
+        return response;
+    }
+
+    private byte[] handleBytes(byte[] byteRequest, MethodResolver resolver) {
+        if (log.isDebugEnabled()) {
+            log.debug("Request : {}", new String(byteRequest, StandardCharsets.UTF_8));
+        }
+        byte[] response = handle(resolver, () -> mapper.createParser(byteRequest), ResponseSink.ofBytes());
+        if (log.isDebugEnabled()) {
+            log.debug("Response: {}", new String(response, StandardCharsets.UTF_8));
+        }
+        return response;
+    }
+
+    private CompletableFuture<String> handleTextAsync(String textRequest, MethodResolver resolver) {
+        if (log.isDebugEnabled()) {
+            log.debug("Request : {}", textRequest);
+        }
+        return handleAsync(resolver, () -> mapper.createParser(textRequest), ResponseSink::ofString)
+                .whenComplete((response, e) -> {
+                    if (response != null && log.isDebugEnabled()) {
+                        log.debug("Response: {}", response);
+                    }
+                });
+    }
+
+    private CompletableFuture<byte[]> handleBytesAsync(byte[] byteRequest, MethodResolver resolver) {
+        if (log.isDebugEnabled()) {
+            log.debug("Request : {}", new String(byteRequest, StandardCharsets.UTF_8));
+        }
+        return handleAsync(resolver, () -> mapper.createParser(byteRequest), ResponseSink::ofBytes)
+                .whenComplete((response, e) -> {
+                    if (response != null && log.isDebugEnabled()) {
+                        log.debug("Response: {}", new String(response, StandardCharsets.UTF_8));
+                    }
+                });
+    }
+
+    private <T> T handle(MethodResolver resolver, JsonParserSupplier parserSupplier, ResponseSink<T> sink) {
+        Payload payload = decode(resolver, parserSupplier);
+        if (payload.error() != null) {
+            return writeSingle(sink, payload.error(), null);
+        }
+
+        // Check if a single request or a batch
+        if (!payload.batch()) {
+            RpcCall call = payload.calls().get(0);
+            return writeSingle(sink, call, handleWrapper(call));
+        }
+        return writeBatch(sink, payload.calls());
+    }
+
+    private <T> CompletableFuture<T> handleAsync(MethodResolver resolver, JsonParserSupplier parserSupplier,
+                                                 Supplier<ResponseSink<T>> sinkSupplier) {
+        Payload payload = decode(resolver, parserSupplier);
+        if (payload.error() != null) {
+            return CompletableFuture.completedFuture(writeSingle(sinkSupplier.get(), payload.error(), null));
+        }
+
+        if (!payload.batch()) {
+            RpcCall call = payload.calls().get(0);
+            CompletableFuture<Response> response = virtualThreadExecutor != null ?
+                    submit(call, virtualThreadExecutor) :
+                    handleWrapperAsync(call);
+            return response.thenApply(value -> writeSingle(sinkSupplier.get(), call, value));
+        }
+
+        List<RpcCall> calls = payload.calls();
+        List<CompletableFuture<Response>> futures;
+        if (batchExecutor != null && calls.size() >= parallelBatchThreshold) {
+            futures = submitBatch(calls, null, batchExecutor);
+        } else {
+            futures = new ArrayList<>(calls.size());
+            for (RpcCall call : calls) {
+                futures.add(handleWrapperAsync(call));
+            }
+        }
+        if (batchResponseOrder == BatchResponseOrder.COMPLETION) {
+            return writeBatchOnCompletion(sinkSupplier.get(), calls, futures);
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+            BatchResponses<T> responses = new BatchResponses<>(sinkSupplier.get(), calls.size());
+            try {
+                for (int i = 0; i < calls.size(); i++) {
+                    responses.write(calls.get(i), futures.get(i).join());
+                }
+                return responses.finish();
+            } catch (IOException e) {
+                log.error("Unable write json batch response", e);
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * Writes responses to an asynchronous batch as soon as they are ready
+     *
+     * @param sink    destination of the batch response
+     * @param calls   batch elements
+     * @param futures futures of responses in the request order
+     * @return future of the batch response, which is completed after the last response is written
+     */
+    private <T> CompletableFuture<T> writeBatchOnCompletion(ResponseSink<T> sink, List<RpcCall> calls,
+                                                            List<CompletableFuture<Response>> futures) {
+        BatchResponses<T> responses = new BatchResponses<>(sink, calls.size());
+        CompletableFuture<T> result = new CompletableFuture<>();
+        int[] remaining = {calls.size()};
+        for (int i = 0; i < calls.size(); i++) {
+            RpcCall call = calls.get(i);
+            futures.get(i).thenAccept(response -> {
+                // Responses can be completed concurrently, but the generator is not thread-safe
+                synchronized (responses) {
+                    if (result.isDone()) {
+                        return;
+                    }
+                    try {
+                        responses.write(call, response);
+                        if (--remaining[0] == 0) {
+                            result.complete(responses.finish());
+                        }
+                    } catch (IOException e) {
+                        log.error("Unable write json batch response", e);
+                        result.completeExceptionally(new IllegalStateException(e));
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Reads a JSON-RPC request(single or batch) with a streaming parser
+     *
+     * @param resolver       resolver of the request methods
+     * @param parserSupplier supplier of a parser over the request
+     * @return decoded requests or an error response for the whole request
+     */
+    private Payload decode(MethodResolver resolver, JsonParserSupplier parserSupplier) {
+        RequestReceivedEvent event = new RequestReceivedEvent();
+        event.begin();
+        Payload payload = decode(resolver, parserSupplier, event);
+        if (event.shouldCommit()) {
+            event.batchSize = payload.batch() ? payload.calls().size() : 0;
+            event.errorCode = payload.error() != null ? payload.error().error().getCode() : 0;
+            event.commit();
+        }
+        return payload;
+    }
+
+    private Payload decode(MethodResolver resolver, JsonParserSupplier parserSupplier, RequestReceivedEvent event) {
+        try (JsonParser parser = parserSupplier.get()) {
+            boolean timed = isSampled();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                RpcCall call = decoder.readCall(parser, resolver, timed);
+                recordPayload(parser, 0, event);
+                return new Payload(List.of(call), false, null);
+            } else if (token == JsonToken.START_ARRAY) {
+                List<RpcCall> calls = decoder.readBatch(parser, resolver, timed);
+                if (!calls.isEmpty()) {
+                    recordPayload(parser, calls.size(), event);
+                    return new Payload(calls, true, null);
+                }
+            } else if (token != null) {
+                parser.finishToken();
             }
         } catch (IOException e) {
             log.error("Bad json request", e);
-            return jsonConverter.apply(ErrorResponse.of(PARSE_ERROR));
+            return errorPayload(ErrorResponse.of(PARSE_ERROR));
         }
+        log.error("Invalid JSON-RPC request: it should be an object or a non-empty array");
+        return errorPayload(ErrorResponse.of(INVALID_REQUEST));
+    }
 
-        // Check if a single request or a batch
-        if (rootRequest.isObject()) {
-            Response response = handleWrapper(rootRequest, service);
-            return isNotification(rootRequest, response) ? emptyResponse.get() : jsonConverter.apply(response);
-        } else if (rootRequest.isArray() && rootRequest.size() > 0) {
-            ArrayNode responses = mapper.createArrayNode();
-            for (JsonNode request : rootRequest) {
-                Response response = handleWrapper(request, service);
-                if (!isNotification(request, response)) {
-                    responses.add(mapper.convertValue(response, ObjectNode.class));
+    private Payload errorPayload(ErrorResponse error) {
+        if (metrics != null) {
+            metrics.recordError(error);
+        }
+        return new Payload(List.of(), false, error);
+    }
+
+    /**
+     * Records the size of a decoded request
+     *
+     * @param parser    parser positioned at the end of the request
+     * @param batchSize amount of elements if the request is a batch, 0 otherwise
+     * @param event     JFR event of the request
+     */
+    private void recordPayload(JsonParser parser, int batchSize, RequestReceivedEvent event) {
+        boolean eventEnabled = event.isEnabled();
+        if (metrics == null && !eventEnabled) {
+            return;
+        }
+        JsonLocation location = parser.currentLocation();
+        long size = location.getByteOffset() >= 0 ? location.getByteOffset() : location.getCharOffset();
+        if (eventEnabled) {
+            event.requestSize = size;
+        }
+        if (metrics != null) {
+            metrics.recordPayload(size);
+            if (batchSize > 0) {
+                metrics.recordBatch(batchSize);
+            }
+        }
+    }
+
+    /**
+     * Decides whether the phases of the current request should be timed
+     */
+    private boolean isSampled() {
+        return phaseListener != null &&
+                (phaseSamplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < phaseSamplingRate);
+    }
+
+    /**
+     * Reports the phase timings of a request if it's sampled
+     */
+    private void reportPhases(RpcCall call) {
+        PhaseTimer timer = call.timer();
+        if (timer == null || call.method() == null || call.methodName() == null) {
+            return;
+        }
+        try {
+            phaseListener.onTimings(timer.timings(call.methodName()));
+        } catch (RuntimeException e) {
+            log.warn("Phase listener failed for: " + call, e);
+        }
+    }
+
+    /**
+     * Writes a response to a single request or skips it if the request is a notification
+     */
+    private <T> T writeSingle(ResponseSink<T> sink, RpcCall call, Response response) {
+        if (isNotification(call, response)) {
+            reportPhases(call);
+            return sink.empty();
+        }
+        ResponseWrittenEvent event = new ResponseWrittenEvent();
+        event.begin();
+        PhaseTimer timer = call.timer();
+        long startNanos = timer != null ? System.nanoTime() : 0;
+        T result = writeSingle(sink, response, call.method());
+        if (timer != null) {
+            timer.serializeNanos = System.nanoTime() - startNanos;
+        }
+        commitWritten(event, call, response, 0);
+        reportPhases(call);
+        return result;
+    }
+
+    private static void commitWritten(ResponseWrittenEvent event, RpcCall call, Response response, int batchSize) {
+        if (event.shouldCommit()) {
+            event.method = call.methodName();
+            event.id = idText(call);
+            event.batchSize = batchSize;
+            event.errorCode = errorCode(response);
+            event.commit();
+        }
+    }
+
+    private <T> T writeSingle(ResponseSink<T> sink, Response response, @Nullable MethodMetadata method) {
+        try (JsonGenerator generator = sink.open(responseWriter)) {
+            responseWriter.write(generator, response, method);
+        } catch (IOException e) {
+            log.error("Unable write json: " + response, e);
+            throw new IllegalStateException(e);
+        }
+        return sink.result();
+    }
+
+    /**
+     * Processes batch requests and writes each response as soon as it's produced.
+     * Batches with at least {@code parallelBatchThreshold} elements are processed in parallel
+     * by the batch executor, smaller ones are processed one by one in the caller thread.
+     * With virtual threads each parallel batch gets its own scope of threads, which are interrupted
+     * if the caller thread is interrupted or the batch fails, so no element outlives the batch.
+     */
+    private <T> T writeBatch(ResponseSink<T> sink, List<RpcCall> calls) {
+        BatchResponses<T> responses = new BatchResponses<>(sink, calls.size());
+        boolean parallel = batchExecutor != null && calls.size() >= parallelBatchThreshold;
+        ExecutorService scope = parallel && virtualThreadExecutor != null ?
+                VirtualThreads.newThreadPerTaskExecutor() : null;
+        Executor executor = scope != null ? scope : batchExecutor;
+        try {
+            if (!parallel) {
+                for (RpcCall call : calls) {
+                    responses.write(call, handleWrapper(call));
+                }
+            } else if (batchResponseOrder == BatchResponseOrder.REQUEST) {
+                List<CompletableFuture<Response>> futures = submitBatch(calls, null, executor);
+                for (int i = 0; i < calls.size(); i++) {
+                    responses.write(calls.get(i), await(futures.get(i)));
+                }
+            } else {
+                BlockingQueue<Integer> completed = new ArrayBlockingQueue<>(calls.size());
+                List<CompletableFuture<Response>> futures = submitBatch(calls, completed, executor);
+                for (int i = 0; i < calls.size(); i++) {
+                    int index = completed.take();
+                    responses.write(calls.get(index), futures.get(index).join());
                 }
             }
+            return responses.finish();
+        } catch (IOException e) {
+            log.error("Unable write json batch response", e);
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batch responses", e);
+        } finally {
+            if (scope != null) {
+                // Cancels the elements which are still running if the batch hasn't been completed
+                scope.shutdownNow();
+            }
+        }
+    }
 
-            return responses.size() > 0 ? jsonConverter.apply(responses) : emptyResponse.get();
+    private static Response await(CompletableFuture<Response> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            // Shouldn't happen, because failures of elements are converted to error responses
+            throw new IllegalStateException(e.getCause());
         }
+    }
 
-        log.error("Invalid JSON-RPC request: " + rootRequest);
-        return jsonConverter.apply(ErrorResponse.of(INVALID_REQUEST));
+    /**
+     * Submits batch elements to an executor
+     *
+     * @param calls     batch elements
+     * @param completed queue of indexes of completed elements or {@code null} if it's not needed
+     * @param executor  executor of the elements
+     * @return futures of responses in the request order
+     */
+    private List<CompletableFuture<Response>> submitBatch(List<RpcCall> calls,
+                                                         @Nullable BlockingQueue<Integer> completed,
+                                                         Executor executor) {
+        List<CompletableFuture<Response>> futures = new ArrayList<>(calls.size());
+        for (int i = 0; i < calls.size(); i++) {
+            RpcCall call = calls.get(i);
+            CompletableFuture<Response> future = submit(call, executor).exceptionally(e -> {
+                log.error("Error while processing: " + call, e);
+                return ErrorResponse.of(call.id(), INTERNAL_ERROR);
+            });
+            if (completed != null) {
+                int index = i;
+                future.thenRun(() -> completed.add(index));
+            }
+            futures.add(future);
+        }
+        return futures;
+    }
+
+    /**
+     * Processes a request in an executor, or in the caller thread if the executor rejects it
+     */
+    private CompletableFuture<Response> submit(RpcCall call, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(() -> handleWrapperAsync(call), executor)
+                    .thenCompose(Function.identity());
+        } catch (RejectedExecutionException e) {
+            log.warn("Executor rejected a request, processing it in the caller thread", e);
+            return handleWrapperAsync(call);
+        }
+    }
+
+    /**
+     * Writer of batch responses which skips notifications and opens the output
+     * on the first actual response
+     */
+    private class BatchResponses<T> {
+
+        private final ResponseSink<T> sink;
+
+        private final int batchSize;
+
+        @Nullable
+        private JsonGenerator generator;
+
+        BatchResponses(ResponseSink<T> sink, int batchSize) {
+            this.sink = sink;
+            this.batchSize = batchSize;
+        }
+
+        void write(RpcCall call, Response response) throws IOException {
+            if (isNotification(call, response)) {
+                reportPhases(call);
+                return;
+            }
+            if (generator == null) {
+                generator = sink.open(responseWriter);
+                generator.writeStartArray();
+            }
+            ResponseWrittenEvent event = new ResponseWrittenEvent();
+            event.begin();
+            PhaseTimer timer = call.timer();
+            long startNanos = timer != null ? System.nanoTime() : 0;
+            responseWriter.write(generator, response, call.method());
+            if (timer != null) {
+                timer.serializeNanos = System.nanoTime() - startNanos;
+            }
+            commitWritten(event, call, response, batchSize);
+            reportPhases(call);
+        }
+
+        T finish() throws IOException {
+            if (generator == null) {
+                return sink.empty();
+            }
+            generator.writeEndArray();
+            generator.close();
+            return sink.result();
+        }
+    }
+
+    /**
+     * Creates a resolver of methods of the provided service
+     *
+     * @param service service object
+     * @return resolver which looks up methods in the service class metadata
+     */
+    private MethodResolver methodResolver(Object service) {
+        Class<?> serviceClass = service.getClass();
+        return methodName -> {
+            ClassMetadata classMetadata = getClassMetadata(serviceClass);
+            if (!classMetadata.service()) {
+                log.warn(serviceClass + " is not available as a JSON-RPC 2.0 service");
+                return null;
+            }
+            MethodMetadata method = classMetadata.methods().get(methodName);
+            if (method == null) {
+                log.error("Unable find a method: '" + methodName + "' in a " + serviceClass);
+                return null;
+            }
+            return new Route(methodName, service, method);
+        };
+    }
+
+    private DispatchTable dispatchTable() {
+        if (dispatchTable == null) {
+            throw new IllegalStateException("No services are registered in the server. " +
+                    "Register them with JsonRpcServerBuilder#register or pass a service to the handle method");
+        }
+        return dispatchTable;
+    }
+
+    private ClassMetadata getClassMetadata(Class<?> serviceClass) {
+        ClassMetadata classMetadata = classesMetadata.get(serviceClass);
+        if (classMetadata == null) {
+            classMetadata = classesMetadata.computeIfAbsent(serviceClass, c -> Reflections.getClassMetadata(c, mapper));
+        }
+        return classMetadata;
     }
 
     /**
      * Check if request is a "notification request" according to the standard.
      *
-     * @param requestNode a request in a JSON tree format
-     * @param response    a response in a Java object format
+     * @param call     a decoded request
+     * @param response a response in a Java object format
      * @return {@code true} if a request is a "notification request"
      */
-    private boolean isNotification(JsonNode requestNode, Response response) {
+    private boolean isNotification(RpcCall call, Response response) {
         // Notification request doesn't have "id" field
-        if (requestNode.get("id") == null) {
+        if (!call.hasId()) {
             if (response instanceof SuccessResponse) {
                 return true;
             } else if (response instanceof ErrorResponse errorResponse) {
@@ -171,236 +789,253 @@ public class JsonRpcServer {
 
     /**
      * Wrapper around a single JSON-RPC request.
-     * Checks that a request is valid JSON-RPC object and handle runtime errors in the request processing.
+     * Checks that a request was successfully decoded and handle runtime errors in the request processing.
+     * Waits for the result if the method is asynchronous.
      *
-     * @param requestNode JSON-RPC request as a JSON tree
-     * @param service     service object
+     * @param call decoded JSON-RPC request
      * @return JSON-RPC response as a Java object
      */
-    private Response handleWrapper(JsonNode requestNode, Object service) {
-        Request request;
-        try {
-            request = mapper.convertValue(requestNode, Request.class);
-        } catch (Exception e) {
-            log.error("Invalid JSON-RPC request: " + requestNode, e);
-            return ErrorResponse.of(INVALID_REQUEST);
+    private Response handleWrapper(RpcCall call) {
+        if (call.error() != null) {
+            return notInvoked(call);
         }
 
+        RequestDispatchedEvent event = new RequestDispatchedEvent();
+        event.begin();
+        long startNanos = isTimed(call) ? System.nanoTime() : 0;
+        Response response;
         try {
-            return handleSingle(request, service);
+            Object result = invoke(call);
+            if (result instanceof CompletionStage<?> stage) {
+                result = stage.toCompletableFuture().join();
+            }
+            response = toResponse(call, result);
         } catch (Exception e) {
-            Throwable realException = e instanceof InvocationTargetException ? e.getCause() : e;
-            log.error("Error while processing: " + request, realException);
-            return handleError(request, e);
+            response = handleFailure(call, e);
         }
+        completeCall(call, response, startNanos, event);
+        return response;
     }
 
     /**
-     * Handles a runtime exception. If root exception is marked with {@link JsonRpcError} annotation,
-     * it will be converted to appropriate error message.
-     * Otherwise, "Internal error" message will be returned.
+     * Asynchronous wrapper around a single JSON-RPC request.
+     * Doesn't wait for the result if the method is asynchronous.
      *
-     * @param request JSON-RPC request as a Java object
-     * @param e       invocation exception
-     * @return JSON-RPC error response
+     * @param call decoded JSON-RPC request
+     * @return future of a JSON-RPC response as a Java object
      */
-    private ErrorResponse handleError(Request request, Exception e) {
-        Throwable rootCause = getRootCause(e);
-        Annotation[] annotations = rootCause.getClass().getAnnotations();
-        JsonRpcError jsonRpcErrorAnnotation =
-                Reflections.getAnnotation(annotations, JsonRpcError.class);
-        if (jsonRpcErrorAnnotation == null) {
-            return ErrorResponse.of(request.id(), INTERNAL_ERROR);
-        }
-        int code = jsonRpcErrorAnnotation.code();
-        String message = jsonRpcErrorAnnotation.message() == null || jsonRpcErrorAnnotation.message().isEmpty() ?
-                rootCause.getMessage() : jsonRpcErrorAnnotation.message();
-        if (message == null || message.isEmpty()) {
-            log.warn("Error message should not be empty");
-            return ErrorResponse.of(request.id(), INTERNAL_ERROR);
+    private CompletableFuture<Response> handleWrapperAsync(RpcCall call) {
+        if (call.error() != null) {
+            return CompletableFuture.completedFuture(notInvoked(call));
         }
-        JsonNode data;
+
+        RequestDispatchedEvent event = new RequestDispatchedEvent();
+        event.begin();
+        long startNanos = isTimed(call) ? System.nanoTime() : 0;
+        CompletableFuture<Response> response;
+        Object result;
         try {
-            data = dataResolvers.computeIfAbsent(rootCause.getClass(), Reflections::buildErrorDataResolver)
-                    .resolveData(rootCause)
-                    .map((Function<Object, JsonNode>) mapper::valueToTree)
-                    .orElse(null);
-        } catch (Exception e1) {
-            log.error("Error while processing error data: ", e1);
-            return ErrorResponse.of(request.id(), INTERNAL_ERROR);
+            result = invoke(call);
+            if (result instanceof CompletionStage<?> stage) {
+                response = stage.<Response>handle((value, e) -> e == null ?
+                                toResponse(call, value) :
+                                handleFailure(call, e))
+                        .toCompletableFuture();
+            } else {
+                response = CompletableFuture.completedFuture(toResponse(call, result));
+            }
+        } catch (Exception e) {
+            response = CompletableFuture.completedFuture(handleFailure(call, e));
         }
-        return ErrorResponse.of(request.id(), new ErrorMessage(code, message, data));
+        if (!isTimed(call) && !event.isEnabled()) {
+            return response;
+        }
+        if (response.isDone()) {
+            completeCall(call, response.join(), startNanos, event);
+            return response;
+        }
+        return response.whenComplete((value, e) -> {
+            if (value != null) {
+                completeCall(call, value, startNanos, event);
+            }
+        });
     }
 
     /**
-     * Performs single JSON-RPC request and return JSON-RPC response
-     *
-     * @param request JSON-RPC request as a Java object
-     * @param service service object
-     * @return JSON-RPC response as a Java object
-     * @throws Exception in case of a runtime error (reflections, business logic...)
+     * @return whether the duration of the call should be measured for the metrics or the phase timings
      */
-    private Response handleSingle(Request request, Object service) throws Exception {
-        // Check mandatory fields and correct protocol version
-        String requestMethod = request.method();
-        String jsonrpc = request.jsonrpc();
-        ValueNode id = request.id();
-        if (jsonrpc == null || requestMethod == null) {
-            log.error("Not a JSON-RPC request: " + request);
-            return ErrorResponse.of(id, INVALID_REQUEST);
-        }
-
-        if (!jsonrpc.equals(VERSION)) {
-            log.error("Not a JSON_RPC 2.0 request: " + request);
-            return ErrorResponse.of(id, INVALID_REQUEST);
-        }
+    private boolean isTimed(RpcCall call) {
+        return metrics != null || call.timer() != null;
+    }
 
-        JsonNode params = request.params();
-        if (!params.isObject() && !params.isArray() && !params.isNull()) {
-            log.error("Params of request: '" + request + "' should be an object, an array or null");
-            return ErrorResponse.of(id, INVALID_REQUEST);
+    /**
+     * Records the duration of an invoked method to the metrics and to the invoke phase
+     * and commits the JFR event of the call
+     */
+    private void completeCall(RpcCall call, Response response, long startNanos, RequestDispatchedEvent event) {
+        if (isTimed(call)) {
+            long durationNanos = System.nanoTime() - startNanos;
+            if (metrics != null) {
+                metrics.recordCall(call, response, durationNanos);
+            }
+            if (call.timer() != null) {
+                call.timer().invokeNanos = durationNanos;
+            }
         }
-
-        ClassMetadata classMetadata = classesMetadata.computeIfAbsent(service.getClass(), Reflections::getClassMetadata);
-        if (!classMetadata.service()) {
-            log.warn(service.getClass() + " is not available as a JSON-RPC 2.0 service");
-            return ErrorResponse.of(id, METHOD_NOT_FOUND);
+        if (event.shouldCommit()) {
+            event.method = call.methodName();
+            event.id = idText(call);
+            event.errorCode = errorCode(response);
+            event.commit();
         }
+    }
 
-        MethodMetadata method = classMetadata.methods().get(requestMethod);
-        if (method == null) {
-            log.error("Unable find a method: '" + requestMethod + "' in a " + service.getClass());
-            return ErrorResponse.of(id, METHOD_NOT_FOUND);
+    /**
+     * Creates an error response to a request which can't be invoked
+     */
+    private Response notInvoked(RpcCall call) {
+        Response response = ErrorResponse.of(call.id(), call.error());
+        if (metrics != null) {
+            metrics.recordCall(call, response, -1);
         }
+        return response;
+    }
 
-        ContainerNode<?> notNullParams = !params.isNull() ?
-                (ContainerNode<?>) params : mapper.createObjectNode();
-        Object[] methodParams;
-        try {
-            methodParams = convertToMethodParams(notNullParams, method);
-        } catch (IllegalArgumentException e) {
-            log.error("Bad params: " + notNullParams + " of a method '" + method.name() + "'", e);
-            return ErrorResponse.of(id, INVALID_PARAMS);
+    /**
+     * Converts a method result to a response. A {@link JsonRpcResult} is unwrapped
+     * to a successful response or to an error response without throwing an exception.
+     *
+     * @param call   decoded JSON-RPC request
+     * @param result the method result
+     * @return JSON-RPC response as a Java object
+     */
+    private Response toResponse(RpcCall call, @Nullable Object result) {
+        if (result instanceof JsonRpcResult.Success<?> success) {
+            return new SuccessResponse(call.id(), success.value(), SuccessResponse.VERSION);
+        } else if (result instanceof JsonRpcResult.Failure<?> failure) {
+            JsonNode data;
+            try {
+                data = failure.data() != null ? mapper.valueToTree(failure.data()) : null;
+            } catch (IllegalArgumentException e) {
+                log.error("Error while processing error data: ", e);
+                return ErrorResponse.of(call.id(), INTERNAL_ERROR);
+            }
+            return ErrorResponse.of(call.id(), new ErrorMessage(failure.code(), failure.message(), data));
         }
+        return new SuccessResponse(call.id(), result, SuccessResponse.VERSION);
+    }
 
-        Object result;
-        try {
-            result = method.methodHandle().bindTo(service).invokeWithArguments(methodParams);
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
+    private ErrorResponse handleFailure(RpcCall call, Throwable e) {
+        Throwable realException = e instanceof InvocationTargetException || e instanceof CompletionException ?
+                e.getCause() : e;
+        log.error("Error while processing: " + call, realException);
+        if (interceptors != null) {
+            interceptors.onError(call, realException);
         }
-        return new SuccessResponse(id, result, SuccessResponse.VERSION);
+        return handleError(call, e);
     }
 
     /**
-     * Converts JSON params to java params in the appropriate order of the invoked method
+     * Handles a runtime exception. If root exception is marked with {@link JsonRpcError} annotation,
+     * it will be converted to appropriate error message.
+     * Otherwise, "Internal error" message will be returned.
      *
-     * @param params json params (map or array)
-     * @param method invoked method metadata
-     * @return array of java objects for passing to the method
-     */
-    private Object[] convertToMethodParams(ContainerNode<?> params, MethodMetadata method) {
-        int methodParamsSize = method.params().size();
-        int jsonParamsSize = params.size();
-        // Check amount arguments
-        if (jsonParamsSize > methodParamsSize) {
-            throw new IllegalArgumentException("Wrong amount arguments: " + jsonParamsSize +
-                    " for a method '" + method.name() + "'. Actual amount: " + methodParamsSize);
-        }
-
-        Object[] methodParams = new Object[methodParamsSize];
-        int processed = 0;
-        for (ParameterMetadata param : method.params().values()) {
-            Class<?> parameterType = param.type();
-            int index = param.index();
-            String name = param.name();
-            JsonNode jsonNode = params.isObject() ? params.get(name) : params.get(index);
-            // Handle omitted value
-            if (jsonNode == null || jsonNode.isNull()) {
-                if (param.optional()) {
-                    methodParams[index] = getDefaultValue(parameterType);
-                    if (jsonNode != null) {
-                        processed++;
-                    }
-                    continue;
-                } else {
-                    throw new IllegalArgumentException("Mandatory parameter '" + name +
-                            "' of a method '" + method.name() + "' is not set");
-                }
-            }
-
-            // Convert JSON object to an actual Java object
-            try {
-                JsonParser jsonParser = mapper.treeAsTokens(jsonNode);
-                JavaType javaType = mapper.getTypeFactory().constructType(param.genericType());
-                methodParams[index] = mapper.readValue(jsonParser, javaType);
-                processed++;
-            } catch (IOException e) {
-                throw new IllegalArgumentException("Wrong param: " + jsonNode + ". Expected type: '" + param, e);
-            }
+     * @param call decoded JSON-RPC request
+     * @param e    invocation exception
+     * @return JSON-RPC error response
+     */
+    private ErrorResponse handleError(RpcCall call, Throwable e) {
+        ErrorTranslatedEvent event = new ErrorTranslatedEvent();
+        event.begin();
+        ErrorResponse response = translateError(call, e);
+        if (event.shouldCommit()) {
+            event.method = call.methodName();
+            event.id = idText(call);
+            event.exceptionClass = getRootCause(e).getClass();
+            event.errorCode = response.error().getCode();
+            event.commit();
         }
+        return response;
+    }
 
-        // Check that some unprocessed parameters were not passed
-        if (processed < jsonParamsSize) {
-            throw new IllegalArgumentException("Some unspecified parameters in " + params +
-                    " are passed to a method '" + method.name() + "'");
+    private ErrorResponse translateError(RpcCall call, Throwable e) {
+        Throwable rootCause = getRootCause(e);
+        ErrorMetadata errorMetadata = getErrorMetadata(rootCause.getClass()).orElse(null);
+        if (errorMetadata == null) {
+            return ErrorResponse.of(call.id(), INTERNAL_ERROR);
         }
-
-        return methodParams;
+        String message = errorMetadata.message() != null ? errorMetadata.message() : rootCause.getMessage();
+        if (message == null || message.isEmpty()) {
+            log.warn("Error message should not be empty");
+            return ErrorResponse.of(call.id(), INTERNAL_ERROR);
+        }
+        JsonNode data;
+        try {
+            data = errorMetadata.dataResolver()
+                    .resolveData(rootCause)
+                    .map((Function<Object, JsonNode>) mapper::valueToTree)
+                    .orElse(null);
+        } catch (Exception e1) {
+            log.error("Error while processing error data: ", e1);
+            return ErrorResponse.of(call.id(), INTERNAL_ERROR);
+        }
+        return ErrorResponse.of(call.id(), new ErrorMessage(errorMetadata.code(), message, data));
     }
 
-    @Nullable
-    private Object getDefaultValue(Class<?> type) {
-        if (type == java.util.Optional.class) {
-            // If it's Java optional then handle it as an absent value
-            return java.util.Optional.empty();
-        } else if (type.isPrimitive()) {
-            // If parameter is a primitive set the appropriate default value
-            return defaultPrimitiveValue(type);
+    private Optional<ErrorMetadata> getErrorMetadata(Class<? extends Throwable> throwableClass) {
+        Optional<ErrorMetadata> errorMetadata = errorsMetadata.get(throwableClass);
+        if (errorMetadata == null) {
+            errorMetadata = errorsMetadata.computeIfAbsent(throwableClass, Reflections::getErrorMetadata);
         }
-        return null;
+        return errorMetadata;
     }
 
     /**
-     * Utility method for converting an object to JSON that doesn't throw an unchecked exception
+     * Invokes the method of a single JSON-RPC request
      *
-     * @param value object
-     * @return JSON representation
+     * @param call decoded JSON-RPC request
+     * @return the method result, a {@link CompletionStage} if the method is asynchronous
+     * @throws Exception in case of a runtime error (reflections, business logic...)
      */
-    private String toJson(Object value) {
+    private Object invoke(RpcCall call) throws Exception {
+        MethodInvokedEvent event = new MethodInvokedEvent();
+        event.begin();
+        Object result;
         try {
-            String response = mapper.writeValueAsString(value);
-            if (log.isDebugEnabled()) {
-                log.debug("Response: {}", response);
+            result = interceptors != null ?
+                    interceptors.invoke(call) :
+                    call.method().invoke(call.service(), call.params());
+        } catch (Throwable e) {
+            commitInvoked(event, call, false, true);
+            if (e instanceof Exception exception) {
+                throw exception;
             }
-            return response;
-        } catch (JsonProcessingException e) {
-            log.error("Unable write json: " + value, e);
-            throw new IllegalStateException(e);
+            throw new RuntimeException(e);
         }
+        commitInvoked(event, call, result instanceof CompletionStage, false);
+        return result;
     }
 
-    private byte[] toJsonByteArray(Object value) {
-        try {
-            byte[] response = mapper.writeValueAsBytes(value);
-            if (log.isDebugEnabled()) {
-                log.debug("Response: {}", Arrays.toString(response));
-            }
-            return response;
-        } catch (JsonProcessingException e) {
-            log.error("Unable write json: " + value, e);
-            throw new IllegalStateException(e);
+    private static void commitInvoked(MethodInvokedEvent event, RpcCall call, boolean async, boolean failed) {
+        if (event.shouldCommit()) {
+            event.method = call.methodName();
+            event.id = idText(call);
+            event.async = async;
+            event.failed = failed;
+            event.commit();
         }
     }
 
-    private OutputStream toJsonOutputStream(Object value, OutputStream outputStream) {
-        try {
-            mapper.writeValue(outputStream, value);
-            return outputStream;
-        } catch (IOException e) {
-            log.error("Unable write json: " + value, e);
-            throw new IllegalStateException(e);
-        }
+    /**
+     * @return the request id as a text for JFR events or {@code null} if it's not set
+     */
+    @Nullable
+    private static String idText(RpcCall call) {
+        return call.id().isNull() ? null : call.id().asText();
+    }
+
+    private static int errorCode(Response response) {
+        return response instanceof ErrorResponse errorResponse ? errorResponse.error().getCode() : 0;
     }
 
     private static Throwable getRootCause(Throwable throwable) {
@@ -421,29 +1056,18 @@ public class JsonRpcServer {
         return throwable;
     }
 
-    private static Object defaultPrimitiveValue(Class<?> type) {
-        if (type == boolean.class) {
-            return false;
-        } else if (type == char.class) {
-            return '\0';
-        } else if (type == byte.class) {
-            return (byte) 0;
-        } else if (type == short.class) {
-            return (short) 0;
-        } else if (type == int.class) {
-            return 0;
-        } else if (type == long.class) {
-            return 0L;
-        } else if (type == float.class) {
-            return 0f;
-        } else if (type == double.class) {
-            return 0d;
-        }
-        return null;
+    /**
+     * Decoded JSON-RPC request
+     *
+     * @param calls single request or batch elements
+     * @param batch whether the request is a batch
+     * @param error error response for the whole request
+     */
+    private record Payload(List<RpcCall> calls, boolean batch, @Nullable ErrorResponse error) {
     }
 
     @FunctionalInterface
-    private interface JsonNodeSupplier {
-        JsonNode get() throws IOException;
+    private interface JsonParserSupplier {
+        JsonParser get() throws IOException;
     }
 }
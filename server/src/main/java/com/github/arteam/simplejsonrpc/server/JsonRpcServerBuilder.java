@@ -0,0 +1,227 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.arteam.simplejsonrpc.server.interceptor.JsonRpcInterceptor;
+import com.github.arteam.simplejsonrpc.server.metrics.PhaseListener;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>Builder of a {@link JsonRpcServer} with non-default settings</p>
+ */
+public class JsonRpcServerBuilder {
+
+    /**
+     * Default minimal size of a batch which is processed in parallel
+     */
+    static final int DEFAULT_PARALLEL_BATCH_THRESHOLD = 8;
+
+    ObjectMapper mapper = new ObjectMapper();
+
+    @Nullable
+    Executor batchExecutor;
+
+    int parallelBatchThreshold = DEFAULT_PARALLEL_BATCH_THRESHOLD;
+
+    boolean virtualThreads;
+
+    BatchResponseOrder batchResponseOrder = BatchResponseOrder.REQUEST;
+
+    boolean metricsEnabled;
+
+    @Nullable
+    PhaseListener phaseListener;
+
+    double phaseSamplingRate = 1.0;
+
+    final List<JsonRpcInterceptor> interceptors = new ArrayList<>();
+
+    /**
+     * Registered services by their namespaces
+     */
+    final Map<String, Object> services = new LinkedHashMap<>();
+
+    JsonRpcServerBuilder() {
+    }
+
+    /**
+     * Sets a user-defined JSON mapper
+     *
+     * @param mapper JSON mapper
+     * @return the current builder
+     */
+    public JsonRpcServerBuilder mapper(ObjectMapper mapper) {
+        this.mapper = mapper;
+        return this;
+    }
+
+    /**
+     * Sets an executor for processing elements of batch requests in parallel
+     * (a fork-join pool, a fixed thread pool, virtual threads, etc).
+     * By default, batch elements are processed one by one in the caller thread.
+     *
+     * @param batchExecutor executor of batch elements
+     * @return the current builder
+     */
+    public JsonRpcServerBuilder batchExecutor(Executor batchExecutor) {
+        this.batchExecutor = batchExecutor;
+        return this;
+    }
+
+    /**
+     * Processes requests on virtual threads. Requires Java 21 or later.
+     * <ul>
+     * <li>Elements of batches with at least {@link #parallelBatchThreshold(int)} elements are processed
+     * in parallel, each on its own virtual thread. If the thread waiting for a batch is interrupted,
+     * the threads of its elements are interrupted as well.</li>
+     * <li>{@link JsonRpcServer#handleAsync(String)} and its variants invoke methods on a virtual thread
+     * instead of the caller thread, so blocking methods don't block the caller.</li>
+     * </ul>
+     * The synchronous {@code handle} methods process single requests in the caller thread, which is
+     * supposed to be a virtual thread itself if the requests are blocking.
+     *
+     * @param virtualThreads whether requests should be processed on virtual threads
+     * @return the current builder
+     * @throws UnsupportedOperationException if the runtime doesn't support virtual threads
+     */
+    public JsonRpcServerBuilder virtualThreads(boolean virtualThreads) {
+        if (virtualThreads && !VirtualThreads.isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    /**
+     * Sets the minimal size of a batch which is processed in parallel.
+     * Smaller batches are processed in the caller thread.
+     *
+     * @param parallelBatchThreshold minimal size of a parallel batch
+     * @return the current builder
+     */
+    public JsonRpcServerBuilder parallelBatchThreshold(int parallelBatchThreshold) {
+        if (parallelBatchThreshold < 1) {
+            throw new IllegalArgumentException("Parallel batch threshold should be positive");
+        }
+        this.parallelBatchThreshold = parallelBatchThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the order of responses to a batch processed in parallel or by
+     * {@link JsonRpcServer#handleAsync(String)}. By default, it's the order of requests.
+     *
+     * @param batchResponseOrder order of responses
+     * @return the current builder
+     */
+    public JsonRpcServerBuilder batchResponseOrder(BatchResponseOrder batchResponseOrder) {
+        this.batchResponseOrder = batchResponseOrder;
+        return this;
+    }
+
+    /**
+     * Enables recording of metrics: latency, invocations and errors of methods,
+     * sizes of requests and batches. They are available through {@link JsonRpcServer#metrics()}.
+     *
+     * @param metricsEnabled whether metrics should be recorded
+     * @return the current builder
+     */
+    public JsonRpcServerBuilder metricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+        return this;
+    }
+
+    /**
+     * Sets a listener of the time spent on parsing a request, binding its params, invoking
+     * the method and writing the response. Phases are timed only for sampled requests,
+     * the other requests don't call {@link System#nanoTime()} at all.
+     *
+     * @param phaseListener listener of phase timings
+     * @return the current builder
+     * @see #phaseSamplingRate(double)
+     */
+    public JsonRpcServerBuilder phaseListener(PhaseListener phaseListener) {
+        this.phaseListener = phaseListener;
+        return this;
+    }
+
+    /**
+     * Sets the share of requests which phases are timed. All the elements of a sampled batch are timed.
+     * By default, all requests are timed if a phase listener is set.
+     *
+     * @param phaseSamplingRate share of requests from 0 to 1
+     * @return the current builder
+     */
+    public JsonRpcServerBuilder phaseSamplingRate(double phaseSamplingRate) {
+        if (!(phaseSamplingRate >= 0 && phaseSamplingRate <= 1)) {
+            throw new IllegalArgumentException("Phase sampling rate should be between 0 and 1");
+        }
+        this.phaseSamplingRate = phaseSamplingRate;
+        return this;
+    }
+
+    /**
+     * Adds an interceptor of method invocations. Interceptors are called in the registration order,
+     * the first one is the outermost in the {@link JsonRpcInterceptor#aroundInvoke} chain.
+     *
+     * @param interceptor interceptor of invocations
+     * @return the current builder
+     */
+    public JsonRpcServerBuilder interceptor(JsonRpcInterceptor interceptor) {
+        interceptors.add(interceptor);
+        return this;
+    }
+
+    /**
+     * Registers a service, which methods are available as {@code namespace.method}.
+     * The services are scanned and their methods are put to an immutable dispatch table
+     * when the server is built, so requests are handled by {@link JsonRpcServer#handle(String)}
+     * and the other methods without a service argument.
+     *
+     * @param namespace prefix of the names of the service methods
+     * @param service   service object annotated with {@code @JsonRpcService}
+     * @return the current builder
+     */
+    public JsonRpcServerBuilder register(String namespace, Object service) {
+        if (namespace.isEmpty() || namespace.indexOf(DispatchTable.NAMESPACE_SEPARATOR) >= 0) {
+            throw new IllegalArgumentException("Namespace '" + namespace + "' should be non-empty " +
+                    "and shouldn't contain '" + DispatchTable.NAMESPACE_SEPARATOR + "'");
+        }
+        return putService(namespace, service);
+    }
+
+    /**
+     * Registers a service, which methods are available by their names without a namespace
+     *
+     * @param service service object annotated with {@code @JsonRpcService}
+     * @return the current builder
+     * @see #register(String, Object)
+     */
+    public JsonRpcServerBuilder register(Object service) {
+        return putService("", service);
+    }
+
+    private JsonRpcServerBuilder putService(String namespace, Object service) {
+        if (services.putIfAbsent(namespace, service) != null) {
+            throw new IllegalArgumentException(namespace.isEmpty() ?
+                    "A service without a namespace is already registered" :
+                    "A service with the namespace '" + namespace + "' is already registered");
+        }
+        return this;
+    }
+
+    /**
+     * @return a new JSON-RPC server
+     */
+    public JsonRpcServer build() {
+        if (virtualThreads && batchExecutor != null) {
+            throw new IllegalStateException("Either virtual threads or a batch executor should be set");
+        }
+        return new JsonRpcServer(this);
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>JFR event of an invocation of a service method</p>
+ */
+@Name("com.github.arteam.simplejsonrpc.server.MethodInvoked")
+@Label("JSON-RPC Method Invoked")
+@Description("Invocation of a service method. For asynchronous methods it lasts until the method returns a future")
+@Category({"JSON-RPC", "Server"})
+@StackTrace(false)
+class MethodInvokedEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Id")
+    String id;
+
+    @Label("Asynchronous")
+    @Description("Whether the method returned a CompletionStage")
+    boolean async;
+
+    @Label("Failed")
+    @Description("Whether the method threw an exception")
+    boolean failed;
+}
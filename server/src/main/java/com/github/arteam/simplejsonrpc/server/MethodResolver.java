@@ -0,0 +1,31 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>Resolves a JSON-RPC method name to the Java method which should handle it</p>
+ */
+@FunctionalInterface
+interface MethodResolver {
+
+    /**
+     * @param methodName the name of a method from a request
+     * @return the method bound to its service or {@code null} if the method can't be found
+     */
+    @Nullable
+    Route resolve(String methodName);
+
+    /**
+     * Resolves a method by the raw characters of its name from a parser buffer.
+     * Resolvers can override it to avoid materializing the name.
+     *
+     * @param chars  buffer with the name
+     * @param offset offset of the name in the buffer
+     * @param length length of the name
+     * @return the method bound to its service or {@code null} if the method can't be found
+     */
+    @Nullable
+    default Route resolve(char[] chars, int offset, int length) {
+        return resolve(new String(chars, offset, length));
+    }
+}
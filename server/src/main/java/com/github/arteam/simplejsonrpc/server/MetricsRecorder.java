@@ -0,0 +1,89 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import com.github.arteam.simplejsonrpc.core.domain.ErrorResponse;
+import com.github.arteam.simplejsonrpc.core.domain.Response;
+import com.github.arteam.simplejsonrpc.server.metrics.MethodMetrics;
+import com.github.arteam.simplejsonrpc.server.metrics.MetricsSnapshot;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Recorder of the server metrics.</p>
+ * Method metrics are created on the first call of a method, after that recording
+ * only updates striped counters and doesn't allocate.
+ */
+class MetricsRecorder {
+
+    private final ConcurrentMap<String, MethodRecorder> methods = new ConcurrentHashMap<>();
+    private final ErrorCounters errors = new ErrorCounters();
+    private final Histogram batchSizes = new Histogram();
+    private final Histogram payloadSizes = new Histogram();
+
+    void recordPayload(long size) {
+        if (size >= 0) {
+            payloadSizes.record(size);
+        }
+    }
+
+    void recordBatch(int size) {
+        batchSizes.record(size);
+    }
+
+    /**
+     * Records an error of the whole request, which is not related to a method
+     */
+    void recordError(ErrorResponse response) {
+        errors.increment(response.error().getCode());
+    }
+
+    /**
+     * Records a response to a single request or a batch element
+     *
+     * @param call          decoded request
+     * @param response      response to the request
+     * @param durationNanos duration of the method invocation or a negative value if the method wasn't invoked
+     */
+    void recordCall(RpcCall call, Response response, long durationNanos) {
+        MethodRecorder method = call.method() != null && call.methodName() != null ?
+                methodRecorder(call.methodName()) : null;
+        if (method != null && durationNanos >= 0) {
+            method.invocations.increment();
+            method.latency.record(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+        }
+        if (response instanceof ErrorResponse errorResponse) {
+            int code = errorResponse.error().getCode();
+            errors.increment(code);
+            if (method != null) {
+                method.errors.increment(code);
+            }
+        }
+    }
+
+    private MethodRecorder methodRecorder(String methodName) {
+        MethodRecorder method = methods.get(methodName);
+        if (method == null) {
+            method = methods.computeIfAbsent(methodName, name -> new MethodRecorder());
+        }
+        return method;
+    }
+
+    MetricsSnapshot snapshot() {
+        Map<String, MethodMetrics> methodsSnapshot = new HashMap<>();
+        methods.forEach((name, method) -> methodsSnapshot.put(name,
+                new MethodMetrics(method.invocations.sum(), method.errors.snapshot(), method.latency.snapshot())));
+        return new MetricsSnapshot(Map.copyOf(methodsSnapshot), errors.snapshot(),
+                batchSizes.snapshot(), payloadSizes.snapshot());
+    }
+
+    private static class MethodRecorder {
+
+        private final LongAdder invocations = new LongAdder();
+        private final ErrorCounters errors = new ErrorCounters();
+        private final Histogram latency = new Histogram();
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import com.github.arteam.simplejsonrpc.server.metrics.PhaseTimings;
+
+/**
+ * <p>Mutable accumulator of phase timings of a sampled request.</p>
+ * Each phase is written by one thread and read after the response is written,
+ * the happens-before edge is provided by the handoff of the request between the phases.
+ */
+class PhaseTimer {
+
+    long parseNanos;
+    long bindNanos;
+    long invokeNanos;
+    long serializeNanos;
+
+    PhaseTimings timings(String method) {
+        return new PhaseTimings(method, parseNanos, bindNanos, invokeNanos, serializeNanos);
+    }
+}
@@ -1,14 +1,28 @@
 package com.github.arteam.simplejsonrpc.server;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.NumberDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcError;
 import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcErrorData;
 import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
 import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcOptional;
 import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
 import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import com.github.arteam.simplejsonrpc.core.domain.JsonRpcResult;
 import com.github.arteam.simplejsonrpc.server.metadata.ClassMetadata;
 import com.github.arteam.simplejsonrpc.server.metadata.ErrorDataResolver;
+import com.github.arteam.simplejsonrpc.server.metadata.ErrorMetadata;
 import com.github.arteam.simplejsonrpc.server.metadata.MethodMetadata;
 import com.github.arteam.simplejsonrpc.server.metadata.ParameterMetadata;
+import com.github.arteam.simplejsonrpc.server.metadata.ScalarType;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,8 +36,10 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Date: 07.06.14
@@ -63,10 +79,11 @@ class Reflections {
      * Gets class metadata for JSON-RPC processing.
      * It scans the class and builds JSON-RPC meta-information about methods and it's parameters
      *
-     * @param clazz actual service class
+     * @param clazz  actual service class
+     * @param mapper JSON mapper for resolving types of the method parameters
      * @return service class JSON-RPC meta-information
      */
-    public static ClassMetadata getClassMetadata(Class<?> clazz) {
+    public static ClassMetadata getClassMetadata(Class<?> clazz, ObjectMapper mapper) {
         Map<String, MethodMetadata> methodsMetadata = new HashMap<>();
         Class<?> searchType = clazz;
         // Search through the class hierarchy
@@ -91,12 +108,13 @@ class Reflections {
                 }
 
                 String rpcMethodName = !jsonRpcMethod.value().isEmpty() ? jsonRpcMethod.value() : methodName;
-                Map<String, ParameterMetadata> methodParams = getMethodParameters(method);
+                List<ParameterMetadata> methodParams = getMethodParameters(method, mapper);
                 if (methodParams == null) {
                     log.warn("Method '" + methodName + "' has misconfigured parameters");
                     continue;
                 }
 
+                JavaType returnType = getReturnType(method, mapper);
                 MethodHandle methodHandle;
                 try {
                     methodHandle = MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP)
@@ -105,7 +123,9 @@ class Reflections {
                     throw new RuntimeException(e);
                 }
                 MethodMetadata oldMethodMetadata = methodsMetadata.put(rpcMethodName,
-                        new MethodMetadata(rpcMethodName, methodHandle, methodParams));
+                        new MethodMetadata(rpcMethodName, methodHandle, paramsByName(methodParams), methodParams,
+                                MethodMetadata.invoker(methodHandle), returnType,
+                                buildResultWriter(returnType, mapper)));
                 if (oldMethodMetadata != null) {
                     // Throw exception, because two methods with the same name leads to unexpected behaviour
                     throw new IllegalArgumentException("There two methods with the same name in " + clazz);
@@ -118,20 +138,103 @@ class Reflections {
         return new ClassMetadata(isService, Map.copyOf(methodsMetadata));
     }
 
+    /**
+     * Resolves the scalar type of a parameter. Scalars are read directly from JSON tokens only if the mapper
+     * would read them with the stock Jackson deserializers, so custom deserializers of the mapper still apply.
+     */
+    private static ScalarType getScalarType(Class<?> type, JavaType javaType, ObjectMapper mapper) {
+        ScalarType scalarType = ScalarType.of(type);
+        if (scalarType == ScalarType.NONE) {
+            return ScalarType.NONE;
+        }
+        JsonDeserializer<Object> deserializer;
+        try {
+            deserializer = ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                    .createDummyInstance(mapper.getDeserializationConfig())
+                    .findRootValueDeserializer(javaType);
+        } catch (JsonMappingException | RuntimeException e) {
+            log.warn("Unable to resolve a deserializer of " + javaType, e);
+            return ScalarType.NONE;
+        }
+        Class<?> stockDeserializerClass = switch (scalarType) {
+            case INT -> NumberDeserializers.IntegerDeserializer.class;
+            case LONG -> NumberDeserializers.LongDeserializer.class;
+            case DOUBLE -> NumberDeserializers.DoubleDeserializer.class;
+            case BOOLEAN -> NumberDeserializers.BooleanDeserializer.class;
+            case STRING -> StringDeserializer.class;
+            case NONE -> throw new IllegalStateException();
+        };
+        return deserializer.getClass() == stockDeserializerClass ? scalarType : ScalarType.NONE;
+    }
+
+    /**
+     * Resolves the generic result type of a method. Asynchronous methods are resolved
+     * to the type of the value of the returned stage, {@link JsonRpcResult} is resolved
+     * to the type of its value.
+     */
+    private static JavaType getReturnType(Method method, ObjectMapper mapper) {
+        JavaType returnType = mapper.getTypeFactory().constructType(method.getGenericReturnType());
+        if (CompletionStage.class.isAssignableFrom(returnType.getRawClass())) {
+            returnType = typeParameter(returnType, CompletionStage.class, mapper);
+        }
+        if (returnType.getRawClass() == JsonRpcResult.class) {
+            returnType = typeParameter(returnType, JsonRpcResult.class, mapper);
+        }
+        return returnType;
+    }
+
+    private static JavaType typeParameter(JavaType type, Class<?> genericClass, ObjectMapper mapper) {
+        JavaType[] typeParameters = type.findTypeParameters(genericClass);
+        return typeParameters.length == 1 ? typeParameters[0] : mapper.getTypeFactory().constructType(Object.class);
+    }
+
+    /**
+     * Builds a writer for the declared result type, so a serializer isn't looked up by the runtime
+     * class of every result. It's done only for types which can't be substituted by a subtype
+     * with a different serializer: final classes, primitives, arrays, collections, maps and references.
+     * Generic containers also keep their element types, which are lost when looked up by the runtime class.
+     *
+     * @return pre-resolved writer or {@code null} if the result type is polymorphic
+     */
+    @Nullable
+    private static ObjectWriter buildResultWriter(JavaType returnType, ObjectMapper mapper) {
+        Class<?> rawClass = returnType.getRawClass();
+        if (rawClass == void.class || rawClass == Void.class || returnType.isJavaLangObject()) {
+            return null;
+        }
+        if (returnType.isPrimitive() || returnType.isContainerType() || returnType.isReferenceType() ||
+                Modifier.isFinal(rawClass.getModifiers())) {
+            return mapper.writerFor(returnType);
+        }
+        return null;
+    }
+
+    private static Map<String, ParameterMetadata> paramsByName(List<ParameterMetadata> params) {
+        Map<String, ParameterMetadata> paramsByName = new HashMap<>();
+        for (ParameterMetadata param : params) {
+            paramsByName.put(param.name(), param);
+        }
+        return Map.copyOf(paramsByName);
+    }
+
     /**
      * Gets JSON-RPC meta-information about method parameters.
+     * The Jackson types and readers of the parameters are resolved once, so they are not
+     * looked up for every request.
      *
      * @param method actual method
-     * @return map of parameters metadata by their names
+     * @param mapper JSON mapper
+     * @return list of parameters metadata in the order of the method signature
      */
     @Nullable
-    private static Map<String, ParameterMetadata> getMethodParameters(Method method) {
+    private static List<ParameterMetadata> getMethodParameters(Method method, ObjectMapper mapper) {
         Annotation[][] allParametersAnnotations = method.getParameterAnnotations();
         int methodParamsSize = allParametersAnnotations.length;
         Class<?>[] parameterTypes = method.getParameterTypes();
         Type[] genericParameterTypes = method.getGenericParameterTypes();
 
         Map<String, ParameterMetadata> parametersMetadata = new HashMap<>();
+        ParameterMetadata[] positionalParameters = new ParameterMetadata[methodParamsSize];
         for (int i = 0; i < methodParamsSize; i++) {
             Annotation[] parameterAnnotations = allParametersAnnotations[i];
             JsonRpcParam jsonRpcParam = Reflections.getAnnotation(parameterAnnotations, JsonRpcParam.class);
@@ -143,15 +246,46 @@ class Reflections {
 
             String paramName = jsonRpcParam.value();
             boolean optional = Reflections.getAnnotation(parameterAnnotations, JsonRpcOptional.class) != null;
-            ParameterMetadata oldParameterMetadata = parametersMetadata.put(paramName,
-                    new ParameterMetadata(paramName, parameterTypes[i], genericParameterTypes[i], i, optional));
+            JavaType javaType = mapper.getTypeFactory().constructType(genericParameterTypes[i]);
+            // The parser is shared with the request envelope, so the reader shouldn't look for trailing tokens
+            ObjectReader reader = mapper.readerFor(javaType)
+                    .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+            ParameterMetadata parameterMetadata = new ParameterMetadata(paramName, parameterTypes[i],
+                    genericParameterTypes[i], i, optional, javaType, reader,
+                    getScalarType(parameterTypes[i], javaType, mapper));
+            positionalParameters[i] = parameterMetadata;
+            ParameterMetadata oldParameterMetadata = parametersMetadata.put(paramName, parameterMetadata);
             if (oldParameterMetadata != null) {
                 log.error("There two parameters with the same name in method '" + method.getName() +
                         "' of the class '" + method.getDeclaringClass() + "'");
                 return null;
             }
         }
-        return Map.copyOf(parametersMetadata);
+        return List.of(positionalParameters);
+    }
+
+    /**
+     * Resolves how exceptions of a class are translated to JSON-RPC errors
+     *
+     * @param throwableClass exception class
+     * @return error metadata or an empty optional if the class is not annotated with {@link JsonRpcError}
+     */
+    static Optional<ErrorMetadata> getErrorMetadata(Class<? extends Throwable> throwableClass) {
+        JsonRpcError jsonRpcError = getAnnotation(throwableClass.getAnnotations(), JsonRpcError.class);
+        if (jsonRpcError == null) {
+            return Optional.empty();
+        }
+        String message = !jsonRpcError.message().isEmpty() ? jsonRpcError.message() : null;
+        ErrorDataResolver dataResolver;
+        try {
+            dataResolver = buildErrorDataResolver(throwableClass);
+        } catch (IllegalArgumentException e) {
+            // Misconfigured data, the error can't be translated
+            dataResolver = t -> {
+                throw e;
+            };
+        }
+        return Optional.of(new ErrorMetadata(jsonRpcError.code(), message, dataResolver));
     }
 
     static ErrorDataResolver buildErrorDataResolver(Class<? extends Throwable> throwableClass) {
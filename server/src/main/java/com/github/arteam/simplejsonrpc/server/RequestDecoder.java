@@ -0,0 +1,416 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.node.ValueNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.arteam.simplejsonrpc.core.domain.ErrorMessage;
+import com.github.arteam.simplejsonrpc.server.metadata.MethodMetadata;
+import com.github.arteam.simplejsonrpc.server.metadata.ParameterMetadata;
+import com.github.arteam.simplejsonrpc.server.metadata.ScalarType;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>Streaming decoder of JSON-RPC requests.</p>
+ * Reads the request envelope ("jsonrpc", "method", "id") in a single pass over a {@link JsonParser},
+ * resolves the method as soon as its name is known and binds the params directly to the Java types
+ * of the method parameters without building an intermediate JSON tree. The params are buffered only
+ * if they precede the method name in the request.
+ */
+class RequestDecoder {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonRpcServer.class);
+
+    /**
+     * Marker of a parameter which is absent or explicitly set to null in the request
+     */
+    private static final Object UNSET = new Object();
+
+    private final ObjectMapper mapper;
+
+    private final boolean failOnUnknownProperties;
+
+    RequestDecoder(ObjectMapper mapper) {
+        this.mapper = mapper;
+        this.failOnUnknownProperties = mapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * Reads a batch of requests. The parser should be positioned on the start of the batch array.
+     *
+     * @param parser   JSON parser
+     * @param resolver resolver of request methods
+     * @param timed    whether the phase timings of the requests should be measured
+     * @return decoded requests in the batch order
+     * @throws IOException if the batch is not a valid JSON
+     */
+    List<RpcCall> readBatch(JsonParser parser, MethodResolver resolver, boolean timed) throws IOException {
+        List<RpcCall> calls = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonEOFException(parser, null, "Unexpected end of a batch request");
+            }
+            if (token == JsonToken.START_OBJECT) {
+                calls.add(readCall(parser, resolver, timed));
+            } else {
+                log.error("Invalid JSON-RPC request: batch element with type " + token);
+                parser.skipChildren();
+                calls.add(invalidRequest());
+            }
+        }
+        return calls;
+    }
+
+    /**
+     * Reads a single request. The parser should be positioned on the start of the request object.
+     *
+     * @param parser   JSON parser
+     * @param resolver resolver of request methods
+     * @param timed    whether the phase timings of the request should be measured
+     * @return decoded request
+     * @throws IOException if the request is not a valid JSON
+     */
+    RpcCall readCall(JsonParser parser, MethodResolver resolver, boolean timed) throws IOException {
+        if (!timed) {
+            return readCall(parser, resolver, null);
+        }
+        PhaseTimer timer = new PhaseTimer();
+        long startNanos = System.nanoTime();
+        RpcCall call = readCall(parser, resolver, timer);
+        timer.parseNanos = System.nanoTime() - startNanos - timer.bindNanos;
+        return call;
+    }
+
+    private RpcCall readCall(JsonParser parser, MethodResolver resolver, @Nullable PhaseTimer timer)
+            throws IOException {
+        ValueNode id = NullNode.getInstance();
+        boolean hasId = false;
+        String jsonrpc = null;
+        String methodName = null;
+        Object service = null;
+        MethodMetadata method = null;
+        boolean malformed = false;
+        JsonToken paramsToken = null;
+        TokenBuffer bufferedParams = null;
+        Object[] params = null;
+        ErrorMessage resolveError = null;
+        ErrorMessage paramsError = null;
+
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "jsonrpc" -> {
+                    if (token.isScalarValue()) {
+                        jsonrpc = parser.getValueAsString();
+                    } else {
+                        malformed = true;
+                        parser.skipChildren();
+                    }
+                }
+                case "method" -> {
+                    if (token.isScalarValue()) {
+                        Route route = null;
+                        try {
+                            if (token == JsonToken.VALUE_STRING) {
+                                // Look up the method by the parser buffer without materializing the name
+                                route = resolver.resolve(parser.getTextCharacters(), parser.getTextOffset(),
+                                        parser.getTextLength());
+                                methodName = route != null ? route.name() : parser.getText();
+                            } else {
+                                methodName = parser.getValueAsString();
+                                if (methodName != null) {
+                                    route = resolver.resolve(methodName);
+                                }
+                            }
+                        } catch (RuntimeException e) {
+                            methodName = parser.getValueAsString();
+                            log.error("Unable to resolve a method '" + methodName + "'", e);
+                            resolveError = JsonRpcServer.INTERNAL_ERROR;
+                        }
+                        if (route != null) {
+                            service = route.service();
+                            method = route.method();
+                        }
+                    } else {
+                        malformed = true;
+                        parser.skipChildren();
+                    }
+                }
+                case "id" -> {
+                    hasId = true;
+                    if (token.isScalarValue()) {
+                        id = readId(parser, token);
+                    } else {
+                        malformed = true;
+                        parser.skipChildren();
+                    }
+                }
+                case "params" -> {
+                    paramsToken = token;
+                    if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+                        continue;
+                    }
+                    if (malformed || methodName != null && method == null) {
+                        // The request can't be invoked anyway
+                        parser.skipChildren();
+                    } else if (method == null) {
+                        // The method is not known yet, so we can't bind the params to the Java types
+                        bufferedParams = new TokenBuffer(parser);
+                        bufferedParams.copyCurrentStructure(parser);
+                    } else {
+                        JsonStreamContext requestContext = parser.getParsingContext().getParent();
+                        try {
+                            params = bindParams(parser, method, timer);
+                        } catch (IllegalArgumentException e) {
+                            log.error("Bad params of a method '" + method.name() + "'", e);
+                            paramsError = JsonRpcServer.INVALID_PARAMS;
+                            skipTo(parser, requestContext);
+                        }
+                    }
+                }
+                default -> {
+                    if (failOnUnknownProperties) {
+                        malformed = true;
+                    }
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        if (malformed) {
+            log.error("Invalid JSON-RPC request: method=" + methodName + ", id=" + id);
+            return invalidRequest();
+        }
+        if (jsonrpc == null || methodName == null) {
+            log.error("Not a JSON-RPC request: method=" + methodName + ", id=" + id);
+            return new RpcCall(id, hasId, methodName, null, null, null, JsonRpcServer.INVALID_REQUEST);
+        }
+        if (!jsonrpc.equals(JsonRpcServer.VERSION)) {
+            log.error("Not a JSON_RPC 2.0 request: method=" + methodName + ", id=" + id);
+            return new RpcCall(id, hasId, methodName, null, null, null, JsonRpcServer.INVALID_REQUEST);
+        }
+        if (paramsToken != null && paramsToken != JsonToken.START_OBJECT && paramsToken != JsonToken.START_ARRAY
+                && paramsToken != JsonToken.VALUE_NULL) {
+            log.error("Params of request: method=" + methodName + ", id=" + id +
+                    " should be an object, an array or null");
+            return new RpcCall(id, hasId, methodName, null, null, null, JsonRpcServer.INVALID_REQUEST);
+        }
+        if (method == null) {
+            return new RpcCall(id, hasId, methodName, null, null, null,
+                    resolveError != null ? resolveError : JsonRpcServer.METHOD_NOT_FOUND);
+        }
+
+        if (paramsError == null && params == null) {
+            try {
+                if (bufferedParams != null) {
+                    try (JsonParser paramsParser = bufferedParams.asParserOnFirstToken()) {
+                        params = bindParams(paramsParser, method, timer);
+                    }
+                } else {
+                    params = bindParams(null, method, timer);
+                }
+            } catch (IllegalArgumentException e) {
+                log.error("Bad params of a method '" + method.name() + "'", e);
+                paramsError = JsonRpcServer.INVALID_PARAMS;
+            }
+        }
+        return new RpcCall(id, hasId, methodName, service, method, params, paramsError, timer);
+    }
+
+    /**
+     * Binds the params and adds the elapsed time to the bind phase if the request is timed
+     */
+    private Object[] bindParams(@Nullable JsonParser parser, MethodMetadata method, @Nullable PhaseTimer timer)
+            throws IOException {
+        if (timer == null) {
+            return bindParams(parser, method);
+        }
+        long startNanos = System.nanoTime();
+        try {
+            return bindParams(parser, method);
+        } finally {
+            timer.bindNanos += System.nanoTime() - startNanos;
+        }
+    }
+
+    /**
+     * Binds JSON params to Java params in the order of the method signature.
+     * The parser should be positioned on the start of the params object or array.
+     *
+     * @param parser JSON parser or {@code null} if the params are absent
+     * @param method invoked method metadata
+     * @return array of java objects for passing to the method
+     * @throws IllegalArgumentException if the params don't match the method signature
+     * @throws IOException              if the params are not a valid JSON
+     */
+    private Object[] bindParams(@Nullable JsonParser parser, MethodMetadata method) throws IOException {
+        List<ParameterMetadata> positionalParams = method.positionalParams();
+        int methodParamsSize = positionalParams.size();
+        Object[] methodParams = new Object[methodParamsSize];
+        Arrays.fill(methodParams, UNSET);
+
+        if (parser != null && parser.currentToken() == JsonToken.START_OBJECT) {
+            String name;
+            while ((name = parser.nextFieldName()) != null) {
+                JsonToken token = parser.nextToken();
+                ParameterMetadata param = method.params().get(name);
+                if (param == null) {
+                    throw new IllegalArgumentException("Unspecified parameter '" + name +
+                            "' is passed to a method '" + method.name() + "'");
+                }
+                methodParams[param.index()] = readParam(parser, token, param);
+            }
+        } else if (parser != null && parser.currentToken() == JsonToken.START_ARRAY) {
+            int index = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (index >= methodParamsSize) {
+                    throw new IllegalArgumentException("Wrong amount arguments: more than " + methodParamsSize +
+                            " for a method '" + method.name() + "'");
+                }
+                methodParams[index] = readParam(parser, token, positionalParams.get(index));
+                index++;
+            }
+        }
+
+        // Handle omitted values
+        for (int index = 0; index < methodParamsSize; index++) {
+            if (methodParams[index] != UNSET) {
+                continue;
+            }
+            ParameterMetadata param = positionalParams.get(index);
+            if (!param.optional()) {
+                throw new IllegalArgumentException("Mandatory parameter '" + param.name() +
+                        "' of a method '" + method.name() + "' is not set");
+            }
+            methodParams[index] = getDefaultValue(param.type());
+        }
+        return methodParams;
+    }
+
+    /**
+     * Converts the current JSON value to an actual Java object.
+     * Scalar values of matching scalar types are read directly from the token.
+     */
+    @Nullable
+    private Object readParam(JsonParser parser, JsonToken token, ParameterMetadata param) throws IOException {
+        switch (token) {
+            case VALUE_NULL:
+                return UNSET;
+            case VALUE_NUMBER_INT:
+                switch (param.scalarType()) {
+                    case INT:
+                        if (parser.getNumberType() == JsonParser.NumberType.INT) {
+                            return parser.getIntValue();
+                        }
+                        break;
+                    case LONG:
+                        if (parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                            return parser.getLongValue();
+                        }
+                        break;
+                    case DOUBLE:
+                        return parser.getDoubleValue();
+                }
+                break;
+            case VALUE_NUMBER_FLOAT:
+                if (param.scalarType() == ScalarType.DOUBLE) {
+                    return parser.getDoubleValue();
+                }
+                break;
+            case VALUE_STRING:
+                if (param.scalarType() == ScalarType.STRING) {
+                    return parser.getText();
+                }
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                if (param.scalarType() == ScalarType.BOOLEAN) {
+                    return token == JsonToken.VALUE_TRUE;
+                }
+                break;
+        }
+        try {
+            return param.reader().readValue(parser);
+        } catch (JsonParseException e) {
+            // Not a valid JSON at all
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Wrong param: '" + param.name() + "'. Expected type: '" +
+                    param.genericType() + "'", e);
+        }
+    }
+
+    private ValueNode readId(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return TextNode.valueOf(parser.getText());
+        } else if (token == JsonToken.VALUE_NULL) {
+            return NullNode.getInstance();
+        }
+        return (ValueNode) mapper.readTree(parser);
+    }
+
+    /**
+     * Skips the rest of a partially read value until the parser returns to the provided context
+     */
+    private static void skipTo(JsonParser parser, JsonStreamContext context) throws IOException {
+        while (parser.getParsingContext() != context) {
+            if (parser.nextToken() == null) {
+                throw new JsonEOFException(parser, null, "Unexpected end of a request");
+            }
+        }
+    }
+
+    private static RpcCall invalidRequest() {
+        return new RpcCall(NullNode.getInstance(), false, null, null, null, null, JsonRpcServer.INVALID_REQUEST);
+    }
+
+    @Nullable
+    private static Object getDefaultValue(Class<?> type) {
+        if (type == java.util.Optional.class) {
+            // If it's Java optional then handle it as an absent value
+            return java.util.Optional.empty();
+        } else if (type.isPrimitive()) {
+            // If parameter is a primitive set the appropriate default value
+            return defaultPrimitiveValue(type);
+        }
+        return null;
+    }
+
+    private static Object defaultPrimitiveValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == char.class) {
+            return '\0';
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0f;
+        } else if (type == double.class) {
+            return 0d;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>JFR event of processing of a single request or a batch element from a resolved method
+ * to a response object</p>
+ */
+@Name("com.github.arteam.simplejsonrpc.server.RequestDispatched")
+@Label("JSON-RPC Request Dispatched")
+@Description("Processing of a request from the dispatch to a method until its response is ready")
+@Category({"JSON-RPC", "Server"})
+@StackTrace(false)
+class RequestDispatchedEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Id")
+    String id;
+
+    @Label("Error Code")
+    @Description("Error code of the response, 0 if it's successful")
+    int errorCode;
+}
@@ -0,0 +1,30 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>JFR event of reading a JSON-RPC request(single or batch)</p>
+ */
+@Name("com.github.arteam.simplejsonrpc.server.RequestReceived")
+@Label("JSON-RPC Request Received")
+@Description("Parsing of a request and binding of its params")
+@Category({"JSON-RPC", "Server"})
+@StackTrace(false)
+class RequestReceivedEvent extends jdk.jfr.Event {
+
+    @Label("Request Size")
+    @Description("Size of the request in bytes or in chars for text requests, -1 if it can't be parsed")
+    long requestSize = -1;
+
+    @Label("Batch Size")
+    @Description("Amount of requests in a batch, 0 if it's a single request")
+    int batchSize;
+
+    @Label("Error Code")
+    @Description("Error code of the whole request, 0 if it's valid")
+    int errorCode;
+}
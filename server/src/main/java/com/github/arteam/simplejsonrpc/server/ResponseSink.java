@@ -0,0 +1,97 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+
+/**
+ * <p>Destination of a JSON-RPC response.</p>
+ * The generator is opened lazily, so nothing is written if there is no response (e.g. for notifications).
+ *
+ * @param <T> type of the response representation
+ */
+abstract class ResponseSink<T> {
+
+    /**
+     * Opens a generator for writing the response
+     */
+    abstract JsonGenerator open(ResponseWriter writer) throws IOException;
+
+    /**
+     * @return the written response. Called after the generator is closed.
+     */
+    abstract T result();
+
+    /**
+     * @return an empty response
+     */
+    abstract T empty();
+
+    static ResponseSink<String> ofString() {
+        return new ResponseSink<>() {
+
+            private final StringWriter stringWriter = new StringWriter();
+
+            @Override
+            JsonGenerator open(ResponseWriter writer) throws IOException {
+                return writer.createGenerator(stringWriter);
+            }
+
+            @Override
+            String result() {
+                return stringWriter.toString();
+            }
+
+            @Override
+            String empty() {
+                return "";
+            }
+        };
+    }
+
+    static ResponseSink<byte[]> ofBytes() {
+        return new ResponseSink<>() {
+
+            private final ByteArrayBuilder byteArrayBuilder = new ByteArrayBuilder();
+
+            @Override
+            JsonGenerator open(ResponseWriter writer) throws IOException {
+                return writer.createGenerator(byteArrayBuilder);
+            }
+
+            @Override
+            byte[] result() {
+                return byteArrayBuilder.toByteArray();
+            }
+
+            @Override
+            byte[] empty() {
+                return new byte[]{};
+            }
+        };
+    }
+
+    static ResponseSink<OutputStream> of(OutputStream outputStream) {
+        return new ResponseSink<>() {
+
+            @Override
+            JsonGenerator open(ResponseWriter writer) throws IOException {
+                return writer.createGenerator(outputStream);
+            }
+
+            @Override
+            OutputStream result() {
+                return outputStream;
+            }
+
+            @Override
+            OutputStream empty() {
+                return new ByteArrayOutputStream();
+            }
+        };
+    }
+}
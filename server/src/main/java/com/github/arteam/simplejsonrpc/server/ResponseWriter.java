@@ -0,0 +1,167 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ValueNode;
+import com.github.arteam.simplejsonrpc.core.domain.ErrorMessage;
+import com.github.arteam.simplejsonrpc.core.domain.ErrorResponse;
+import com.github.arteam.simplejsonrpc.core.domain.Response;
+import com.github.arteam.simplejsonrpc.core.domain.SuccessResponse;
+import com.github.arteam.simplejsonrpc.server.metadata.MethodMetadata;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Streaming writer of JSON-RPC responses.</p>
+ * Writes responses straight to a {@link JsonGenerator} without converting them to an intermediate JSON tree.
+ * The field names and the protocol version of the response envelope are pre-encoded.
+ * So are the standard JSON-RPC errors and the responses with them to requests without an id,
+ * unless the output is indented.
+ */
+class ResponseWriter {
+
+    private static final SerializableString JSONRPC = new SerializedString("jsonrpc");
+    private static final SerializableString VERSION = new SerializedString(JsonRpcServer.VERSION);
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString RESULT = new SerializedString("result");
+    private static final SerializableString ERROR = new SerializedString("error");
+    private static final SerializableString CODE = new SerializedString("code");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+
+    private final ObjectMapper mapper;
+
+    /**
+     * Writer with the mapper settings (pretty printing, etc) for creating generators
+     */
+    private final ObjectWriter writer;
+
+    /**
+     * Pre-encoded standard errors
+     */
+    private final Map<ErrorMessage, SerializableString> encodedErrors = new IdentityHashMap<>();
+
+    /**
+     * Pre-encoded responses with standard errors to requests without an id
+     */
+    private final Map<ErrorMessage, SerializableString> encodedNullIdResponses = new IdentityHashMap<>();
+
+    ResponseWriter(ObjectMapper mapper) {
+        this.mapper = mapper;
+        this.writer = mapper.writer();
+        if (!mapper.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+            // Raw values can't be indented along with the rest of the output
+            for (ErrorMessage error : List.of(JsonRpcServer.PARSE_ERROR, JsonRpcServer.INVALID_REQUEST,
+                    JsonRpcServer.METHOD_NOT_FOUND, JsonRpcServer.INVALID_PARAMS, JsonRpcServer.INTERNAL_ERROR)) {
+                encodedErrors.put(error, encode(generator -> writeError(generator, error)));
+            }
+            for (ErrorMessage error : List.of(JsonRpcServer.PARSE_ERROR, JsonRpcServer.INVALID_REQUEST)) {
+                encodedNullIdResponses.put(error, encode(generator -> write(generator, ErrorResponse.of(error), null)));
+            }
+        }
+    }
+
+    private SerializableString encode(JsonWriteFunction function) {
+        StringWriter output = new StringWriter();
+        try (JsonGenerator generator = createGenerator(output)) {
+            function.write(generator);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return new SerializedString(output.toString());
+    }
+
+    JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        return writer.createGenerator(outputStream);
+    }
+
+    JsonGenerator createGenerator(Writer outputWriter) throws IOException {
+        return writer.createGenerator(outputWriter);
+    }
+
+    /**
+     * Writes a single response as the next value of the generator
+     *
+     * @param generator JSON generator
+     * @param response  JSON-RPC response
+     * @param method    metadata of the invoked method or {@code null} if the request wasn't resolved to a method
+     * @throws IOException in case of a serialization error
+     */
+    void write(JsonGenerator generator, Response response, @Nullable MethodMetadata method) throws IOException {
+        if (response instanceof ErrorResponse errorResponse && errorResponse.id().isNull()) {
+            SerializableString encodedResponse = encodedNullIdResponses.get(errorResponse.error());
+            if (encodedResponse != null) {
+                generator.writeRawValue(encodedResponse);
+                return;
+            }
+        }
+        generator.writeStartObject();
+        generator.writeFieldName(JSONRPC);
+        generator.writeString(VERSION);
+        generator.writeFieldName(ID);
+        writeId(generator, response.id());
+        if (response instanceof SuccessResponse successResponse) {
+            generator.writeFieldName(RESULT);
+            writeResult(generator, successResponse.result(), method);
+        } else if (response instanceof ErrorResponse errorResponse) {
+            generator.writeFieldName(ERROR);
+            writeError(generator, errorResponse.error());
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeResult(JsonGenerator generator, @Nullable Object result,
+                             @Nullable MethodMetadata method) throws IOException {
+        ObjectWriter resultWriter = method != null ? method.resultWriter() : null;
+        if (resultWriter != null && result != null) {
+            resultWriter.writeValue(generator, result);
+        } else {
+            // Polymorphic result, look up the serializer by the runtime class
+            mapper.writeValue(generator, result);
+        }
+    }
+
+    private void writeId(JsonGenerator generator, ValueNode id) throws IOException {
+        if (id.isTextual()) {
+            generator.writeString(id.textValue());
+        } else if (id.isNull()) {
+            generator.writeNull();
+        } else {
+            mapper.writeTree(generator, id);
+        }
+    }
+
+    private void writeError(JsonGenerator generator, ErrorMessage error) throws IOException {
+        SerializableString encodedError = encodedErrors.get(error);
+        if (encodedError != null) {
+            generator.writeRawValue(encodedError);
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName(CODE);
+        generator.writeNumber(error.getCode());
+        generator.writeFieldName(MESSAGE);
+        generator.writeString(error.getMessage());
+        if (error.getData() != null) {
+            generator.writeFieldName(DATA);
+            mapper.writeTree(generator, error.getData());
+        }
+        generator.writeEndObject();
+    }
+
+    @FunctionalInterface
+    private interface JsonWriteFunction {
+        void write(JsonGenerator generator) throws IOException;
+    }
+}
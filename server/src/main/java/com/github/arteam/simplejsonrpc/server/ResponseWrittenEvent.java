@@ -0,0 +1,32 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>JFR event of writing a response to a single request or a batch element</p>
+ */
+@Name("com.github.arteam.simplejsonrpc.server.ResponseWritten")
+@Label("JSON-RPC Response Written")
+@Description("Serialization of a response to a single request or a batch element")
+@Category({"JSON-RPC", "Server"})
+@StackTrace(false)
+class ResponseWrittenEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Id")
+    String id;
+
+    @Label("Batch Size")
+    @Description("Amount of requests in the batch of the response, 0 if it's a single request")
+    int batchSize;
+
+    @Label("Error Code")
+    @Description("Error code of the response, 0 if it's successful")
+    int errorCode;
+}
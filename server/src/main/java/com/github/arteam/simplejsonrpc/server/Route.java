@@ -0,0 +1,13 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import com.github.arteam.simplejsonrpc.server.metadata.MethodMetadata;
+
+/**
+ * <p>A JSON-RPC method bound to the service which handles it</p>
+ *
+ * @param name    full JSON-RPC name of the method (with the service namespace, if there is one)
+ * @param service service object
+ * @param method  method metadata
+ */
+record Route(String name, Object service, MethodMetadata method) {
+}
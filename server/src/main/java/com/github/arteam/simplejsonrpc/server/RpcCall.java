@@ -0,0 +1,40 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import com.fasterxml.jackson.databind.node.ValueNode;
+import com.github.arteam.simplejsonrpc.core.domain.ErrorMessage;
+import com.github.arteam.simplejsonrpc.server.interceptor.Invocation;
+import com.github.arteam.simplejsonrpc.server.metadata.MethodMetadata;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>A decoded JSON-RPC request.</p>
+ * Holds the request id, the resolved method and its bound Java params or,
+ * if the request can't be invoked, the error which should be returned to the client.
+ *
+ * @param id          request id ({@code null} node if it's not set)
+ * @param hasId       whether the request has the "id" field (a request without it is a notification)
+ * @param methodName  the name of the method from the request
+ * @param service     service object which handles the method
+ * @param method      resolved method metadata
+ * @param params      method params in the order of the method signature
+ * @param error       the error of the request decoding
+ * @param timer       accumulator of phase timings if the request is sampled
+ */
+record RpcCall(ValueNode id, boolean hasId,
+               @Nullable String methodName,
+               @Nullable Object service,
+               @Nullable MethodMetadata method,
+               @Nullable Object[] params,
+               @Nullable ErrorMessage error,
+               @Nullable PhaseTimer timer) implements Invocation {
+
+    RpcCall(ValueNode id, boolean hasId, @Nullable String methodName, @Nullable Object service,
+            @Nullable MethodMetadata method, @Nullable Object[] params, @Nullable ErrorMessage error) {
+        this(id, hasId, methodName, service, method, params, error, null);
+    }
+
+    @Override
+    public String toString() {
+        return "RpcCall{method=" + methodName + ", id=" + id + "}";
+    }
+}
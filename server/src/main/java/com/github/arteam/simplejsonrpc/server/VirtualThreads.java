@@ -0,0 +1,29 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * <p>Access to virtual threads for the server and its transport modules.</p>
+ * This is the Java 17 version, which reports that virtual threads are not supported.
+ * The Java 21 version in {@code META-INF/versions/21} of the multi-release JAR replaces it.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return whether the runtime supports virtual threads
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * @return a new executor which starts a virtual thread for each task
+     * @throws UnsupportedOperationException if virtual threads are not supported
+     */
+    public static ExecutorService newThreadPerTaskExecutor() {
+        throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+    }
+}
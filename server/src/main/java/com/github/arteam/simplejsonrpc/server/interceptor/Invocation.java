@@ -0,0 +1,35 @@
+package com.github.arteam.simplejsonrpc.server.interceptor;
+
+import com.fasterxml.jackson.databind.node.ValueNode;
+import com.github.arteam.simplejsonrpc.server.metadata.MethodMetadata;
+
+/**
+ * <p>A JSON-RPC request resolved to a service method with its params bound to Java objects</p>
+ */
+public interface Invocation {
+
+    /**
+     * @return the request id, a {@code null} node for notifications
+     */
+    ValueNode id();
+
+    /**
+     * @return the name of the method from the request
+     */
+    String methodName();
+
+    /**
+     * @return the service object which handles the request
+     */
+    Object service();
+
+    /**
+     * @return metadata of the resolved method
+     */
+    MethodMetadata method();
+
+    /**
+     * @return method params in the order of the method signature
+     */
+    Object[] params();
+}
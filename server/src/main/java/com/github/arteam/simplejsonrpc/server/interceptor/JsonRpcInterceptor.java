@@ -0,0 +1,64 @@
+package com.github.arteam.simplejsonrpc.server.interceptor;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>Interceptor of invocations of service methods.</p>
+ * <p>Interceptors are registered in {@link com.github.arteam.simplejsonrpc.server.JsonRpcServerBuilder}
+ * and composed into a single chain when the server is built. Only the overridden hooks are put
+ * to the chain, so an interceptor doesn't cost anything for the hooks it doesn't implement.</p>
+ * <p>The hooks are called only for requests resolved to a method with successfully bound params.
+ * An exception thrown by {@link #beforeDispatch} or {@link #aroundInvoke} is handled as an exception
+ * thrown by the method: it's translated to a JSON-RPC error according to its {@code @JsonRpcError}
+ * annotation, so it could be used to reject a request.</p>
+ */
+public interface JsonRpcInterceptor {
+
+    /**
+     * Called before the invocation chain. The interceptors are called in the registration order.
+     *
+     * @param invocation resolved request
+     * @throws Exception to reject the request
+     */
+    default void beforeDispatch(Invocation invocation) throws Exception {
+    }
+
+    /**
+     * Wraps the invocation of the method. The first registered interceptor is the outermost one.
+     * For asynchronous methods the result is a {@link java.util.concurrent.CompletionStage}.
+     *
+     * @param invocation resolved request
+     * @param proceed    the rest of the chain
+     * @return the method result
+     * @throws Throwable an exception thrown by the method or by the interceptor
+     */
+    @Nullable
+    default Object aroundInvoke(Invocation invocation, Proceed proceed) throws Throwable {
+        return proceed.proceed(invocation);
+    }
+
+    /**
+     * Called when the method or the chain fails before the error is translated to a JSON-RPC error.
+     * Exceptions thrown by this hook are logged and ignored.
+     *
+     * @param invocation resolved request
+     * @param error      exception thrown by the method or the exceptional completion of an asynchronous method
+     */
+    default void onError(Invocation invocation, Throwable error) {
+    }
+
+    /**
+     * The rest of the invocation chain
+     */
+    @FunctionalInterface
+    interface Proceed {
+
+        /**
+         * @param invocation the request to invoke, normally the one passed to the interceptor
+         * @return the method result
+         * @throws Throwable an exception thrown by the method
+         */
+        @Nullable
+        Object proceed(Invocation invocation) throws Throwable;
+    }
+}
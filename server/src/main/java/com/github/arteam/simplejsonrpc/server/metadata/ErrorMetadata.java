@@ -0,0 +1,13 @@
+package com.github.arteam.simplejsonrpc.server.metadata;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>Resolved translation of an exception class to a JSON-RPC error</p>
+ *
+ * @param code         error code
+ * @param message      error message or {@code null} if the message of the exception should be used
+ * @param dataResolver resolver of the error data from an exception
+ */
+public record ErrorMetadata(int code, @Nullable String message, ErrorDataResolver dataResolver) {
+}
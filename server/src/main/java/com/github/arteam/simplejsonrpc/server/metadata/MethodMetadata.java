@@ -1,6 +1,14 @@
 package com.github.arteam.simplejsonrpc.server.metadata;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.jetbrains.annotations.Nullable;
+
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -8,7 +16,67 @@ import java.util.Map;
  * Time: 7:42 PM
  * <p>
  * Metadata about a Java method
+ *
+ * @param name             JSON-RPC name of the method
+ * @param methodHandle     direct handle of the method
+ * @param params           parameters metadata by their names
+ * @param positionalParams parameters metadata in the order of the method signature
+ * @param invoker          handle of the method adapted to the {@code (Object service, Object[] params)Object} type
+ * @param returnType       generic type of the method result, unwrapped from {@code CompletionStage} for asynchronous methods
+ * @param resultWriter     writer pre-resolved for the result type or {@code null} if the serializer
+ *                         should be looked up by the runtime class of the result
  */
 public record MethodMetadata(String name, MethodHandle methodHandle,
-                             Map<String, ParameterMetadata> params) {
+                             Map<String, ParameterMetadata> params,
+                             List<ParameterMetadata> positionalParams,
+                             MethodHandle invoker,
+                             JavaType returnType,
+                             @Nullable ObjectWriter resultWriter) {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    /**
+     * Creates metadata from a method handle and parameters by names, as before the invoker and the result writer
+     * were pre-resolved. The invoker is adapted from the handle, the result is serialized by its runtime class.
+     *
+     * @param name         JSON-RPC name of the method
+     * @param methodHandle direct handle of the method
+     * @param params       parameters metadata by their names
+     */
+    public MethodMetadata(String name, MethodHandle methodHandle, Map<String, ParameterMetadata> params) {
+        this(name, methodHandle, params,
+                params.values().stream().sorted(Comparator.comparingInt(ParameterMetadata::index)).toList(),
+                invoker(methodHandle),
+                TypeFactory.defaultInstance().constructType(methodHandle.type().returnType()),
+                null);
+    }
+
+    /**
+     * Adapts a handle of an instance method to a generic invoker, which accepts a service object and an array
+     * of arguments. The invoker is built once per method, so requests are dispatched through
+     * {@link MethodHandle#invokeExact} without binding the handle to the service and going through
+     * {@link MethodHandle#invokeWithArguments}.
+     *
+     * @param methodHandle direct handle of an instance method
+     * @return invoker with the {@code (Object, Object[])Object} type
+     */
+    public static MethodHandle invoker(MethodHandle methodHandle) {
+        // Varargs are bound as a regular array parameter, the receiver is not spread
+        return methodHandle.asFixedArity()
+                .asSpreader(Object[].class, methodHandle.type().parameterCount() - 1)
+                .asType(INVOKER_TYPE);
+    }
+
+    /**
+     * Invokes the method through the precompiled invoker without binding the handle to the service.
+     * The arguments are passed boxed in the array and unpacked by the invoker.
+     *
+     * @param service service object
+     * @param params  method params in the order of the method signature
+     * @return the method result or {@code null} if the method is {@code void}
+     * @throws Throwable an exception thrown by the method
+     */
+    public Object invoke(Object service, Object[] params) throws Throwable {
+        return (Object) invoker.invokeExact(service, params);
+    }
 }
@@ -1,5 +1,10 @@
 package com.github.arteam.simplejsonrpc.server.metadata;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
 import java.lang.reflect.Type;
 
 /**
@@ -7,7 +12,42 @@ import java.lang.reflect.Type;
  * Time: 7:44 PM
  * <p>
  * Method parameter metadata
+ *
+ * @param name        JSON-RPC name of the parameter
+ * @param type        raw type of the parameter
+ * @param genericType generic type of the parameter
+ * @param index       position of the parameter in the method signature
+ * @param optional    whether the parameter can be omitted
+ * @param javaType    pre-resolved Jackson type of the parameter
+ * @param reader      reader of the parameter values
+ * @param scalarType  scalar type of the parameter for reading values directly from JSON tokens,
+ *                    {@code NONE} if the mapper has a custom deserializer for it
  */
 public record ParameterMetadata(String name, Class<?> type, Type genericType,
-                                int index, boolean optional) {
+                                int index, boolean optional,
+                                JavaType javaType, ObjectReader reader,
+                                ScalarType scalarType) {
+
+    private static final ObjectMapper DEFAULT_MAPPER = new ObjectMapper();
+
+    /**
+     * Creates metadata of a parameter, as before its type and reader were pre-resolved.
+     * Values are read by a reader of a default {@link ObjectMapper}.
+     *
+     * @param name        JSON-RPC name of the parameter
+     * @param type        raw type of the parameter
+     * @param genericType generic type of the parameter
+     * @param index       position of the parameter in the method signature
+     * @param optional    whether the parameter can be omitted
+     */
+    public ParameterMetadata(String name, Class<?> type, Type genericType, int index, boolean optional) {
+        this(name, type, genericType, index, optional, DEFAULT_MAPPER.constructType(genericType));
+    }
+
+    private ParameterMetadata(String name, Class<?> type, Type genericType, int index, boolean optional,
+                              JavaType javaType) {
+        this(name, type, genericType, index, optional, javaType,
+                DEFAULT_MAPPER.readerFor(javaType).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS),
+                ScalarType.of(type));
+    }
 }
@@ -0,0 +1,29 @@
+package com.github.arteam.simplejsonrpc.server.metadata;
+
+/**
+ * <p>Scalar types of method parameters which are read directly from a JSON token
+ * without going through the data-binding machinery</p>
+ */
+public enum ScalarType {
+    INT, LONG, DOUBLE, BOOLEAN, STRING,
+
+    /**
+     * Not a scalar type, the parameter is read by an object reader
+     */
+    NONE;
+
+    public static ScalarType of(Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return INT;
+        } else if (type == long.class || type == Long.class) {
+            return LONG;
+        } else if (type == double.class || type == Double.class) {
+            return DOUBLE;
+        } else if (type == boolean.class || type == Boolean.class) {
+            return BOOLEAN;
+        } else if (type == String.class) {
+            return STRING;
+        }
+        return NONE;
+    }
+}
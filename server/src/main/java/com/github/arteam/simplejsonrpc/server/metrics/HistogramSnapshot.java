@@ -0,0 +1,85 @@
+package com.github.arteam.simplejsonrpc.server.metrics;
+
+/**
+ * <p>Snapshot of a histogram with log-linear buckets.</p>
+ * Values from 0 to 7 have their own buckets, larger values are split into 8 buckets per power of two,
+ * so a bucket bound is at most 12.5% off from the recorded value. Values which don't fit into
+ * the buckets are counted in the last one.
+ *
+ * @param count   amount of recorded values
+ * @param sum     sum of recorded values
+ * @param max     maximal recorded value
+ * @param buckets counts of values by buckets
+ */
+public record HistogramSnapshot(long count, long sum, long max, long[] buckets) {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+
+    /**
+     * Amount of buckets in a histogram
+     */
+    public static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    /**
+     * @param value recorded value
+     * @return index of the bucket which counts the value
+     */
+    public static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return value < 0 ? 0 : (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @param index bucket index
+     * @return the largest value counted by the bucket
+     */
+    public static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * @return mean of recorded values or 0 if there are no values
+     */
+    public double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Estimates a percentile by the upper bound of the bucket where it falls
+     *
+     * @param percentile percentile from 0 to 100
+     * @return estimated value or 0 if there are no values
+     */
+    public long percentile(double percentile) {
+        long total = 0;
+        for (long bucket : buckets) {
+            total += bucket;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+}
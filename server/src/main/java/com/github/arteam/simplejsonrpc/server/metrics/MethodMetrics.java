@@ -0,0 +1,13 @@
+package com.github.arteam.simplejsonrpc.server.metrics;
+
+import java.util.Map;
+
+/**
+ * <p>Metrics of a JSON-RPC method</p>
+ *
+ * @param invocations amount of invocations of the method
+ * @param errors      amount of error responses by error codes, including invalid params
+ * @param latency     latency of invocations in microseconds
+ */
+public record MethodMetrics(long invocations, Map<Integer, Long> errors, HistogramSnapshot latency) {
+}
@@ -0,0 +1,19 @@
+package com.github.arteam.simplejsonrpc.server.metrics;
+
+import java.util.Map;
+
+/**
+ * <p>Point-in-time snapshot of the metrics of a JSON-RPC server.</p>
+ * The values are cumulative since the server was created.
+ *
+ * @param methods      metrics of the methods by their names
+ * @param errors       amount of all error responses by error codes, including the errors of requests
+ *                     which weren't resolved to a method (parse errors, invalid requests, unknown methods)
+ * @param batchSizes   amount of elements in batch requests
+ * @param payloadSizes size of requests in bytes (in chars for text requests)
+ */
+public record MetricsSnapshot(Map<String, MethodMetrics> methods,
+                              Map<Integer, Long> errors,
+                              HistogramSnapshot batchSizes,
+                              HistogramSnapshot payloadSizes) {
+}
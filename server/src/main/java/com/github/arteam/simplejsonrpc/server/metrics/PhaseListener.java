@@ -0,0 +1,17 @@
+package com.github.arteam.simplejsonrpc.server.metrics;
+
+/**
+ * <p>Listener of timings of the processing phases of sampled requests.</p>
+ * It's called in the thread which wrote the response, so it should be fast and thread-safe.
+ * Exceptions thrown by the listener are logged and don't affect the response.
+ */
+@FunctionalInterface
+public interface PhaseListener {
+
+    /**
+     * Called when a response to a sampled request with a resolved method is written
+     *
+     * @param timings time spent on each phase
+     */
+    void onTimings(PhaseTimings timings);
+}
@@ -0,0 +1,21 @@
+package com.github.arteam.simplejsonrpc.server.metrics;
+
+/**
+ * <p>Time spent on the phases of processing of a single request or a batch element</p>
+ *
+ * @param method         name of the invoked method
+ * @param parseNanos     reading the request envelope, excluding binding the params
+ * @param bindNanos      binding the params to the Java types of the method parameters
+ * @param invokeNanos    invocation of the method until its result is available,
+ *                       including the translation of an exception to an error
+ * @param serializeNanos writing the response, 0 for notifications
+ */
+public record PhaseTimings(String method, long parseNanos, long bindNanos, long invokeNanos, long serializeNanos) {
+
+    /**
+     * @return time spent on all the phases
+     */
+    public long totalNanos() {
+        return parseNanos + bindNanos + invokeNanos + serializeNanos;
+    }
+}
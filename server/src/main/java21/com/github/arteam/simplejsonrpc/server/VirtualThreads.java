@@ -0,0 +1,28 @@
+package com.github.arteam.simplejsonrpc.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>Access to virtual threads for the server and its transport modules.</p>
+ * This is the Java 21 version from {@code META-INF/versions/21} of the multi-release JAR.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return whether the runtime supports virtual threads
+     */
+    public static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * @return a new executor which starts a virtual thread for each task
+     */
+    public static ExecutorService newThreadPerTaskExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.arteam.simplejsonrpc.server.simple;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import com.github.arteam.simplejsonrpc.server.BatchResponseOrder;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.github.arteam.simplejsonrpc.server.simple.service.TeamService;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests service methods which return {@link java.util.concurrent.CompletionStage}
+ */
+public class JsonRpcAsyncTest {
+
+    private static final ObjectMapper userMapper = new ObjectMapper()
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .registerModule(new Jdk8Module());
+    private static final JsonRpcServer rpcServer = new JsonRpcServer(userMapper);
+    private static final TeamService teamService = new TeamService();
+
+    private static final String FIND_ASYNC = "{\"jsonrpc\":\"2.0\",\"method\":\"findByInitialsAsync\"," +
+            "\"params\":{\"firstName\":\"Steven\",\"lastName\":\"Stamkos\"},\"id\":1}";
+    private static final String LOGIN_ASYNC = "{\"jsonrpc\":\"2.0\",\"method\":\"loginAsync\"," +
+            "\"params\":[\"secret\",\"stuff\"],\"id\":2}";
+    private static final String IS_ALIVE_NOTIFICATION = "{\"jsonrpc\":\"2.0\",\"method\":\"isAlive\"}";
+
+    @Test
+    public void testHandleAsync() throws Exception {
+        String response = rpcServer.handleAsync(FIND_ASYNC, teamService).get();
+
+        JsonNode result = userMapper.readTree(response).get("result");
+        assertThat(result.get("firstName").asText()).isEqualTo("Steven");
+        assertThat(result.get("number").asInt()).isEqualTo(91);
+    }
+
+    @Test
+    public void testSyncHandleOfAsyncMethod() throws Exception {
+        String response = rpcServer.handle(FIND_ASYNC, teamService);
+
+        assertThat(userMapper.readTree(response).get("result").get("lastName").asText()).isEqualTo("Stamkos");
+    }
+
+    @Test
+    public void testAsyncError() throws Exception {
+        JsonNode asyncResponse = userMapper.readTree(rpcServer.handleAsync(LOGIN_ASYNC, teamService).get());
+        JsonNode syncResponse = userMapper.readTree(rpcServer.handle(LOGIN_ASYNC, teamService));
+
+        assertThat(asyncResponse).isEqualTo(syncResponse);
+        assertThat(asyncResponse.get("error").get("code").asInt()).isEqualTo(-32032);
+        assertThat(asyncResponse.get("id").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    public void testAsyncBatch() throws Exception {
+        String batch = "[" + FIND_ASYNC + "," + IS_ALIVE_NOTIFICATION + "," + LOGIN_ASYNC + "]";
+        byte[] response = rpcServer.handleAsync(batch.getBytes(StandardCharsets.UTF_8), teamService).get();
+
+        JsonNode responses = userMapper.readTree(response);
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(0).get("result").get("firstName").asText()).isEqualTo("Steven");
+        assertThat(responses.get(1).get("error").get("code").asInt()).isEqualTo(-32032);
+    }
+
+    @Test
+    public void testAsyncBatchInCompletionOrder() throws Exception {
+        JsonRpcServer completionOrderServer = JsonRpcServer.builder()
+                .mapper(userMapper)
+                .batchResponseOrder(BatchResponseOrder.COMPLETION)
+                .build();
+        SlowService slowService = new SlowService();
+        String batch = "[{\"jsonrpc\":\"2.0\",\"method\":\"slow\",\"id\":1}," +
+                "{\"jsonrpc\":\"2.0\",\"method\":\"fast\",\"id\":2}]";
+
+        CompletableFuture<String> response = completionOrderServer.handleAsync(batch, slowService);
+        assertThat(response).isNotDone();
+        slowService.slow.complete("slow");
+
+        JsonNode responses = userMapper.readTree(response.get());
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(0).get("result").asText()).isEqualTo("fast");
+        assertThat(responses.get(1).get("result").asText()).isEqualTo("slow");
+    }
+
+    @Test
+    public void testAsyncNotification() throws Exception {
+        assertThat(rpcServer.handleAsync(IS_ALIVE_NOTIFICATION, teamService).get()).isEmpty();
+    }
+
+    @JsonRpcService
+    public static class SlowService {
+
+        private final CompletableFuture<String> slow = new CompletableFuture<>();
+
+        @JsonRpcMethod
+        public CompletableFuture<String> slow() {
+            return slow;
+        }
+
+        @JsonRpcMethod
+        public CompletableFuture<String> fast() {
+            return CompletableFuture.completedFuture("fast");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.arteam.simplejsonrpc.server.simple;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that deserializers of scalar types registered in the mapper are applied to parameters
+ */
+public class JsonRpcCustomDeserializersTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper().registerModule(new SimpleModule()
+            .addDeserializer(String.class, new JsonDeserializer<>() {
+                @Override
+                public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                    return parser.getText().trim();
+                }
+            })
+            .addDeserializer(Integer.class, new JsonDeserializer<>() {
+                @Override
+                public Integer deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                    return Math.abs(parser.getIntValue());
+                }
+            }));
+
+    private final JsonRpcServer rpcServer = JsonRpcServer.builder().mapper(mapper).register(new EchoService()).build();
+
+    @Test
+    public void testCustomDeserializers() throws Exception {
+        String response = rpcServer.handle("{\"jsonrpc\":\"2.0\",\"method\":\"describe\"," +
+                "\"params\":{\"name\":\"  Steven \",\"number\":-91,\"games\":1082},\"id\":1}");
+
+        assertThat(mapper.readTree(response).get("result").asText()).isEqualTo("Steven:91:1082");
+    }
+
+    @JsonRpcService
+    public static class EchoService {
+
+        @JsonRpcMethod
+        public String describe(@JsonRpcParam("name") String name, @JsonRpcParam("number") Integer number,
+                               @JsonRpcParam("games") long games) {
+            return name + ":" + number + ":" + games;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.github.arteam.simplejsonrpc.server.simple;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
 import com.github.arteam.simplejsonrpc.server.simple.service.BaseService;
 import com.github.arteam.simplejsonrpc.server.simple.service.BogusService;
@@ -282,4 +283,30 @@ public class JsonRpcErrorsTest {
         assertThat(json(response)).isEqualTo(json(responseFile("user_specified_error_data_wrong_methods.json")));
     }
 
+    @Test
+    public void testRepeatedErrors() {
+        for (int i = 0; i < 3; i++) {
+            String response = rpcController.handle(requestFile("user_specified_error_data_field.json"), teamService);
+            assertThat(json(response)).isEqualTo(json(responseFile("user_specified_error_data_field.json")));
+
+            response = rpcController.handle(requestFile("user_specified_error_data_multiple_fields.json"),
+                    teamService);
+            assertThat(json(response)).isEqualTo(json(responseFile("internal_error.json")));
+        }
+    }
+
+    @Test
+    public void testInvalidBatchElements() {
+        String request = "[1, {\"jsonrpc\":\"2.0\",\"method\":\"unknownMethod\",\"id\":2}, \"text\"]";
+        JsonRpcServer indentingServer = new JsonRpcServer(new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT));
+
+        JsonNode response = json(rpcController.handle(request, teamService));
+        assertThat(response).hasSize(3);
+        assertThat(response.get(0)).isEqualTo(json(responseFile("invalid_request.json")));
+        assertThat(response.get(1).get("error").get("code").asInt()).isEqualTo(-32601);
+        assertThat(response.get(1).get("id").asInt()).isEqualTo(2);
+        assertThat(response.get(2)).isEqualTo(json(responseFile("invalid_request.json")));
+        assertThat(json(indentingServer.handle(request, teamService))).isEqualTo(response);
+    }
 }
@@ -0,0 +1,117 @@
+package com.github.arteam.simplejsonrpc.server.simple;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.github.arteam.simplejsonrpc.server.simple.service.TeamService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests JFR events of the server
+ */
+public class JsonRpcFlightRecorderTest {
+
+    private static final String EVENT_PREFIX = "com.github.arteam.simplejsonrpc.server.";
+    private static final String FIND_PLAYER = "{\"jsonrpc\":\"2.0\",\"method\":\"findByInitials\"," +
+            "\"params\":{\"firstName\":\"Steven\",\"lastName\":\"Stamkos\"},\"id\":1}";
+    private static final String BAD_LOGIN = "{\"jsonrpc\":\"2.0\",\"method\":\"login\"," +
+            "\"params\":{\"login\":\"super\",\"password\":\"secret\"},\"id\":2}";
+
+    @TempDir
+    Path tempDir;
+
+    private final TeamService teamService = new TeamService();
+    private final JsonRpcServer rpcServer = new JsonRpcServer(new ObjectMapper().registerModule(new Jdk8Module()));
+
+    @Test
+    public void testSingleRequest() throws Exception {
+        List<RecordedEvent> events = record(() -> rpcServer.handle(FIND_PLAYER, teamService));
+
+        RecordedEvent received = event(events, "RequestReceived");
+        assertThat(received.getLong("requestSize")).isEqualTo(FIND_PLAYER.length());
+        assertThat(received.getInt("batchSize")).isZero();
+        assertThat(received.getInt("errorCode")).isZero();
+
+        RecordedEvent dispatched = event(events, "RequestDispatched");
+        assertThat(dispatched.getString("method")).isEqualTo("findByInitials");
+        assertThat(dispatched.getString("id")).isEqualTo("1");
+        assertThat(dispatched.getInt("errorCode")).isZero();
+
+        RecordedEvent invoked = event(events, "MethodInvoked");
+        assertThat(invoked.getString("method")).isEqualTo("findByInitials");
+        assertThat(invoked.getBoolean("async")).isFalse();
+        assertThat(invoked.getBoolean("failed")).isFalse();
+
+        RecordedEvent written = event(events, "ResponseWritten");
+        assertThat(written.getString("id")).isEqualTo("1");
+        assertThat(written.getInt("batchSize")).isZero();
+        assertThat(events).noneMatch(named("ErrorTranslated"));
+    }
+
+    @Test
+    public void testBatchWithError() throws Exception {
+        String batch = "[" + FIND_PLAYER + "," + BAD_LOGIN + "]";
+        List<RecordedEvent> events = record(() -> rpcServer.handle(batch, teamService));
+
+        RecordedEvent received = event(events, "RequestReceived");
+        assertThat(received.getInt("batchSize")).isEqualTo(2);
+        assertThat(received.getLong("requestSize")).isEqualTo(batch.length());
+        assertThat(events.stream().filter(named("RequestDispatched"))).hasSize(2);
+
+        RecordedEvent translated = event(events, "ErrorTranslated");
+        assertThat(translated.getString("method")).isEqualTo("login");
+        assertThat(translated.getString("id")).isEqualTo("2");
+        assertThat(translated.getInt("errorCode")).isEqualTo(-32032);
+        assertThat(translated.getClass("exceptionClass").getName()).endsWith("TeamServiceAuthException");
+
+        assertThat(events.stream().filter(named("ResponseWritten")))
+                .hasSize(2)
+                .allMatch(e -> e.getInt("batchSize") == 2);
+    }
+
+    @Test
+    public void testParseError() throws Exception {
+        List<RecordedEvent> events = record(() -> rpcServer.handle("{\"jsonrpc\":\"2.0\",", teamService));
+
+        RecordedEvent received = event(events, "RequestReceived");
+        assertThat(received.getInt("errorCode")).isEqualTo(-32700);
+        assertThat(received.getLong("requestSize")).isEqualTo(-1);
+        assertThat(events).noneMatch(named("RequestDispatched"));
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws Exception {
+        Path file = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("RequestReceived", "RequestDispatched", "MethodInvoked",
+                    "ErrorTranslated", "ResponseWritten")) {
+                recording.enable(EVENT_PREFIX + name);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static RecordedEvent event(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(named(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No event " + name + " in " + events));
+    }
+
+    private static Predicate<RecordedEvent> named(String name) {
+        return e -> e.getEventType().getName().equals(EVENT_PREFIX + name);
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.arteam.simplejsonrpc.server.simple;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.github.arteam.simplejsonrpc.server.interceptor.Invocation;
+import com.github.arteam.simplejsonrpc.server.interceptor.JsonRpcInterceptor;
+import com.github.arteam.simplejsonrpc.server.simple.domain.Player;
+import com.github.arteam.simplejsonrpc.server.simple.exception.TeamServiceAuthException;
+import com.github.arteam.simplejsonrpc.server.simple.service.TeamService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests interceptors of method invocations
+ */
+public class JsonRpcInterceptorTest {
+
+    private static final ObjectMapper userMapper = new ObjectMapper().registerModule(new Jdk8Module());
+    private static final String FIND_PLAYER = "{\"jsonrpc\":\"2.0\",\"method\":\"findByInitials\"," +
+            "\"params\":{\"firstName\":\"Steven\",\"lastName\":\"Stamkos\"},\"id\":1}";
+    private static final String BAD_LOGIN = "{\"jsonrpc\":\"2.0\",\"method\":\"login\"," +
+            "\"params\":{\"login\":\"super\",\"password\":\"secret\"},\"id\":2}";
+
+    private final TeamService teamService = new TeamService();
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testOrder() throws Exception {
+        JsonRpcServer rpcServer = JsonRpcServer.builder()
+                .mapper(userMapper)
+                .interceptor(new RecordingInterceptor("first"))
+                .interceptor(new RecordingInterceptor("second"))
+                .build();
+        JsonNode response = userMapper.readTree(rpcServer.handle(FIND_PLAYER, teamService));
+
+        assertThat(response.get("result").get("lastName").asText()).isEqualTo("Stamkos");
+        assertThat(events).containsExactly("first.before", "second.before", "first.around", "second.around",
+                "second.result:Stamkos", "first.result:Stamkos");
+    }
+
+    @Test
+    public void testInvocation() {
+        JsonRpcServer rpcServer = JsonRpcServer.builder()
+                .mapper(userMapper)
+                .interceptor(new JsonRpcInterceptor() {
+                    @Override
+                    public void beforeDispatch(Invocation invocation) {
+                        events.add(invocation.methodName() + ":" + invocation.id().asInt() + ":" +
+                                invocation.method().returnType().getRawClass().getSimpleName() + ":" +
+                                List.of(invocation.params()));
+                        assertThat(invocation.service()).isSameAs(teamService);
+                    }
+                })
+                .build();
+        rpcServer.handle(FIND_PLAYER, teamService);
+
+        assertThat(events).containsExactly("findByInitials:1:Player:[Steven, Stamkos]");
+    }
+
+    @Test
+    public void testRejectBeforeDispatch() throws Exception {
+        JsonRpcServer rpcServer = JsonRpcServer.builder()
+                .mapper(userMapper)
+                .interceptor(new JsonRpcInterceptor() {
+                    @Override
+                    public void beforeDispatch(Invocation invocation) {
+                        throw new TeamServiceAuthException("Not authorized");
+                    }
+                })
+                .interceptor(new RecordingInterceptor("next"))
+                .build();
+        JsonNode response = userMapper.readTree(rpcServer.handle(FIND_PLAYER, teamService));
+
+        assertThat(response.get("error").get("code").asInt()).isEqualTo(-32032);
+        assertThat(events).containsExactly("next.error:TeamServiceAuthException");
+    }
+
+    @Test
+    public void testOnError() throws Exception {
+        JsonRpcServer rpcServer = JsonRpcServer.builder()
+                .mapper(userMapper)
+                .interceptor(new RecordingInterceptor("first"))
+                .interceptor(new JsonRpcInterceptor() {
+                    @Override
+                    public void onError(Invocation invocation, Throwable error) {
+                        throw new IllegalStateException("Failing interceptor");
+                    }
+                })
+                .build();
+        JsonNode response = userMapper.readTree(rpcServer.handle(BAD_LOGIN, teamService));
+
+        assertThat(response.get("error").get("code").asInt()).isEqualTo(-32032);
+        assertThat(events).containsExactly("first.before", "first.around", "first.error:TeamServiceAuthException");
+    }
+
+    @Test
+    public void testAsyncMethod() throws Exception {
+        JsonRpcServer rpcServer = JsonRpcServer.builder()
+                .mapper(userMapper)
+                .interceptor(new JsonRpcInterceptor() {
+                    @Override
+                    public Object aroundInvoke(Invocation invocation, Proceed proceed) throws Throwable {
+                        Object result = proceed.proceed(invocation);
+                        events.add(String.valueOf(result instanceof CompletionStage));
+                        return result;
+                    }
+                })
+                .build();
+        String request = "{\"jsonrpc\":\"2.0\",\"method\":\"findByInitialsAsync\"," +
+                "\"params\":{\"firstName\":\"Steven\",\"lastName\":\"Stamkos\"},\"id\":3}";
+        JsonNode response = userMapper.readTree(rpcServer.handleAsync(request, teamService).get());
+
+        assertThat(response.get("result").get("firstName").asText()).isEqualTo("Steven");
+        assertThat(events).containsExactly("true");
+    }
+
+    @Test
+    public void testNotInvoked() throws Exception {
+        JsonRpcServer rpcServer = JsonRpcServer.builder()
+                .mapper(userMapper)
+                .interceptor(new RecordingInterceptor("first"))
+                .build();
+        String badParams = "{\"jsonrpc\":\"2.0\",\"method\":\"findByInitials\"," +
+                "\"params\":{\"firstName\":\"Steven\"},\"id\":4}";
+        JsonNode response = userMapper.readTree(rpcServer.handle(badParams, teamService));
+
+        assertThat(response.get("error").get("code").asInt()).isEqualTo(-32602);
+        assertThat(events).isEmpty();
+    }
+
+    private class RecordingInterceptor implements JsonRpcInterceptor {
+
+        private final String name;
+
+        RecordingInterceptor(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void beforeDispatch(Invocation invocation) {
+            events.add(name + ".before");
+        }
+
+        @Override
+        public Object aroundInvoke(Invocation invocation, Proceed proceed) throws Throwable {
+            events.add(name + ".around");
+            Object result = proceed.proceed(invocation);
+            if (result instanceof Player player) {
+                events.add(name + ".result:" + player.lastName());
+            }
+            return result;
+        }
+
+        @Override
+        public void onError(Invocation invocation, Throwable error) {
+            events.add(name + ".error:" + error.getClass().getSimpleName());
+        }
+    }
+}
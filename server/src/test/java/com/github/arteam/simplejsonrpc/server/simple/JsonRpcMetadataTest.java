@@ -0,0 +1,44 @@
+package com.github.arteam.simplejsonrpc.server.simple;
+
+import com.github.arteam.simplejsonrpc.server.metadata.MethodMetadata;
+import com.github.arteam.simplejsonrpc.server.metadata.ParameterMetadata;
+import com.github.arteam.simplejsonrpc.server.metadata.ScalarType;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests metadata created by hand with the constructors which predate the pre-resolved fields
+ */
+public class JsonRpcMetadataTest {
+
+    @Test
+    public void testLegacyConstructors() throws Throwable {
+        Method subtract = Calculator.class.getMethod("subtract", int.class, List.class);
+        MethodHandle methodHandle = MethodHandles.publicLookup().unreflect(subtract);
+        ParameterMetadata a = new ParameterMetadata("a", int.class, int.class, 0, false);
+        ParameterMetadata values = new ParameterMetadata("values", List.class,
+                subtract.getGenericParameterTypes()[1], 1, true);
+        MethodMetadata method = new MethodMetadata("subtract", methodHandle, Map.of("values", values, "a", a));
+
+        assertThat(a.scalarType()).isEqualTo(ScalarType.INT);
+        assertThat(values.javaType().getContentType().getRawClass()).isEqualTo(Integer.class);
+        assertThat(values.reader().<List<Integer>>readValue("[1,2]")).containsExactly(1, 2);
+        assertThat(method.positionalParams()).containsExactly(a, values);
+        assertThat(method.resultWriter()).isNull();
+        assertThat(method.invoke(new Calculator(), new Object[]{10, List.of(1, 2)})).isEqualTo(7);
+    }
+
+    public static class Calculator {
+
+        public int subtract(int a, List<Integer> values) {
+            return a - values.stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+}
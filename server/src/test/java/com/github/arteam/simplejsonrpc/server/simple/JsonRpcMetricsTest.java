@@ -0,0 +1,115 @@
+package com.github.arteam.simplejsonrpc.server.simple;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.github.arteam.simplejsonrpc.server.metrics.HistogramSnapshot;
+import com.github.arteam.simplejsonrpc.server.metrics.MethodMetrics;
+import com.github.arteam.simplejsonrpc.server.metrics.MetricsSnapshot;
+import com.github.arteam.simplejsonrpc.server.simple.service.TeamService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests metrics of the server
+ */
+public class JsonRpcMetricsTest {
+
+    private static final String FIND_PLAYER = "{\"jsonrpc\":\"2.0\",\"method\":\"findByInitials\"," +
+            "\"params\":{\"firstName\":\"Steven\",\"lastName\":\"Stamkos\"},\"id\":1}";
+    private static final String BAD_LOGIN = "{\"jsonrpc\":\"2.0\",\"method\":\"login\"," +
+            "\"params\":{\"login\":\"super\",\"password\":\"secret\"},\"id\":2}";
+    private static final String BAD_PARAMS = "{\"jsonrpc\":\"2.0\",\"method\":\"findByInitials\"," +
+            "\"params\":{\"firstName\":\"Steven\"},\"id\":3}";
+    private static final String UNKNOWN_METHOD = "{\"jsonrpc\":\"2.0\",\"method\":\"unknown\",\"id\":4}";
+
+    private final TeamService teamService = new TeamService();
+    private final JsonRpcServer rpcServer = JsonRpcServer.builder()
+            .mapper(new ObjectMapper().registerModule(new Jdk8Module()))
+            .metricsEnabled(true)
+            .build();
+
+    @Test
+    public void testMethodMetrics() {
+        rpcServer.handle(FIND_PLAYER, teamService);
+        rpcServer.handle(FIND_PLAYER, teamService);
+        rpcServer.handle(BAD_PARAMS, teamService);
+        rpcServer.handle(BAD_LOGIN, teamService);
+
+        Map<String, MethodMetrics> methods = rpcServer.metrics().methods();
+        MethodMetrics findByInitials = methods.get("findByInitials");
+        assertThat(findByInitials.invocations()).isEqualTo(2);
+        assertThat(findByInitials.latency().count()).isEqualTo(2);
+        assertThat(findByInitials.errors()).isEqualTo(Map.of(-32602, 1L));
+
+        MethodMetrics login = methods.get("login");
+        assertThat(login.invocations()).isEqualTo(1);
+        assertThat(login.errors()).isEqualTo(Map.of(-32032, 1L));
+    }
+
+    @Test
+    public void testRequestErrors() {
+        rpcServer.handle("{\"jsonrpc\":\"2.0\",", teamService);
+        rpcServer.handle("[]", teamService);
+        rpcServer.handle(UNKNOWN_METHOD, teamService);
+        rpcServer.handle(BAD_PARAMS, teamService);
+
+        MetricsSnapshot metrics = rpcServer.metrics();
+        assertThat(metrics.errors()).isEqualTo(Map.of(-32700, 1L, -32600, 1L, -32601, 1L, -32602, 1L));
+        assertThat(metrics.methods()).containsOnlyKeys("findByInitials");
+    }
+
+    @Test
+    public void testBatchAndPayloadSizes() {
+        rpcServer.handle("[" + FIND_PLAYER + "," + BAD_LOGIN + "," + UNKNOWN_METHOD + "]", teamService);
+        rpcServer.handleAsync(FIND_PLAYER, teamService).join();
+
+        MetricsSnapshot metrics = rpcServer.metrics();
+        assertThat(metrics.batchSizes().count()).isEqualTo(1);
+        assertThat(metrics.batchSizes().max()).isEqualTo(3);
+        assertThat(metrics.payloadSizes().count()).isEqualTo(2);
+        assertThat(metrics.payloadSizes().max())
+                .isEqualTo(FIND_PLAYER.length() + BAD_LOGIN.length() + UNKNOWN_METHOD.length() + 4);
+        assertThat(metrics.methods().get("findByInitials").invocations()).isEqualTo(2);
+    }
+
+    @Test
+    public void testDisabledMetrics() {
+        JsonRpcServer server = new JsonRpcServer();
+        server.handle(FIND_PLAYER, teamService);
+
+        MetricsSnapshot metrics = server.metrics();
+        assertThat(metrics.methods()).isEmpty();
+        assertThat(metrics.payloadSizes().count()).isZero();
+    }
+
+    @Test
+    public void testHistogramBuckets() {
+        long previousUpperBound = -1;
+        for (int i = 0; i < HistogramSnapshot.BUCKETS; i++) {
+            long upperBound = HistogramSnapshot.bucketUpperBound(i);
+            assertThat(upperBound).isGreaterThan(previousUpperBound);
+            assertThat(HistogramSnapshot.bucketIndex(upperBound)).isEqualTo(i);
+            assertThat(HistogramSnapshot.bucketIndex(previousUpperBound + 1)).isEqualTo(i);
+            previousUpperBound = upperBound;
+        }
+        assertThat(HistogramSnapshot.bucketIndex(Long.MAX_VALUE)).isEqualTo(HistogramSnapshot.BUCKETS - 1);
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        long[] buckets = new long[HistogramSnapshot.BUCKETS];
+        for (long value = 1; value <= 1000; value++) {
+            buckets[HistogramSnapshot.bucketIndex(value)]++;
+        }
+        HistogramSnapshot histogram = new HistogramSnapshot(1000, 500500, 1000, buckets);
+
+        assertThat(histogram.mean()).isEqualTo(500.5);
+        assertThat(histogram.percentile(50)).isBetween(500L, 563L);
+        assertThat(histogram.percentile(99)).isBetween(990L, 1000L);
+        assertThat(histogram.percentile(100)).isEqualTo(1000);
+    }
+}
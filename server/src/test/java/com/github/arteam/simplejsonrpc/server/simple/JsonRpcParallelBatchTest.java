@@ -0,0 +1,93 @@
+package com.github.arteam.simplejsonrpc.server.simple;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.github.arteam.simplejsonrpc.server.BatchResponseOrder;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.github.arteam.simplejsonrpc.server.simple.service.TeamService;
+import com.github.arteam.simplejsonrpc.server.simple.util.RequestResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests processing of batch requests in parallel
+ */
+public class JsonRpcParallelBatchTest {
+
+    private static final ObjectMapper userMapper = new ObjectMapper()
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .registerModule(new Jdk8Module());
+    private static final TeamService teamService = new TeamService();
+
+    private static ExecutorService executor;
+    private static Map<String, RequestResponse> testData;
+
+    @BeforeAll
+    public static void init() throws Exception {
+        executor = Executors.newFixedThreadPool(4);
+        try (var is = requireNonNull(JsonRpcParallelBatchTest.class.getResourceAsStream("/test_data.json"))) {
+            testData = userMapper.readValue(is.readAllBytes(), new TypeReference<>() {
+            });
+        }
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testBatchInRequestOrder() throws Exception {
+        JsonRpcServer rpcServer = JsonRpcServer.builder()
+                .mapper(userMapper)
+                .batchExecutor(executor)
+                .parallelBatchThreshold(1)
+                .build();
+        RequestResponse requestResponse = testData.get("batch");
+
+        String actual = rpcServer.handle(userMapper.writeValueAsString(requestResponse.request()), teamService);
+        assertThat(userMapper.readTree(actual)).isEqualTo(requestResponse.response());
+    }
+
+    @Test
+    public void testBatchInCompletionOrder() throws Exception {
+        JsonRpcServer rpcServer = JsonRpcServer.builder()
+                .mapper(userMapper)
+                .batchExecutor(executor)
+                .parallelBatchThreshold(1)
+                .batchResponseOrder(BatchResponseOrder.COMPLETION)
+                .build();
+        RequestResponse requestResponse = testData.get("batchWithNotification");
+
+        String actual = rpcServer.handle(userMapper.writeValueAsString(requestResponse.request()), teamService);
+        assertThat(userMapper.readTree(actual))
+                .containsExactlyInAnyOrderElementsOf(requestResponse.response());
+    }
+
+    @Test
+    public void testSmallBatchIsProcessedInline() throws Exception {
+        JsonRpcServer rpcServer = JsonRpcServer.builder()
+                .mapper(userMapper)
+                .batchExecutor(command -> {
+                    throw new AssertionError("Small batch should be processed in the caller thread");
+                })
+                .parallelBatchThreshold(100)
+                .build();
+        RequestResponse requestResponse = testData.get("batch");
+
+        String actual = rpcServer.handle(userMapper.writeValueAsString(requestResponse.request()), teamService);
+        JsonNode response = userMapper.readTree(actual);
+        assertThat(response).isEqualTo(requestResponse.response());
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.arteam.simplejsonrpc.server.simple;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.github.arteam.simplejsonrpc.server.metrics.PhaseTimings;
+import com.github.arteam.simplejsonrpc.server.simple.service.TeamService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests timings of the request processing phases
+ */
+public class JsonRpcPhaseTimingsTest {
+
+    private static final ObjectMapper userMapper = new ObjectMapper().registerModule(new Jdk8Module());
+    private static final String FIND_PLAYER = "{\"jsonrpc\":\"2.0\",\"method\":\"findByInitials\"," +
+            "\"params\":{\"firstName\":\"Steven\",\"lastName\":\"Stamkos\"},\"id\":1}";
+    private static final String BAD_PARAMS = "{\"jsonrpc\":\"2.0\",\"method\":\"findByInitials\"," +
+            "\"params\":{\"firstName\":\"Steven\"},\"id\":2}";
+    private static final String NOTIFICATION = "{\"jsonrpc\":\"2.0\",\"method\":\"findByInitials\"," +
+            "\"params\":{\"firstName\":\"Steven\",\"lastName\":\"Stamkos\"}}";
+    private static final String UNKNOWN_METHOD = "{\"jsonrpc\":\"2.0\",\"method\":\"unknown\",\"id\":3}";
+
+    private final TeamService teamService = new TeamService();
+    private final List<PhaseTimings> timings = new CopyOnWriteArrayList<>();
+    private final JsonRpcServer rpcServer = JsonRpcServer.builder()
+            .mapper(userMapper)
+            .phaseListener(timings::add)
+            .build();
+
+    @Test
+    public void testSingleRequest() throws Exception {
+        String response = rpcServer.handle(FIND_PLAYER, teamService);
+
+        assertThat(userMapper.readTree(response).get("result").get("lastName").asText()).isEqualTo("Stamkos");
+        assertThat(timings).hasSize(1);
+        PhaseTimings phases = timings.get(0);
+        assertThat(phases.method()).isEqualTo("findByInitials");
+        assertThat(phases.parseNanos()).isPositive();
+        assertThat(phases.bindNanos()).isPositive();
+        assertThat(phases.invokeNanos()).isPositive();
+        assertThat(phases.serializeNanos()).isPositive();
+        assertThat(phases.totalNanos()).isEqualTo(phases.parseNanos() + phases.bindNanos() +
+                phases.invokeNanos() + phases.serializeNanos());
+    }
+
+    @Test
+    public void testBatch() {
+        rpcServer.handle("[" + FIND_PLAYER + "," + NOTIFICATION + "," + UNKNOWN_METHOD + "," + BAD_PARAMS + "]",
+                teamService);
+
+        assertThat(timings).hasSize(3);
+        assertThat(timings).extracting(PhaseTimings::method).containsOnly("findByInitials");
+        assertThat(timings.get(0).serializeNanos()).isPositive();
+        // Notifications don't have a response
+        assertThat(timings.get(1).serializeNanos()).isZero();
+        // Bad params aren't invoked
+        assertThat(timings.get(2).invokeNanos()).isZero();
+        assertThat(timings.get(2).bindNanos()).isPositive();
+    }
+
+    @Test
+    public void testAsync() {
+        rpcServer.handleAsync(FIND_PLAYER, teamService).join();
+
+        assertThat(timings).hasSize(1);
+        assertThat(timings.get(0).invokeNanos()).isPositive();
+        assertThat(timings.get(0).serializeNanos()).isPositive();
+    }
+
+    @Test
+    public void testNotSampled() {
+        JsonRpcServer server = JsonRpcServer.builder()
+                .mapper(userMapper)
+                .phaseListener(timings::add)
+                .phaseSamplingRate(0)
+                .build();
+        server.handle(FIND_PLAYER, teamService);
+
+        assertThat(timings).isEmpty();
+    }
+
+    @Test
+    public void testFailingListener() throws Exception {
+        JsonRpcServer server = JsonRpcServer.builder()
+                .mapper(userMapper)
+                .phaseListener(phases -> {
+                    throw new IllegalStateException("Listener failure");
+                })
+                .build();
+        String response = server.handle(FIND_PLAYER, teamService);
+
+        assertThat(userMapper.readTree(response).get("result").get("number").asInt()).isEqualTo(91);
+    }
+
+    @Test
+    public void testWrongSamplingRate() {
+        assertThatThrownBy(() -> JsonRpcServer.builder().phaseSamplingRate(1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.arteam.simplejsonrpc.server.simple;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.github.arteam.simplejsonrpc.core.domain.JsonRpcResult;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.github.arteam.simplejsonrpc.server.simple.service.TeamService;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+/**
+ * Tests service methods which return {@link com.github.arteam.simplejsonrpc.core.domain.JsonRpcResult}
+ */
+public class JsonRpcResultTest {
+
+    private static final ObjectMapper userMapper = new ObjectMapper().registerModule(new Jdk8Module());
+    private static final JsonRpcServer rpcServer = new JsonRpcServer(userMapper);
+    private static final TeamService teamService = new TeamService();
+
+    private static JsonNode handle(String method, String teamName, int number) throws Exception {
+        String request = "{\"jsonrpc\":\"2.0\",\"method\":\"" + method + "\"," +
+                "\"params\":{\"team\":\"" + teamName + "\",\"number\":" + number + "},\"id\":1}";
+        return userMapper.readTree(rpcServer.handle(request, teamService));
+    }
+
+    @Test
+    public void testOk() throws Exception {
+        JsonNode response = handle("findByNumber", "Tampa Bay Lightning", 77);
+
+        assertThat(response.has("error")).isFalse();
+        assertThat(response.get("result").get("lastName").asText()).isEqualTo("Hedman");
+        assertThat(response.get("id").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void testError() throws Exception {
+        JsonNode response = handle("findByNumber", "Tampa Bay Lightning", 7);
+
+        assertThat(response.has("result")).isFalse();
+        assertThat(response.get("error").get("code").asInt()).isEqualTo(-32011);
+        assertThat(response.get("error").get("message").asText()).isEqualTo("Player not found");
+        assertThat(response.get("error").has("data")).isFalse();
+    }
+
+    @Test
+    public void testErrorWithData() throws Exception {
+        JsonNode response = handle("findByNumber", "Tampa Bay Lightning", 100);
+
+        assertThat(response.get("error").get("code").asInt()).isEqualTo(-32010);
+        assertThat(response.get("error").get("data").get("number").asInt()).isEqualTo(100);
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        assertThat(handle("findByNumberAsync", "St. Louis Blues", 42).get("result").get("lastName").asText())
+                .isEqualTo("Backes");
+        assertThat(handle("findByNumberAsync", "St. Louis Blues", 43).get("error").get("code").asInt())
+                .isEqualTo(-32011);
+    }
+
+    @Test
+    public void testNotification() {
+        String request = "{\"jsonrpc\":\"2.0\",\"method\":\"findByNumber\"," +
+                "\"params\":{\"team\":\"St. Louis Blues\",\"number\":0}}";
+
+        assertThat(rpcServer.handle(request, teamService)).isEmpty();
+    }
+
+    @Test
+    public void testErrorWithoutMessage() {
+        assertThatNullPointerException().isThrownBy(() -> JsonRpcResult.error(-32010, null));
+        assertThatIllegalArgumentException().isThrownBy(() -> JsonRpcResult.error(-32010, ""));
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.arteam.simplejsonrpc.server.simple;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.github.arteam.simplejsonrpc.server.simple.service.BaseService;
+import com.github.arteam.simplejsonrpc.server.simple.service.TeamService;
+import com.github.arteam.simplejsonrpc.server.spec.CalculatorService;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests services registered in the server builder
+ */
+public class JsonRpcRouterTest {
+
+    private static final ObjectMapper userMapper = new ObjectMapper().registerModule(new Jdk8Module());
+    private static final JsonRpcServer rpcServer = JsonRpcServer.builder()
+            .mapper(userMapper)
+            .register("team", new TeamService())
+            .register("calc", new CalculatorService())
+            .build();
+
+    private static final String FIND_PLAYER = "{\"jsonrpc\":\"2.0\",\"method\":\"team.findByInitials\"," +
+            "\"params\":{\"firstName\":\"Steven\",\"lastName\":\"Stamkos\"},\"id\":1}";
+    private static final String SUBTRACT = "{\"jsonrpc\":\"2.0\",\"method\":\"calc.subtract\"," +
+            "\"params\":[42,23],\"id\":2}";
+
+    @Test
+    public void testNamespacedMethod() throws Exception {
+        JsonNode response = userMapper.readTree(rpcServer.handle(FIND_PLAYER));
+
+        assertThat(response.get("result").get("lastName").asText()).isEqualTo("Stamkos");
+        assertThat(response.get("id").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void testBatchAcrossServices() throws Exception {
+        byte[] batch = ("[" + FIND_PLAYER + "," + SUBTRACT + "]").getBytes(StandardCharsets.UTF_8);
+        JsonNode responses = userMapper.readTree(rpcServer.handle(batch));
+
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(0).get("result").get("number").asInt()).isEqualTo(91);
+        assertThat(responses.get(1).get("result").asLong()).isEqualTo(19);
+    }
+
+    @Test
+    public void testStream() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        rpcServer.handle(new ByteArrayInputStream(SUBTRACT.getBytes(StandardCharsets.UTF_8)), output);
+
+        assertThat(userMapper.readTree(output.toByteArray()).get("result").asLong()).isEqualTo(19);
+    }
+
+    @Test
+    public void testAsync() throws Exception {
+        JsonNode response = userMapper.readTree(rpcServer.handleAsync(FIND_PLAYER).get());
+
+        assertThat(response.get("result").get("firstName").asText()).isEqualTo("Steven");
+    }
+
+    @Test
+    public void testMethodWithoutNamespace() throws Exception {
+        String request = "{\"jsonrpc\":\"2.0\",\"method\":\"findByInitials\"," +
+                "\"params\":{\"firstName\":\"Steven\",\"lastName\":\"Stamkos\"},\"id\":3}";
+        JsonNode response = userMapper.readTree(rpcServer.handle(request));
+
+        assertThat(response.get("error").get("code").asInt()).isEqualTo(-32601);
+        assertThat(response.get("id").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    public void testUnknownNamespace() throws Exception {
+        String request = "{\"jsonrpc\":\"2.0\",\"method\":\"league.subtract\",\"params\":[42,23],\"id\":4}";
+        JsonNode response = userMapper.readTree(rpcServer.handle(request));
+
+        assertThat(response.get("error").get("code").asInt()).isEqualTo(-32601);
+    }
+
+    @Test
+    public void testServiceWithoutNamespace() throws Exception {
+        JsonRpcServer server = JsonRpcServer.builder()
+                .register(new CalculatorService())
+                .build();
+        String request = "{\"jsonrpc\":\"2.0\",\"method\":\"subtract\",\"params\":[42,23],\"id\":5}";
+
+        assertThat(userMapper.readTree(server.handle(request)).get("result").asLong()).isEqualTo(19);
+    }
+
+    @Test
+    public void testNotService() {
+        assertThatThrownBy(() -> JsonRpcServer.builder().register("base", new BaseService()).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testDuplicateNamespace() {
+        assertThatThrownBy(() -> JsonRpcServer.builder()
+                .register("team", new TeamService())
+                .register("team", new CalculatorService()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testNoRegisteredServices() {
+        assertThatThrownBy(() -> new JsonRpcServer().handle(SUBTRACT))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -10,6 +10,8 @@ import com.github.arteam.simplejsonrpc.server.simple.util.RequestResponse;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.Map;
 
 import static java.util.Objects.requireNonNull;
@@ -55,6 +57,36 @@ public class JsonRpcServiceTest {
         test("find_player");
     }
 
+    /**
+     * Tests params which precede the method name in the request
+     */
+    @Test
+    public void testFindPlayerWithParamsBeforeMethod() {
+        test("find_player_params_first");
+    }
+
+    /**
+     * Tests a request as a byte array
+     */
+    @Test
+    public void testFindPlayerAsBytes() throws Exception {
+        RequestResponse requestResponse = testData.get("find_player");
+        byte[] actual = rpcServer.handle(userMapper.writeValueAsBytes(requestResponse.request()), teamService);
+        assertThat(userMapper.readTree(actual)).isEqualTo(requestResponse.response());
+    }
+
+    /**
+     * Tests a batch request as a stream
+     */
+    @Test
+    public void testBatchAsStream() throws Exception {
+        RequestResponse requestResponse = testData.get("batch");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        rpcServer.handle(new ByteArrayInputStream(userMapper.writeValueAsBytes(requestResponse.request())),
+                outputStream, teamService);
+        assertThat(userMapper.readTree(outputStream.toByteArray())).isEqualTo(requestResponse.response());
+    }
+
     /**
      * Tests null as a result
      */
@@ -0,0 +1,146 @@
+package com.github.arteam.simplejsonrpc.server.simple;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
+import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import com.github.arteam.simplejsonrpc.server.JsonRpcServer;
+import com.github.arteam.simplejsonrpc.server.interceptor.Invocation;
+import com.github.arteam.simplejsonrpc.server.interceptor.JsonRpcInterceptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests processing of requests on virtual threads. On Java 21 it's run against the multi-release JAR.
+ */
+public class JsonRpcVirtualThreadsTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final SleepService sleepService = new SleepService();
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    public void testUnsupported() {
+        assertThatThrownBy(() -> JsonRpcServer.builder().virtualThreads(true))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testBatch() throws Exception {
+        JsonRpcServer rpcServer = server();
+        JsonNode responses = mapper.readTree(rpcServer.handle(sleepBatch(4, 10), sleepService));
+
+        assertThat(responses).hasSize(4);
+        assertThat(responses.get(3).get("result").asInt()).isEqualTo(3);
+        assertThat(threads).hasSize(4).allMatch(JsonRpcVirtualThreadsTest::isVirtual);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testAsync() throws Exception {
+        JsonRpcServer rpcServer = server();
+        String request = "{\"jsonrpc\":\"2.0\",\"method\":\"sleep\",\"params\":{\"id\":1,\"millis\":10},\"id\":1}";
+        JsonNode response = mapper.readTree(rpcServer.handleAsync(request, sleepService).get());
+
+        assertThat(response.get("result").asInt()).isEqualTo(1);
+        assertThat(threads).hasSize(1).allMatch(JsonRpcVirtualThreadsTest::isVirtual);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testCancelBatch() throws Exception {
+        JsonRpcServer rpcServer = server();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread caller = new Thread(() -> {
+            try {
+                rpcServer.handle(sleepBatch(2, 60_000), sleepService);
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        caller.start();
+        assertThat(sleepService.started.await(10, TimeUnit.SECONDS)).isTrue();
+        caller.interrupt();
+        caller.join(10_000);
+
+        assertThat(failure.get()).isInstanceOf(IllegalStateException.class);
+        assertThat(sleepService.interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testBatchExecutorConflict() {
+        assertThatThrownBy(() -> JsonRpcServer.builder()
+                .virtualThreads(true)
+                .batchExecutor(Executors.newCachedThreadPool())
+                .build())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private JsonRpcServer server() {
+        return JsonRpcServer.builder()
+                .virtualThreads(true)
+                .parallelBatchThreshold(2)
+                .interceptor(new JsonRpcInterceptor() {
+                    @Override
+                    public void beforeDispatch(Invocation invocation) {
+                        threads.add(Thread.currentThread());
+                    }
+                })
+                .build();
+    }
+
+    private static String sleepBatch(int size, long millis) {
+        StringBuilder batch = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                batch.append(',');
+            }
+            batch.append("{\"jsonrpc\":\"2.0\",\"method\":\"sleep\",\"params\":{\"id\":").append(i)
+                    .append(",\"millis\":").append(millis).append("},\"id\":").append(i).append('}');
+        }
+        return batch.append(']').toString();
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @JsonRpcService
+    public static class SleepService {
+
+        private final CountDownLatch started = new CountDownLatch(2);
+        private final CountDownLatch interrupted = new CountDownLatch(2);
+
+        @JsonRpcMethod
+        public int sleep(@JsonRpcParam("id") int id, @JsonRpcParam("millis") long millis) {
+            started.countDown();
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return id;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcMethod;
 import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcOptional;
 import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcParam;
 import com.github.arteam.simplejsonrpc.core.annotation.JsonRpcService;
+import com.github.arteam.simplejsonrpc.core.domain.JsonRpcResult;
 import com.github.arteam.simplejsonrpc.server.simple.domain.Player;
 import com.github.arteam.simplejsonrpc.server.simple.domain.Position;
 import com.github.arteam.simplejsonrpc.server.simple.domain.Team;
@@ -24,6 +25,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -90,6 +93,37 @@ public class TeamService extends BaseService {
         }).collect(Collectors.toList());
     }
 
+    @JsonRpcMethod
+    public CompletableFuture<Player> findByInitialsAsync(@JsonRpcParam("firstName") final String firstName,
+                                                         @JsonRpcParam("lastName") final String lastName) {
+        return CompletableFuture.supplyAsync(() -> findByInitials(firstName, lastName));
+    }
+
+    @JsonRpcMethod
+    public CompletionStage<Long> loginAsync(@JsonRpcParam("login") String login,
+                                            @JsonRpcParam("password") String password) {
+        return CompletableFuture.supplyAsync(() -> login(login, password));
+    }
+
+    @JsonRpcMethod
+    public JsonRpcResult<Player> findByNumber(@JsonRpcParam("team") String teamName,
+                                              @JsonRpcParam("number") int number) {
+        if (number <= 0 || number > 99) {
+            return JsonRpcResult.error(-32010, "Invalid number", Map.of("number", number));
+        }
+        return players.stream()
+                .filter(player -> player.team().name().equals(teamName) && player.number() == number)
+                .findAny()
+                .map(JsonRpcResult::ok)
+                .orElseGet(() -> JsonRpcResult.error(-32011, "Player not found"));
+    }
+
+    @JsonRpcMethod
+    public CompletionStage<JsonRpcResult<Player>> findByNumberAsync(@JsonRpcParam("team") String teamName,
+                                                                    @JsonRpcParam("number") int number) {
+        return CompletableFuture.supplyAsync(() -> findByNumber(teamName, number));
+    }
+
     @JsonRpcMethod
     public List<Player> getPlayers() {
         return players;